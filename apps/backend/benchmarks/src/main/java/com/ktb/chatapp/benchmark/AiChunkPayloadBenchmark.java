@@ -0,0 +1,106 @@
+package com.ktb.chatapp.benchmark;
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.dto.AiMessageChunkResponse;
+import com.ktb.chatapp.websocket.socketio.SocketIOJsonSupport;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * AI 응답 1건(약 4k 토큰) 스트리밍 시 aiMessageChunk 페이로드 인코딩 비용과 전송 바이트 비교
+ * - fullContent: 청크마다 누적 전체 내용을 전송 (기존 방식, O(n²) 바이트)
+ * - delta: 청크마다 추가분만 전송하고 snapshotInterval마다 전체 내용 포함
+ * 방 인원 1명 기준 바이트 수는 main 실행 시 먼저 출력된다. (방 인원 N명이면 N배)
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.AiChunkPayloadBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiChunkPayloadBenchmark {
+
+    private static final int TOKENS = 4000;
+    private static final int SNAPSHOT_INTERVAL = 32;
+
+    private SocketIOJsonSupport jsonSupport;
+    private List<String> tokens;
+
+    @Setup
+    public void setUp() {
+        jsonSupport = new SocketIOJsonSupport(new JavaTimeModule());
+        tokens = tokens(TOKENS);
+    }
+
+    @Benchmark
+    public long fullContentPerChunk() {
+        return fullContentBytes(jsonSupport, tokens);
+    }
+
+    @Benchmark
+    public long deltaWithSnapshots() {
+        return deltaBytes(jsonSupport, tokens, SNAPSHOT_INTERVAL);
+    }
+
+    static long fullContentBytes(SocketIOJsonSupport jsonSupport, List<String> tokens) {
+        StringBuilder content = new StringBuilder();
+        long bytes = 0;
+        for (String token : tokens) {
+            content.append(token);
+            bytes += jsonSupport.encode(Map.of(
+                    "messageId", "wayneAI-1732000000000",
+                    "fullContent", content.toString(),
+                    "isCodeBlock", false,
+                    "isComplete", false
+            )).size();
+        }
+        return bytes;
+    }
+
+    static long deltaBytes(SocketIOJsonSupport jsonSupport, List<String> tokens, int snapshotInterval) {
+        StringBuilder content = new StringBuilder();
+        long bytes = 0;
+        long seq = 0;
+        for (String token : tokens) {
+            content.append(token);
+            seq++;
+            bytes += jsonSupport.encode(AiMessageChunkResponse.builder()
+                    .messageId("wayneAI-1732000000000")
+                    .seq(seq)
+                    .delta(token)
+                    .fullContent(seq % snapshotInterval == 0 ? content.toString() : null)
+                    .build()).size();
+        }
+        return bytes;
+    }
+
+    static List<String> tokens(int count) {
+        String[] words = {"안녕하세요", " 요청", "하신", " 내용", "을", " 정리", "하면", " 다음", "과", " 같습니다", ".", "\n"};
+        List<String> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tokens.add(words[i % words.length]);
+        }
+        return tokens;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        SocketIOJsonSupport jsonSupport = new SocketIOJsonSupport(new JavaTimeModule());
+        List<String> tokens = tokens(TOKENS);
+        System.out.printf("tokens=%d fullContent=%d bytes delta(snapshot=%d)=%d bytes%n",
+                TOKENS, fullContentBytes(jsonSupport, tokens),
+                SNAPSHOT_INTERVAL, deltaBytes(jsonSupport, tokens, SNAPSHOT_INTERVAL));
+        new Runner(new OptionsBuilder()
+                .include(AiChunkPayloadBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
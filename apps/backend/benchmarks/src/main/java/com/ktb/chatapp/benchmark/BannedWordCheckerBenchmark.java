@@ -0,0 +1,76 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.util.BannedWordChecker;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 메시지 1건의 금칙어 검사 비용 (운영과 같은 fake_banned_words_10k.txt 사전 사용)
+ * 금칙어가 없는 메시지는 끝까지 훑어야 하므로 최악의 경우에 해당한다.
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.BannedWordCheckerBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BannedWordCheckerBenchmark {
+
+    private static final String DICTIONARY = "fake_banned_words_10k.txt";
+
+    @Param({"short", "long", "banned"})
+    public String message;
+
+    private BannedWordChecker checker;
+    private String content;
+
+    @Setup
+    public void setUp() throws IOException {
+        Set<String> words = loadDictionary();
+        checker = new BannedWordChecker(words);
+        content = switch (message) {
+            case "short" -> "안녕하세요 오늘 회의는 3시입니다";
+            case "long" -> "배포 일정 공유드립니다. ".repeat(40) + "Please review the release notes before Friday.";
+            case "banned" -> "회의 자료 확인 부탁드립니다 " + words.iterator().next();
+            default -> throw new IllegalArgumentException(message);
+        };
+    }
+
+    @Benchmark
+    public boolean containsBannedWord() {
+        return checker.containsBannedWord(content);
+    }
+
+    private static Set<String> loadDictionary() throws IOException {
+        InputStream resource = BannedWordCheckerBenchmark.class.getClassLoader().getResourceAsStream(DICTIONARY);
+        if (resource == null) {
+            throw new IllegalStateException(DICTIONARY + " not found on classpath");
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BannedWordCheckerBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,137 @@
+package com.ktb.chatapp.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 저장된 기준 결과(JMH JSON)와 새 결과를 비교해 회귀 여부를 출력한다.
+ * 벤치마크+파라미터 조합별로 점수(primaryMetric)와 연산당 할당량(gc.alloc.rate.norm)을 비교하며,
+ * 어느 하나라도 threshold(%)보다 나빠지면 종료 코드 1로 끝난다.
+ * 점수는 측정 오차 범위(scoreError) 안의 변화는 회귀로 보지 않는다.
+ *
+ * 실행 (apps/backend): make bench-compare
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.BaselineComparator
+ *            benchmarks/baseline/jmh-result.json benchmarks/target/jmh-result.json [10]
+ */
+public final class BaselineComparator {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+    // 연산당 수 바이트 차이는 JIT/정렬 차이로도 생기므로 무시
+    private static final double ALLOC_NOISE_BYTES = 16;
+
+    record Result(String mode, double score, double error, String unit, Double allocNorm) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineComparator <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-90s %12.3f %-8s (new)%n", entry.getKey(), after.score(), after.unit());
+                continue;
+            }
+            boolean scoreRegressed = scoreRegressed(before, after, threshold);
+            boolean allocRegressed = allocRegressed(before, after, threshold);
+            if (scoreRegressed || allocRegressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %12.3f -> %12.3f %-8s (%+6.1f%%) alloc %s -> %s B/op %s%n",
+                    entry.getKey(), before.score(), after.score(), after.unit(),
+                    change(before.score(), after.score()) * 100,
+                    format(before.allocNorm()), format(after.allocNorm()),
+                    scoreRegressed || allocRegressed ? "REGRESSION" : "ok");
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("%-90s (missing from current run)%n", key);
+            }
+        }
+
+        System.out.printf("%d regression(s), threshold %.0f%%%n", regressions, threshold * 100);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    static boolean scoreRegressed(Result before, Result after, double threshold) {
+        if (!before.unit().equals(after.unit()) || before.score() == 0) {
+            return false;
+        }
+        double worse = before.higherIsBetter() ? before.score() - after.score() : after.score() - before.score();
+        return worse > before.score() * threshold && worse > before.error() + after.error();
+    }
+
+    static boolean allocRegressed(Result before, Result after, double threshold) {
+        if (before.allocNorm() == null || after.allocNorm() == null) {
+            return false;
+        }
+        double worse = after.allocNorm() - before.allocNorm();
+        return worse > ALLOC_NOISE_BYTES && worse > before.allocNorm() * threshold;
+    }
+
+    static Map<String, Result> read(Path path) throws IOException {
+        JsonNode runs = new ObjectMapper().readTree(Files.readAllBytes(path));
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : runs) {
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode alloc = run.path("secondaryMetrics").path(ALLOC_NORM);
+            results.put(key(run), new Result(
+                    run.path("mode").asText(),
+                    primary.path("score").asDouble(),
+                    finiteOrZero(primary.path("scoreError").asDouble()),
+                    primary.path("scoreUnit").asText(),
+                    alloc.isMissingNode() ? null : alloc.path("score").asDouble()));
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+        JsonNode params = run.path("params");
+        if (params.isObject()) {
+            Map<String, String> sorted = new TreeMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                sorted.put(param.getKey(), param.getValue().asText());
+            }
+            key.append(sorted);
+        }
+        return key.toString();
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before;
+    }
+
+    private static double finiteOrZero(double value) {
+        // 반복이 1회뿐이면 JMH가 오차를 NaN으로 기록한다
+        return Double.isFinite(value) ? value : 0;
+    }
+
+    private static String format(Double allocNorm) {
+        return allocNorm == null ? "-" : String.format("%.0f", allocNorm);
+    }
+}
@@ -0,0 +1,116 @@
+package com.ktb.chatapp.benchmark;
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.websocket.socketio.SocketIOJsonSupport;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 방 브로드캐스트 1회의 인코딩 비용 비교
+ * - perClient: 패킷 인코더가 클라이언트마다 페이로드를 Jackson으로 직렬화 (기존 방식)
+ * - encodeOnce: RoomBroadcaster처럼 한 번 인코딩한 페이로드를 클라이언트마다 바이트 복사
+ * 클라이언트별 프레임 버퍼는 PacketEncoder와 같이 풀링된 ByteBuf에 쓴다.
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.BroadcastEncodingBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadcastEncodingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int roomSize;
+
+    private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    private SocketIOJsonSupport jsonSupport;
+    private MessageResponse message;
+    private List<UserResponse> participants;
+
+    @Setup
+    public void setUp() {
+        jsonSupport = new SocketIOJsonSupport(new JavaTimeModule());
+        message = MessageResponse.builder()
+                .id("6744f0c2a1b2c3d4e5f60718")
+                .roomId("6744f0c2a1b2c3d4e5f60000")
+                .content("오늘 회의는 3시에 시작합니다. 자료는 공유 드라이브에 올려두었어요.")
+                .type(MessageType.text)
+                .sender(UserResponse.builder()
+                        .id("6744f0c2a1b2c3d4e5f6aaaa")
+                        .name("LoadTest User 1")
+                        .email("loadtest-1@test.com")
+                        .profileImage("")
+                        .build())
+                .timestamp(1_732_000_000_000L)
+                .reactions(Map.of("👍", Set.of("u1", "u2")))
+                .build();
+        participants = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            participants.add(UserResponse.builder()
+                    .id("6744f0c2a1b2c3d4e5f6" + String.format("%04d", i))
+                    .name("LoadTest User " + i)
+                    .email("loadtest-" + i + "@test.com")
+                    .profileImage("")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void messagePerClient(Blackhole bh) throws IOException {
+        broadcast("message", message, bh);
+    }
+
+    @Benchmark
+    public void messageEncodeOnce(Blackhole bh) throws IOException {
+        broadcast("message", jsonSupport.encode(message), bh);
+    }
+
+    @Benchmark
+    public void participantsPerClient(Blackhole bh) throws IOException {
+        broadcast("participantsUpdate", participants, bh);
+    }
+
+    @Benchmark
+    public void participantsEncodeOnce(Blackhole bh) throws IOException {
+        broadcast("participantsUpdate", jsonSupport.encode(participants), bh);
+    }
+
+    private void broadcast(String event, Object payload, Blackhole bh) throws IOException {
+        List<Object> values = List.of(event, payload);
+        for (int i = 0; i < roomSize; i++) {
+            ByteBuf out = allocator.ioBuffer();
+            try {
+                jsonSupport.writeValue(new ByteBufOutputStream(out), values);
+                bh.consume(out.readableBytes());
+            } finally {
+                out.release();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BroadcastEncodingBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.websocket.socketio.handler.ChatMessageMetrics;
+import com.ktb.chatapp.websocket.socketio.handler.ChatMessageMetrics.Outcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 메시지마다 Timer/Counter를 builder로 등록(조회)하던 방식과
+ * ChatMessageMetrics의 사전 등록 핸들 방식의 계측 오버헤드 비교
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.ChatMessageMetricsBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ChatMessageMetricsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean percentiles;
+
+    private MeterRegistry registry;
+    private ChatMessageMetrics metrics;
+
+    @Setup
+    public void setUp() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        metrics = new ChatMessageMetrics(registry, percentiles);
+    }
+
+    @Benchmark
+    public void builderPerMessage() {
+        long start = System.nanoTime();
+        Counter.builder("bench.messages.total")
+                .tag("status", "success")
+                .tag("message_type", "text")
+                .register(registry)
+                .increment();
+        Timer.builder("bench.messages.processing.time")
+                .tag("status", "success")
+                .tag("message_type", "text")
+                .register(registry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void preRegistered() {
+        metrics.record(Outcome.SUCCESS_TEXT, metrics.start());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ChatMessageMetricsBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.websocket.socketio.ai.ChunkData;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * AI 스트리밍 청크마다 수행하는 코드 블록(```) 상태 갱신 비용
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.ChunkDataBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkDataBenchmark {
+
+    @Param({"token", "fence", "merged"})
+    public String chunk;
+
+    private ChunkData data;
+    private AtomicBoolean codeBlockState;
+
+    @Setup
+    public void setUp() {
+        String text = switch (chunk) {
+            // 스트리밍 토큰 1개
+            case "token" -> " 배포는";
+            case "fence" -> "```java\n";
+            // 여러 토큰을 병합한 청크 (코드 블록 열고 닫기 포함)
+            case "merged" -> "예시는 다음과 같습니다.\n```java\nSystem.out.println(\"hello\");\n```\n그리고 ";
+            default -> throw new IllegalArgumentException(chunk);
+        };
+        data = ChunkData.from(text);
+        codeBlockState = new AtomicBoolean();
+    }
+
+    @Benchmark
+    public ChunkData updateCodeBlockState() {
+        return data.updateCodeBlockState(codeBlockState);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ChunkDataBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
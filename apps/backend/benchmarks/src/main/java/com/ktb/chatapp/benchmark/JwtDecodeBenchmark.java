@@ -0,0 +1,75 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.security.CachingJwtDecoder;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.*;
+
+/**
+ * 요청마다 JWT를 디코딩하는 방식과 CachingJwtDecoder 캐시 조회 방식 비교
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.JwtDecodeBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecodeBenchmark {
+
+    private static final String SECRET = "benchmarksecretbenchmarksecretbenchmarksecret1234";
+
+    private JwtDecoder nimbusDecoder;
+    private CachingJwtDecoder cachingDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SecretKeySpec key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefault());
+        nimbusDecoder = decoder;
+        cachingDecoder = new CachingJwtDecoder(decoder, 10_000);
+
+        JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject("bench@example.com")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .claim("sessionId", "bench-session")
+                .claim("userId", "bench-user")
+                .build();
+        token = encoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt decodePerCall() {
+        return nimbusDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cached() {
+        return cachingDecoder.decode(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtDecodeBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,209 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageBucket;
+import com.ktb.chatapp.service.MessageBucketStore;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+
+/**
+ * 메시지당 문서(document) 저장과 방별 버킷(bucket) 저장의 히스토리 페이지 조회 비교
+ * main 실행 시 레이아웃별 인덱스/데이터 크기와 페이지당 읽은 키/문서 수(read amplification)를 먼저 출력한다.
+ * Docker(Testcontainers)로 mongo:7.0을 띄워 측정한다.
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.MessageBucketLayoutBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageBucketLayoutBenchmark {
+
+    private static final int ROOMS = 10;
+    private static final int MESSAGES_PER_ROOM = 20_000;
+    private static final int BUCKET_SIZE = 100;
+    private static final int PAGE_SIZE = 30;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    // 0: 최신 페이지, 그 외: 해당 페이지 수만큼 과거로 스크롤한 위치
+    @Param({"0", "100"})
+    public int pageDepth;
+
+    private MongoDBContainer container;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private MessageBucketStore bucketStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        container = new MongoDBContainer("mongo:7.0");
+        container.start();
+        client = MongoClients.create(container.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(client, "bench");
+        bucketStore = new MessageBucketStore(mongoTemplate, new SimpleMeterRegistry(),
+                MessageBucketStore.MODE_BUCKET, BUCKET_SIZE, Duration.ofHours(1));
+        populate(mongoTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        container.stop();
+    }
+
+    @Benchmark
+    public List<Message> documentPage() {
+        String room = randomRoom();
+        return documentQuery(mongoTemplate, room, before(pageDepth));
+    }
+
+    @Benchmark
+    public MessageBucketStore.Page bucketPage() {
+        String room = randomRoom();
+        return bucketStore.loadPage(room, before(pageDepth), PAGE_SIZE);
+    }
+
+    private static List<Message> documentQuery(MongoTemplate mongoTemplate, String room, LocalDateTime before) {
+        // MessageLoader(document 모드)와 같은 조건/정렬, hasMore 판정을 위해 limit+1
+        Query query = Query.query(Criteria.where("room").is(room)
+                        .and("isDeleted").is(false)
+                        .and("timestamp").lt(before))
+                .with(Sort.by(Sort.Direction.DESC, "timestamp"))
+                .limit(PAGE_SIZE + 1);
+        return mongoTemplate.find(query, Message.class);
+    }
+
+    private static void populate(MongoTemplate mongoTemplate) {
+        ensureIndexes(mongoTemplate, Message.class);
+        ensureIndexes(mongoTemplate, MessageBucket.class);
+
+        for (int r = 0; r < ROOMS; r++) {
+            String room = room(r);
+            List<Message> batch = new ArrayList<>(BUCKET_SIZE);
+            for (int i = 0; i < MESSAGES_PER_ROOM; i++) {
+                batch.add(Message.builder()
+                        .id(new ObjectId().toHexString())
+                        .roomId(room)
+                        .senderId("user-" + (i % 50))
+                        .content("benchmark message " + i + " in " + room)
+                        .timestamp(BASE.plusSeconds(i))
+                        .build());
+                if (batch.size() == BUCKET_SIZE) {
+                    insert(mongoTemplate, room, batch);
+                    batch = new ArrayList<>(BUCKET_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                insert(mongoTemplate, room, batch);
+            }
+        }
+    }
+
+    /**
+     * 같은 메시지를 두 레이아웃에 모두 저장 (버킷은 append를 반복한 결과와 같은 모양으로 한 번에 삽입)
+     */
+    private static void insert(MongoTemplate mongoTemplate, String room, List<Message> batch) {
+        mongoTemplate.insert(batch, Message.class);
+        mongoTemplate.insert(MessageBucket.builder()
+                .roomId(room)
+                .start(batch.getFirst().getTimestamp())
+                .end(batch.getLast().getTimestamp())
+                .count(batch.size())
+                .messages(batch)
+                .build());
+    }
+
+    private static void ensureIndexes(MongoTemplate mongoTemplate, Class<?> type) {
+        // 애플리케이션의 auto-index-creation과 같은 인덱스 정의 사용
+        IndexOperations indexOps = mongoTemplate.indexOps(type);
+        IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(type)
+                .forEach(indexOps::createIndex);
+    }
+
+    private static String room(int index) {
+        return "room-" + index;
+    }
+
+    private static String randomRoom() {
+        return room(ThreadLocalRandom.current().nextInt(ROOMS));
+    }
+
+    private static LocalDateTime before(int pageDepth) {
+        return BASE.plusSeconds(MESSAGES_PER_ROOM - (long) pageDepth * PAGE_SIZE);
+    }
+
+    private static void printReadAmplification(MongoTemplate mongoTemplate, MessageBucketStore bucketStore) {
+        for (String collection : List.of("messages", "message_buckets")) {
+            Document stats = mongoTemplate.executeCommand(new Document("collStats", collection));
+            System.out.printf("%-16s docs=%d dataSize=%d bytes totalIndexSize=%d bytes%n",
+                    collection, stats.get("count", Number.class).longValue(),
+                    stats.get("size", Number.class).longValue(),
+                    stats.get("totalIndexSize", Number.class).longValue());
+        }
+
+        String room = room(0);
+        for (int depth : new int[] {0, 100}) {
+            LocalDateTime before = before(depth);
+            Document find = new Document("find", "messages")
+                    .append("filter", new Document("room", room)
+                            .append("isDeleted", false)
+                            .append("timestamp", new Document("$lt", toDate(before))))
+                    .append("sort", new Document("timestamp", -1))
+                    .append("limit", PAGE_SIZE + 1);
+            Document stats = mongoTemplate.executeCommand(
+                    new Document("explain", find).append("verbosity", "executionStats"))
+                    .get("executionStats", Document.class);
+            MessageBucketStore.Page page = bucketStore.loadPage(room, before, PAGE_SIZE);
+
+            System.out.printf("pageDepth=%d document: keysExamined=%d docsExamined=%d | bucket: bucketsRead=%d messagesDecoded<=%d%n",
+                    depth,
+                    stats.get("totalKeysExamined", Number.class).longValue(),
+                    stats.get("totalDocsExamined", Number.class).longValue(),
+                    page.bucketsRead(),
+                    page.bucketsRead() * BUCKET_SIZE);
+        }
+    }
+
+    private static Date toDate(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        MessageBucketLayoutBenchmark report = new MessageBucketLayoutBenchmark();
+        report.setUp();
+        try {
+            printReadAmplification(report.mongoTemplate, report.bucketStore);
+        } finally {
+            report.tearDown();
+        }
+        new Runner(new OptionsBuilder()
+                .include(MessageBucketLayoutBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
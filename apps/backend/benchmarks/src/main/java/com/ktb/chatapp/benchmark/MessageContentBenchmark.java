@@ -0,0 +1,57 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.dto.MessageContent;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 채팅 메시지마다 수행하는 AI 멘션 추출과 멘션 제거 쿼리 생성 비용
+ * 대부분의 메시지는 멘션이 없으므로 none 케이스가 실제 부하의 대부분을 차지한다.
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.MessageContentBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageContentBenchmark {
+
+    @Param({"none", "single", "both"})
+    public String mentions;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        content = switch (mentions) {
+            case "none" -> "오늘 배포 일정 공유드립니다. 리뷰 부탁드려요!";
+            case "single" -> "@wayneAI 오늘 배포 일정 정리해줄 수 있어?";
+            case "both" -> "@wayneAI @consultingAI 이번 스프린트 회고 내용을 요약해줘";
+            default -> throw new IllegalArgumentException(mentions);
+        };
+    }
+
+    @Benchmark
+    public List<String> aiMentions() {
+        return MessageContent.from(content).aiMentions();
+    }
+
+    @Benchmark
+    public String queryWithoutMention() {
+        return MessageContent.from(content).getQueryWithoutMention("wayneAI");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MessageContentBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
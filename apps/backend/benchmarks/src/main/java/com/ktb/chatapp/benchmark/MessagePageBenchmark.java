@@ -0,0 +1,138 @@
+package com.ktb.chatapp.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 이전 메시지 한 페이지 응답 생성 비용
+ * - mapPage: Message → MessageResponse 변환 (MessageResponseMapper, 발신자/파일은 미리 로드된 상태)
+ * - encodePage: FetchMessagesResponse의 Jackson JSON 직렬화 (REST 응답과 같은 ObjectMapper 기본 설정)
+ * - mapAndEncodePage: 위 두 단계를 합친 페이지 1건의 CPU 비용
+ * DB 조회는 포함하지 않는다.
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.MessagePageBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagePageBenchmark {
+
+    private static final int SENDERS = 20;
+
+    @Param({"30", "100"})
+    public int pageSize;
+
+    private MessageResponseMapper mapper;
+    private ObjectMapper objectMapper;
+    private List<Message> messages;
+    private Map<String, User> senders;
+    private Map<String, File> files;
+    private FetchMessagesResponse page;
+
+    @Setup
+    public void setUp() {
+        mapper = new MessageResponseMapper();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        senders = new HashMap<>();
+        files = new HashMap<>();
+        messages = new ArrayList<>(pageSize);
+        LocalDateTime base = LocalDateTime.of(2024, 11, 19, 9, 0);
+        for (int i = 0; i < pageSize; i++) {
+            String senderId = String.format("6744f0c2a1b2c3d4e5f6a%03d", i % SENDERS);
+            senders.computeIfAbsent(senderId, id -> User.builder()
+                    .id(id)
+                    .name("LoadTest User " + id.substring(id.length() - 3))
+                    .email("loadtest-" + id.substring(id.length() - 3) + "@test.com")
+                    .profileImage("")
+                    .build());
+            Message.MessageBuilder message = Message.builder()
+                    .id(String.format("6744f0c2a1b2c3d4e5f6%04d", i))
+                    .roomId("6744f0c2a1b2c3d4e5f60000")
+                    .senderId(senderId)
+                    .content("메시지 본문 " + i + " - 오늘 회의는 3시에 시작합니다. 자료는 공유 드라이브에 있습니다.")
+                    .type(MessageType.text)
+                    .timestamp(base.plusSeconds(i))
+                    .readers(readers(i, base));
+            if (i % 5 == 0) {
+                message.reactions(new HashMap<>(Map.of("👍", new HashSet<>(Set.of("u1", "u2")))));
+            }
+            if (i % 10 == 0) {
+                String fileId = String.format("6744f0c2a1b2c3d4e5f6f%03d", i);
+                message.type(MessageType.file).fileId(fileId);
+                files.put(fileId, File.builder()
+                        .id(fileId)
+                        .filename(fileId + ".png")
+                        .originalname("screenshot-" + i + ".png")
+                        .mimetype("image/png")
+                        .size(204_800)
+                        .user(senderId)
+                        .uploadDate(base.plusSeconds(i))
+                        .build());
+            }
+            messages.add(message.build());
+        }
+        page = mapPage();
+    }
+
+    @Benchmark
+    public FetchMessagesResponse mapPage() {
+        List<MessageResponse> responses = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            File file = message.getFileId() != null ? files.get(message.getFileId()) : null;
+            responses.add(mapper.mapToMessageResponse(message, senders.get(message.getSenderId()), file));
+        }
+        return FetchMessagesResponse.builder().messages(responses).hasMore(true).build();
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] mapAndEncodePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapPage());
+    }
+
+    private static List<Message.MessageReader> readers(int index, LocalDateTime base) {
+        List<Message.MessageReader> readers = new ArrayList<>();
+        for (int r = 0; r < index % 4; r++) {
+            readers.add(Message.MessageReader.builder()
+                    .userId(String.format("6744f0c2a1b2c3d4e5f6a%03d", r))
+                    .readAt(base.plusSeconds(index + r))
+                    .build());
+        }
+        return readers;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MessagePageBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,256 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.dto.MessageSearchRequest;
+import com.ktb.chatapp.dto.MessageSearchResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSearchEntry;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.service.MessageSearchService;
+import com.ktb.chatapp.util.KoreanNgramTokenizer;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.model.InsertManyOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+
+/**
+ * 역색인 검색(MessageSearchService)과 content 정규식 스캔 비교 (기본 1,000만 건)
+ * 메시지와 색인 문서를 같은 합성 데이터로 채운 뒤, 한 방/참여 중인 전체 방 검색 시간을 측정한다.
+ * main 실행 시 질의별 keysExamined/docsExamined를 먼저 출력한다.
+ * Docker(Testcontainers)로 mongo:7.0을 띄워 측정하며, 데이터 적재에 수십 분이 걸릴 수 있다.
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java [-Dsearch.bench.messages=10000000]
+ *            -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.MessageSearchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MessageSearchBenchmark {
+
+    private static final long MESSAGES = Long.getLong("search.bench.messages", 10_000_000L);
+    private static final int ROOMS = 2_000;
+    private static final int USER_ROOMS = 20;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String USER_ID = "bench-user";
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    // 자주 나오는 단어일수록 앞쪽 (Zipf 분포로 선택)
+    private static final String[] WORDS = {
+            "네", "오늘", "확인", "감사합니다", "회의", "내일", "배포", "일정", "점심", "공유",
+            "서버", "로그", "에러", "수정했어요", "리뷰", "부탁드립니다", "테스트", "완료", "문서", "정리",
+            "api", "db", "장애", "대응", "모니터링", "알림", "회고", "스프린트", "디자인", "기획",
+            "결제", "정산", "쿠폰", "이벤트", "캐시", "인덱스", "마이그레이션", "롤백", "핫픽스", "릴리즈"
+    };
+
+    @Param({"배포", "배포 일정", "마이그레이션 롤백"})
+    public String query;
+
+    private MongoDBContainer container;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private MessageSearchService searchService;
+    private List<String> userRooms;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        container = new MongoDBContainer("mongo:7.0");
+        container.start();
+        client = MongoClients.create(container.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(client, "bench");
+        searchService = new MessageSearchService(mongoTemplate, new SimpleMeterRegistry(), true, 256);
+        userRooms = populate(mongoTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        container.stop();
+    }
+
+    @Benchmark
+    public MessageSearchResponse indexSearchRoom() {
+        return searchService.search(new MessageSearchRequest(query, randomUserRoom(), null, PAGE_SIZE), USER_ID);
+    }
+
+    @Benchmark
+    public MessageSearchResponse indexSearchAllRooms() {
+        return searchService.search(new MessageSearchRequest(query, null, null, PAGE_SIZE), USER_ID);
+    }
+
+    @Benchmark
+    public List<Message> regexScanRoom() {
+        return mongoTemplate.find(regexQuery(randomUserRoom(), query), Message.class);
+    }
+
+    private static Query regexQuery(String room, String query) {
+        // 검색 기능이 없을 때의 대안: 방 인덱스로 좁힌 뒤 content를 단어별 정규식으로 확인
+        List<Criteria> words = new ArrayList<>();
+        for (String word : query.split("\\s+")) {
+            words.add(Criteria.where("content").regex(Pattern.quote(word)));
+        }
+        return Query.query(Criteria.where("room").is(room).and("isDeleted").is(false)
+                        .andOperator(words))
+                .with(Sort.by(Sort.Direction.DESC, "timestamp"))
+                .limit(PAGE_SIZE + 1);
+    }
+
+    private static List<String> populate(MongoTemplate mongoTemplate) {
+        ensureIndexes(mongoTemplate, Message.class);
+        ensureIndexes(mongoTemplate, MessageSearchEntry.class);
+
+        List<String> rooms = new ArrayList<>(ROOMS);
+        List<String> userRooms = new ArrayList<>(USER_ROOMS);
+        for (int r = 0; r < ROOMS; r++) {
+            Set<String> participants = new HashSet<>();
+            if (r % (ROOMS / USER_ROOMS) == 0) {
+                participants.add(USER_ID);
+            }
+            Room room = mongoTemplate.insert(Room.builder().name("bench-" + r).participantIds(participants).build());
+            rooms.add(room.getId());
+            if (!participants.isEmpty()) {
+                userRooms.add(room.getId());
+            }
+        }
+
+        Random random = new Random(42);
+        InsertManyOptions unordered = new InsertManyOptions().ordered(false);
+        List<Document> messages = new ArrayList<>(BATCH_SIZE);
+        List<Document> entries = new ArrayList<>(BATCH_SIZE);
+        for (long i = 0; i < MESSAGES; i++) {
+            ObjectId id = new ObjectId();
+            String room = rooms.get(random.nextInt(ROOMS));
+            String content = sentence(random);
+            Date timestamp = Date.from(BASE.plusSeconds(i / 10).atZone(ZoneId.systemDefault()).toInstant());
+
+            messages.add(new Document("_id", id)
+                    .append("room", room)
+                    .append("sender", "user-" + random.nextInt(500))
+                    .append("content", content)
+                    .append("type", "text")
+                    .append("timestamp", timestamp)
+                    .append("isDeleted", false));
+            // MessageSearchService.index와 같은 토큰/필드 구성
+            entries.add(new Document("_id", id)
+                    .append("room", room)
+                    .append("timestamp", timestamp)
+                    .append("terms", KoreanNgramTokenizer.tokenize(content, 256))
+                    .append("snippet", content));
+
+            if (messages.size() == BATCH_SIZE) {
+                mongoTemplate.getCollection("messages").insertMany(messages, unordered);
+                mongoTemplate.getCollection("message_search_index").insertMany(entries, unordered);
+                messages.clear();
+                entries.clear();
+                if ((i + 1) % 1_000_000 == 0) {
+                    System.out.printf("loaded %,d messages%n", i + 1);
+                }
+            }
+        }
+        if (!messages.isEmpty()) {
+            mongoTemplate.getCollection("messages").insertMany(messages, unordered);
+            mongoTemplate.getCollection("message_search_index").insertMany(entries, unordered);
+        }
+        return userRooms;
+    }
+
+    private static String sentence(Random random) {
+        int length = 3 + random.nextInt(8);
+        StringBuilder sentence = new StringBuilder();
+        for (int w = 0; w < length; w++) {
+            if (w > 0) {
+                sentence.append(' ');
+            }
+            // 근사 Zipf: 앞쪽 단어가 훨씬 자주 선택됨
+            int index = (int) Math.min(WORDS.length - 1, Math.floor(Math.pow(random.nextDouble(), 2.5) * WORDS.length));
+            sentence.append(WORDS[index]);
+        }
+        return sentence.toString();
+    }
+
+    private static void ensureIndexes(MongoTemplate mongoTemplate, Class<?> type) {
+        // 애플리케이션의 auto-index-creation과 같은 인덱스 정의 사용
+        IndexOperations indexOps = mongoTemplate.indexOps(type);
+        IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(type)
+                .forEach(indexOps::createIndex);
+    }
+
+    private String randomUserRoom() {
+        return userRooms.get(ThreadLocalRandom.current().nextInt(userRooms.size()));
+    }
+
+    private static void printExaminedCounts(MongoTemplate mongoTemplate, List<String> userRooms) {
+        String room = userRooms.getFirst();
+        for (String query : new String[] {"배포", "배포 일정", "마이그레이션 롤백"}) {
+            Document index = explain(mongoTemplate, new Document("find", "message_search_index")
+                    .append("filter", new Document("terms", new Document("$all", KoreanNgramTokenizer.tokenize(query, 16)))
+                            .append("room", room))
+                    .append("sort", new Document("timestamp", -1).append("_id", -1))
+                    .append("limit", PAGE_SIZE + 1));
+            Document regex = explain(mongoTemplate, new Document("find", "messages")
+                    .append("filter", regexQuery(room, query).getQueryObject())
+                    .append("sort", new Document("timestamp", -1))
+                    .append("limit", PAGE_SIZE + 1));
+
+            System.out.printf("query=%s index: keysExamined=%d docsExamined=%d | regex: keysExamined=%d docsExamined=%d%n",
+                    query,
+                    index.get("totalKeysExamined", Number.class).longValue(),
+                    index.get("totalDocsExamined", Number.class).longValue(),
+                    regex.get("totalKeysExamined", Number.class).longValue(),
+                    regex.get("totalDocsExamined", Number.class).longValue());
+        }
+        for (String collection : List.of("messages", "message_search_index")) {
+            Document stats = mongoTemplate.executeCommand(new Document("collStats", collection));
+            System.out.printf("%-20s docs=%d dataSize=%d bytes totalIndexSize=%d bytes%n",
+                    collection, stats.get("count", Number.class).longValue(),
+                    stats.get("size", Number.class).longValue(),
+                    stats.get("totalIndexSize", Number.class).longValue());
+        }
+    }
+
+    private static Document explain(MongoTemplate mongoTemplate, Document find) {
+        return mongoTemplate.executeCommand(new Document("explain", find).append("verbosity", "executionStats"))
+                .get("executionStats", Document.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        MessageSearchBenchmark report = new MessageSearchBenchmark();
+        report.setUp();
+        try {
+            printExaminedCounts(report.mongoTemplate, report.userRooms);
+        } finally {
+            report.tearDown();
+        }
+        new Runner(new OptionsBuilder()
+                .include(MessageSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
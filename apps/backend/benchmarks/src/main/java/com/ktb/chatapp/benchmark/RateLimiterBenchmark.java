@@ -0,0 +1,100 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.model.RateLimit;
+import com.ktb.chatapp.service.NOPRateLimitService;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import com.ktb.chatapp.service.RateLimitService;
+import com.ktb.chatapp.service.ratelimit.RateLimitStore;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * RateLimiter 구현별 요청당 검사 비용
+ * RateLimitService는 메모리 저장소로 감싸 저장소 I/O를 뺀 로직/할당 비용만 측정한다.
+ * (Mongo 왕복 비용은 RateLimitMongoStore 쪽이라 이 벤치마크 범위가 아님)
+ * - nop: app.rate-limit.enabled=false일 때의 NOPRateLimitService
+ * - allowed: 한도 안의 요청 (조회 후 카운트 증가·저장)
+ * - rejected: 이미 한도를 넘은 클라이언트의 요청
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.RateLimiterBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 1_000;
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private NOPRateLimitService nop;
+    private RateLimitService service;
+    private String[] allowedClients;
+    private String[] rejectedClients;
+
+    @Setup
+    public void setUp() {
+        nop = new NOPRateLimitService();
+        service = new RateLimitService(new InMemoryRateLimitStore());
+        allowedClients = new String[CLIENTS];
+        rejectedClients = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            allowedClients[i] = "allowed-" + i;
+            rejectedClients[i] = "rejected-" + i;
+            service.checkRateLimit(rejectedClients[i], 1, WINDOW);
+        }
+    }
+
+    @Benchmark
+    public RateLimitCheckResult nop() {
+        return nop.checkRateLimit(randomClient(allowedClients), 10_000, WINDOW);
+    }
+
+    @Benchmark
+    public RateLimitCheckResult allowed() {
+        return service.checkRateLimit(randomClient(allowedClients), Integer.MAX_VALUE, WINDOW);
+    }
+
+    @Benchmark
+    public RateLimitCheckResult rejected() {
+        return service.checkRateLimit(randomClient(rejectedClients), 1, WINDOW);
+    }
+
+    private static String randomClient(String[] clients) {
+        return clients[ThreadLocalRandom.current().nextInt(clients.length)];
+    }
+
+    static final class InMemoryRateLimitStore implements RateLimitStore {
+
+        private final ConcurrentHashMap<String, RateLimit> limits = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<RateLimit> findByClientId(String clientId) {
+            return Optional.ofNullable(limits.get(clientId));
+        }
+
+        @Override
+        public RateLimit save(RateLimit rateLimit) {
+            limits.put(rateLimit.getClientId(), rateLimit);
+            return rateLimit;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimiterBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.ktb.chatapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.websocket.socketio.MessagePackCodec;
+import com.ktb.chatapp.websocket.socketio.SocketIOJsonSupport;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 이전 메시지 한 페이지(FetchMessagesResponse)의 JSON / MessagePack 인코딩·디코딩 비용과 크기 비교
+ * 페이지 크기별 바이트 수는 main 실행 시 먼저 출력된다.
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.WireCodecBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireCodecBenchmark {
+
+    @Param({"30", "100"})
+    public int pageSize;
+
+    private SocketIOJsonSupport jsonSupport;
+    private ObjectMapper jsonMapper;
+    private MessagePackCodec messagePack;
+    private FetchMessagesResponse page;
+    private byte[] jsonBytes;
+    private byte[] msgpackBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonSupport = new SocketIOJsonSupport(new JavaTimeModule());
+        jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        messagePack = jsonSupport.messagePack();
+        page = historyPage(pageSize);
+        jsonBytes = jsonSupport.encode(page).toString().getBytes(StandardCharsets.UTF_8);
+        msgpackBytes = messagePack.encode(page);
+    }
+
+    @Benchmark
+    public Object jsonEncode() {
+        return jsonSupport.encode(page);
+    }
+
+    @Benchmark
+    public byte[] msgpackEncode() {
+        return messagePack.encode(page);
+    }
+
+    @Benchmark
+    public FetchMessagesResponse jsonDecode() throws IOException {
+        return jsonMapper.readValue(jsonBytes, FetchMessagesResponse.class);
+    }
+
+    @Benchmark
+    public FetchMessagesResponse msgpackDecode() {
+        return messagePack.decode(msgpackBytes, FetchMessagesResponse.class);
+    }
+
+    static FetchMessagesResponse historyPage(int size) {
+        List<MessageResponse> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(MessageResponse.builder()
+                    .id(String.format("6744f0c2a1b2c3d4e5f6%04d", i))
+                    .roomId("6744f0c2a1b2c3d4e5f60000")
+                    .content("메시지 본문 " + i + " - 오늘 회의는 3시에 시작합니다. 자료는 공유 드라이브에 있습니다.")
+                    .type(MessageType.text)
+                    .sender(UserResponse.builder()
+                            .id(String.format("6744f0c2a1b2c3d4e5f6a%03d", i % 20))
+                            .name("LoadTest User " + (i % 20))
+                            .email("loadtest-" + (i % 20) + "@test.com")
+                            .profileImage("")
+                            .build())
+                    .timestamp(1_732_000_000_000L + i * 1000L)
+                    .reactions(i % 5 == 0 ? Map.of("👍", Set.of("u1", "u2")) : Map.of())
+                    .metadata(Map.of())
+                    .build());
+        }
+        return FetchMessagesResponse.builder().messages(messages).hasMore(true).build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        SocketIOJsonSupport jsonSupport = new SocketIOJsonSupport(new JavaTimeModule());
+        for (int size : new int[] {30, 100}) {
+            FetchMessagesResponse page = historyPage(size);
+            System.out.printf("pageSize=%d json=%d bytes msgpack=%d bytes%n",
+                    size, jsonSupport.encode(page).size(), jsonSupport.messagePack().encode(page).length);
+        }
+        new Runner(new OptionsBuilder()
+                .include(WireCodecBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
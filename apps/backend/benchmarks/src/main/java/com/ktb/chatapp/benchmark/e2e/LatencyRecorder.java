@@ -0,0 +1,61 @@
+package com.ktb.chatapp.benchmark.e2e;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 종류별 지연 시간 기록 (나노초 원본을 모두 보관하고 보고 시 정렬해 백분위를 계산)
+ * 부하 1회 실행의 수백만 건 정도는 메모리에 그대로 담을 수 있어 근사 히스토그램을 쓰지 않는다.
+ */
+final class LatencyRecorder {
+
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+
+        synchronized void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    record Summary(String type, int count, double p50, double p90, double p99, double max) {
+    }
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String type, long nanos) {
+        samples.computeIfAbsent(type, key -> new Samples()).add(nanos);
+    }
+
+    Summary summary(String type) {
+        Samples recorded = samples.get(type);
+        long[] values = recorded != null ? recorded.snapshot() : new long[0];
+        if (values.length == 0) {
+            return new Summary(type, 0, 0, 0, 0, 0);
+        }
+        Arrays.sort(values);
+        return new Summary(type, values.length,
+                millis(percentile(values, 0.50)),
+                millis(percentile(values, 0.90)),
+                millis(percentile(values, 0.99)),
+                millis(values[values.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,259 @@
+package com.ktb.chatapp.benchmark.e2e;
+
+import io.socket.client.IO;
+import io.socket.client.Socket;
+import io.socket.engineio.client.transports.WebSocket;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 부하 하네스의 가상 사용자 1명 (Socket.IO 연결 1개, 방 1개)
+ * 보낸 시각(System.nanoTime)을 메시지 본문에 실어 보내므로, 같은 JVM 안의 모든 수신자가
+ * 별도 상관관계 저장소 없이 전송 → 브로드캐스트 수신 지연을 계산할 수 있다.
+ * 시각은 한글 숫자로 적어 영문/숫자 금칙어 사전에 우연히 걸리지 않게 한다.
+ */
+final class LoadClient {
+
+    static final String CHAT = "chatMessage";
+    static final String CHAT_FANOUT = "chatMessage.fanout";
+    static final String READ = "markMessagesAsRead";
+    static final String REACTION = "messageReaction";
+
+    private static final String PREFIX = "부하 테스트 메시지 ";
+    private static final String DIGITS = "영일이삼사오육칠팔구";
+    private static final String REACTION_EMOJI = "👍";
+    private static final int RECENT_MESSAGES = 20;
+    private static final int READ_BATCH = 5;
+    private static final long EPOCH = System.nanoTime();
+
+    private final String userId;
+    private final String roomId;
+    private final String token;
+    private final String sessionId;
+    private final LatencyRecorder recorder;
+    private final Map<String, LongAdder> counters;
+    private final AtomicBoolean measuring;
+
+    private final ArrayDeque<String> recentMessageIds = new ArrayDeque<>();
+    private final Map<String, Long> pendingReads = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingReactions = new ConcurrentHashMap<>();
+    private final Set<String> reacted = ConcurrentHashMap.newKeySet();
+    private final CompletableFuture<Void> connected = new CompletableFuture<>();
+    private final CompletableFuture<Void> joined = new CompletableFuture<>();
+    private Socket socket;
+    private long joinSentAt;
+    private long ticks;
+
+    LoadClient(String userId, String roomId, String token, String sessionId,
+               LatencyRecorder recorder, Map<String, LongAdder> counters, AtomicBoolean measuring) {
+        this.userId = userId;
+        this.roomId = roomId;
+        this.token = token;
+        this.sessionId = sessionId;
+        this.recorder = recorder;
+        this.counters = counters;
+        this.measuring = measuring;
+    }
+
+    CompletableFuture<Void> connect(String url) {
+        IO.Options options = IO.Options.builder()
+                .setForceNew(true)
+                .setReconnection(false)
+                .setTransports(new String[] {WebSocket.NAME})
+                .setAuth(Map.of("token", token, "sessionId", sessionId))
+                .build();
+        socket = IO.socket(URI.create(url), options);
+
+        long startedAt = System.nanoTime();
+        socket.on(Socket.EVENT_CONNECT, args -> {
+            recorder.record("connect", System.nanoTime() - startedAt);
+            connected.complete(null);
+        });
+        socket.on(Socket.EVENT_CONNECT_ERROR, args ->
+                connected.completeExceptionally(new IllegalStateException("connect failed: " + first(args))));
+        socket.on(JOIN_ROOM_SUCCESS, args -> {
+            recorder.record("joinRoom", System.nanoTime() - joinSentAt);
+            joined.complete(null);
+        });
+        socket.on(JOIN_ROOM_ERROR, args ->
+                joined.completeExceptionally(new IllegalStateException("join failed: " + first(args))));
+        socket.on(MESSAGE, args -> onMessage((JSONObject) args[0]));
+        socket.on(MESSAGES_READ, args -> onMessagesRead((JSONObject) args[0]));
+        socket.on(MESSAGE_REACTION_UPDATE, args -> onReactionUpdate((JSONObject) args[0]));
+        socket.on(ERROR, args -> count("error." + errorCode(args)));
+        socket.connect();
+        return connected;
+    }
+
+    CompletableFuture<Void> join() {
+        joinSentAt = System.nanoTime();
+        socket.emit(JOIN_ROOM, roomId);
+        return joined;
+    }
+
+    /**
+     * 매 주기 채팅 1건, readEvery 주기마다 읽음 처리, reactEvery 주기마다 리액션 토글
+     */
+    void tick(int readEvery, int reactEvery) {
+        long tick = ++ticks;
+        sendChat();
+        if (readEvery > 0 && tick % readEvery == 0) {
+            markRead();
+        }
+        if (reactEvery > 0 && tick % reactEvery == 0) {
+            react();
+        }
+    }
+
+    void close() {
+        if (socket != null) {
+            socket.close();
+        }
+    }
+
+    private void sendChat() {
+        socket.emit(CHAT_MESSAGE, new JSONObject()
+                .put("room", roomId)
+                .put("type", "text")
+                .put("content", PREFIX + encode(System.nanoTime() - EPOCH)));
+        count("sent." + CHAT);
+    }
+
+    private void markRead() {
+        List<String> ids = recentMessages(READ_BATCH);
+        if (ids.isEmpty()) {
+            return;
+        }
+        pendingReads.put(ids.getFirst(), System.nanoTime());
+        socket.emit(MARK_MESSAGES_AS_READ, new JSONObject().put("messageIds", new JSONArray(ids)));
+        count("sent." + READ);
+    }
+
+    private void react() {
+        List<String> ids = recentMessages(1);
+        if (ids.isEmpty()) {
+            return;
+        }
+        String messageId = ids.getFirst();
+        boolean add = reacted.add(messageId);
+        if (!add) {
+            reacted.remove(messageId);
+        }
+        pendingReactions.put(messageId, System.nanoTime());
+        socket.emit(MESSAGE_REACTION, new JSONObject()
+                .put("messageId", messageId)
+                .put("reaction", REACTION_EMOJI)
+                .put("type", add ? "add" : "remove"));
+        count("sent." + REACTION);
+    }
+
+    private void onMessage(JSONObject message) {
+        long now = System.nanoTime();
+        String id = message.optString("id", null);
+        if (id != null) {
+            synchronized (recentMessageIds) {
+                recentMessageIds.addFirst(id);
+                if (recentMessageIds.size() > RECENT_MESSAGES) {
+                    recentMessageIds.removeLast();
+                }
+            }
+        }
+        String content = message.optString("content", "");
+        if (!content.startsWith(PREFIX) || !measuring.get()) {
+            return;
+        }
+        long latency = now - EPOCH - decode(content.substring(PREFIX.length()));
+        JSONObject sender = message.optJSONObject("sender");
+        if (sender != null && userId.equals(sender.optString("id"))) {
+            recorder.record(CHAT, latency);
+            count("received." + CHAT);
+        } else {
+            recorder.record(CHAT_FANOUT, latency);
+        }
+    }
+
+    private void onMessagesRead(JSONObject read) {
+        JSONArray ids = read.optJSONArray("messageIds");
+        if (!userId.equals(read.optString("userId")) || ids == null || ids.isEmpty()) {
+            return;
+        }
+        Long sentAt = pendingReads.remove(ids.optString(0));
+        if (sentAt != null && measuring.get()) {
+            recorder.record(READ, System.nanoTime() - sentAt);
+            count("received." + READ);
+        }
+    }
+
+    private void onReactionUpdate(JSONObject update) {
+        String messageId = update.optString("messageId");
+        JSONObject reactions = update.optJSONObject("reactions");
+        JSONArray users = reactions != null ? reactions.optJSONArray(REACTION_EMOJI) : null;
+        boolean mine = users != null && users.toList().contains(userId);
+        // 다른 사용자가 같은 메시지에 남긴 리액션 갱신은 내 요청의 응답이 아님
+        if (mine != reacted.contains(messageId)) {
+            return;
+        }
+        Long sentAt = pendingReactions.remove(messageId);
+        if (sentAt != null && measuring.get()) {
+            recorder.record(REACTION, System.nanoTime() - sentAt);
+            count("received." + REACTION);
+        }
+    }
+
+    private List<String> recentMessages(int limit) {
+        synchronized (recentMessageIds) {
+            List<String> ids = new ArrayList<>(Math.min(limit, recentMessageIds.size()));
+            for (String id : recentMessageIds) {
+                if (ids.size() == limit) {
+                    break;
+                }
+                ids.add(id);
+            }
+            return ids;
+        }
+    }
+
+    private void count(String name) {
+        counters.computeIfAbsent(name, key -> new LongAdder()).increment();
+    }
+
+    private static String errorCode(Object[] args) {
+        if (args.length > 0 && args[0] instanceof JSONObject error) {
+            return error.optString("code", error.optString("message", "unknown"));
+        }
+        return "unknown";
+    }
+
+    private static Object first(Object[] args) {
+        return args.length > 0 ? args[0] : null;
+    }
+
+    static String encode(long value) {
+        String decimal = Long.toString(value);
+        StringBuilder encoded = new StringBuilder(decimal.length());
+        for (int i = 0; i < decimal.length(); i++) {
+            encoded.append(DIGITS.charAt(decimal.charAt(i) - '0'));
+        }
+        return encoded.toString();
+    }
+
+    static long decode(String encoded) {
+        long value = 0;
+        for (int i = 0; i < encoded.length(); i++) {
+            value = value * 10 + DIGITS.indexOf(encoded.charAt(i));
+        }
+        return value;
+    }
+}
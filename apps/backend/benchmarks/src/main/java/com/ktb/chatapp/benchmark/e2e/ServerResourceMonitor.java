@@ -0,0 +1,103 @@
+package com.ktb.chatapp.benchmark.e2e;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 측정 구간 동안 서버 스레드가 사용한 CPU 시간과 할당량 집계
+ * 클라이언트와 서버가 같은 JVM에 있으므로 스레드 이름으로 부하 발생기 쪽 스레드를 제외한다.
+ * 구간 중간에 종료된 스레드의 사용량은 빠지므로 실제보다 약간 작게 나올 수 있다.
+ * GC 횟수/시간은 JVM 전체 값이다.
+ */
+final class ServerResourceMonitor {
+
+    // Socket.IO 클라이언트(OkHttp, EventThread), JDK HttpClient, Testcontainers, 하네스 자체 스레드
+    private static final List<String> CLIENT_THREAD_PREFIXES = List.of(
+            "OkHttp", "EventThread", "HttpClient-", "e2e-", "testcontainers", "docker-java", "ducttape");
+
+    record Usage(double cpuSeconds, long allocatedBytes, long gcCount, long gcMillis, double elapsedSeconds) {
+
+        double cpuUtilization() {
+            return elapsedSeconds > 0
+                    ? cpuSeconds / (elapsedSeconds * Runtime.getRuntime().availableProcessors())
+                    : 0;
+        }
+    }
+
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Map<Long, long[]> start = Map.of();
+    private long startGcCount;
+    private long startGcMillis;
+    private long startNanos;
+
+    ServerResourceMonitor() {
+        threads.setThreadCpuTimeEnabled(true);
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    void begin() {
+        start = serverThreadUsage();
+        startGcCount = gcCount();
+        startGcMillis = gcMillis();
+        startNanos = System.nanoTime();
+    }
+
+    Usage end() {
+        long elapsed = System.nanoTime() - startNanos;
+        long cpuNanos = 0;
+        long allocated = 0;
+        for (Map.Entry<Long, long[]> entry : serverThreadUsage().entrySet()) {
+            long[] before = start.getOrDefault(entry.getKey(), new long[2]);
+            cpuNanos += Math.max(0, entry.getValue()[0] - before[0]);
+            allocated += Math.max(0, entry.getValue()[1] - before[1]);
+        }
+        return new Usage(cpuNanos / 1e9, allocated, gcCount() - startGcCount, gcMillis() - startGcMillis,
+                elapsed / 1e9);
+    }
+
+    private Map<Long, long[]> serverThreadUsage() {
+        long[] ids = threads.getAllThreadIds();
+        long[] cpu = threads.getThreadCpuTime(ids);
+        long[] allocated = threads.getThreadAllocatedBytes(ids);
+        Map<Long, long[]> usage = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            ThreadInfo info = threads.getThreadInfo(ids[i]);
+            if (info == null || cpu[i] < 0 || isClientThread(info.getThreadName())) {
+                continue;
+            }
+            usage.put(ids[i], new long[] {cpu[i], allocated[i]});
+        }
+        return usage;
+    }
+
+    private static boolean isClientThread(String name) {
+        for (String prefix : CLIENT_THREAD_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+}
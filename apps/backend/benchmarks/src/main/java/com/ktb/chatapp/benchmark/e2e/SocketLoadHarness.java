@@ -0,0 +1,312 @@
+package com.ktb.chatapp.benchmark.e2e;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.ChatAppApplication;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import io.socket.client.IO;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.containers.MongoDBContainer;
+
+/**
+ * 한 JVM 안에서 서버와 수천 개의 Socket.IO 클라이언트를 함께 띄우는 E2E 처리량 하네스
+ * Node 기반 loadtest/artillery 없이 한 장비에서 서버 쪽 회귀를 재현하기 위한 용도다.
+ *
+ * 1. Testcontainers로 mongo:7.0을 띄우고 애플리케이션을 임의 포트로 기동
+ * 2. 사용자/방을 저장소로 직접 생성 (회원가입의 BCrypt 비용은 측정 대상이 아님)
+ * 3. REST 로그인 → Socket.IO 연결 → joinRoom
+ * 4. warmup 후 duration 동안 사용자마다 주기적으로 채팅, 읽음 처리, 리액션 전송
+ * 5. 이벤트 종류별 전송 → 브로드캐스트 수신 지연(p50/p90/p99)과 서버 스레드 CPU/할당량 출력
+ *
+ * 클라이언트 콜백은 socket.io-client의 단일 EventThread에서 처리되므로 수신 쪽이 포화되면
+ * 그 대기 시간도 지연에 포함된다. 결과 비교는 같은 장비, 같은 설정끼리만 한다.
+ *
+ * 실행 (apps/backend): make bench-jar
+ *       java [-De2e.clients=2000] [-De2e.room-size=20] [-De2e.duration=60s] [-De2e.message-interval=2s]
+ *            -cp benchmarks/target/benchmarks.jar com.ktb.chatapp.benchmark.e2e.SocketLoadHarness
+ */
+public final class SocketLoadHarness {
+
+    private static final String PASSWORD = "LoadTest123!";
+    private static final String EMAIL_FORMAT = "e2e-loadtest-%d@test.com";
+
+    private final int clients = Integer.getInteger("e2e.clients", 2000);
+    private final int roomSize = Integer.getInteger("e2e.room-size", 20);
+    private final Duration warmup = duration("e2e.warmup", "15s");
+    private final Duration window = duration("e2e.duration", "60s");
+    private final Duration messageInterval = duration("e2e.message-interval", "2s");
+    private final int readEvery = Integer.getInteger("e2e.read-every", 3);
+    private final int reactEvery = Integer.getInteger("e2e.react-every", 5);
+    private final int setupConcurrency = Integer.getInteger("e2e.setup-concurrency", 64);
+    private final String mongoImage = System.getProperty("e2e.mongo-image", "mongo:7.0");
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final AtomicBoolean measuring = new AtomicBoolean();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SocketLoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new SocketLoadHarness().run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        int httpPort = freePort();
+        int socketPort = freePort();
+
+        try (MongoDBContainer mongo = new MongoDBContainer(mongoImage)) {
+            mongo.start();
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ChatAppApplication.class)
+                    .run(
+                            "--spring.data.mongodb.uri=" + mongo.getReplicaSetUrl("e2e-loadtest"),
+                            "--spring.data.redis.host=localhost",
+                            "--spring.data.redis.port=6379",
+                            "--app.jwt.secret=e2e-loadtest-jwt-secret-0123456789abcdef0123456789abcdef",
+                            "--server.port=" + httpPort,
+                            "--socketio.server.host=127.0.0.1",
+                            "--socketio.server.port=" + socketPort,
+                            "--app.rate-limit.enabled=false",
+                            "--logging.level.root=WARN",
+                            "--logging.level.com.ktb=WARN");
+            List<LoadClient> loadClients = List.of();
+            try {
+                List<Seed> seeds = seed(context);
+                loadClients = login(seeds, "http://127.0.0.1:" + httpPort);
+                connectAndJoin(loadClients, "http://127.0.0.1:" + socketPort);
+                drive(loadClients);
+            } finally {
+                loadClients.forEach(LoadClient::close);
+                context.close();
+            }
+        }
+    }
+
+    private record Seed(String userId, String email, String roomId) {
+    }
+
+    private List<Seed> seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        RoomRepository roomRepository = context.getBean(RoomRepository.class);
+        // 모든 사용자가 같은 비밀번호이므로 해시는 한 번만 계산
+        String password = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        List<User> users = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            users.add(User.builder()
+                    .name("LoadTest User " + i)
+                    .email(EMAIL_FORMAT.formatted(i))
+                    .password(password)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        int roomCount = (clients + roomSize - 1) / roomSize;
+        List<Room> rooms = new ArrayList<>(roomCount);
+        for (int r = 0; r < roomCount; r++) {
+            rooms.add(Room.builder()
+                    .name("E2E Load Room " + r)
+                    .creator(users.get(r * roomSize).getId())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        rooms = roomRepository.saveAll(rooms);
+
+        List<Seed> seeds = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            seeds.add(new Seed(users.get(i).getId(), users.get(i).getEmail(), rooms.get(i / roomSize).getId()));
+        }
+        System.out.printf("seeded %d users, %d rooms%n", clients, roomCount);
+        return seeds;
+    }
+
+    private List<LoadClient> login(List<Seed> seeds, String baseUrl) throws Exception {
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        List<LoadClient> loadClients = inParallel(seeds, seed -> {
+            JsonNode body = loginWithRetry(http, baseUrl, seed.email());
+            return new LoadClient(seed.userId(), seed.roomId(),
+                    body.path("token").asText(), body.path("sessionId").asText(),
+                    recorder, counters, measuring);
+        });
+        System.out.printf("logged in %d users%n", loadClients.size());
+        return loadClients;
+    }
+
+    private JsonNode loginWithRetry(HttpClient http, String baseUrl, String email) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                        Map.of("email", email, "password", PASSWORD))))
+                .build();
+        while (true) {
+            long startedAt = System.nanoTime();
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 503) {
+                // 비밀번호 해시 실행기 포화 - 잠시 후 재시도
+                count("retry.login");
+                Thread.sleep(100 + ThreadLocalRandom.current().nextInt(100));
+                continue;
+            }
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("login failed for " + email + ": " + response.statusCode());
+            }
+            recorder.record("login", System.nanoTime() - startedAt);
+            return objectMapper.readTree(response.body());
+        }
+    }
+
+    private void connectAndJoin(List<LoadClient> loadClients, String socketUrl) throws Exception {
+        // 수천 개 WebSocket이 OkHttp 기본 제한(호스트당 5개)에 막히지 않도록 공유 클라이언트 사용
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Integer.MAX_VALUE);
+        dispatcher.setMaxRequestsPerHost(Integer.MAX_VALUE);
+        OkHttpClient okHttp = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .readTimeout(0, TimeUnit.MILLISECONDS)
+                .build();
+        IO.setDefaultOkHttpWebSocketFactory(okHttp);
+        IO.setDefaultOkHttpCallFactory(okHttp);
+
+        inParallel(loadClients, client -> client.connect(socketUrl).get(30, TimeUnit.SECONDS));
+        System.out.printf("connected %d sockets%n", loadClients.size());
+        inParallel(loadClients, client -> client.join().get(30, TimeUnit.SECONDS));
+        System.out.printf("joined %d rooms%n", (loadClients.size() + roomSize - 1) / roomSize);
+    }
+
+    private void drive(List<LoadClient> loadClients) throws InterruptedException {
+        ScheduledExecutorService driver = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors() / 2),
+                Thread.ofPlatform().name("e2e-driver-", 0).daemon(true).factory());
+        long period = messageInterval.toMillis();
+        for (LoadClient client : loadClients) {
+            // 전송 시각을 주기 안에 고르게 흩어 동시 폭주를 피함
+            driver.scheduleAtFixedRate(() -> tickSafely(client), ThreadLocalRandom.current().nextLong(period),
+                    period, TimeUnit.MILLISECONDS);
+        }
+
+        System.out.printf("warming up for %s%n", warmup);
+        Thread.sleep(warmup.toMillis());
+        ServerResourceMonitor monitor = new ServerResourceMonitor();
+        counters.clear();
+        monitor.begin();
+        measuring.set(true);
+        System.out.printf("measuring for %s%n", window);
+        Thread.sleep(window.toMillis());
+        measuring.set(false);
+        ServerResourceMonitor.Usage usage = monitor.end();
+        driver.shutdownNow();
+
+        report(usage);
+    }
+
+    private void tickSafely(LoadClient client) {
+        try {
+            client.tick(readEvery, reactEvery);
+        } catch (Exception e) {
+            count("error.client");
+        }
+    }
+
+    private void report(ServerResourceMonitor.Usage usage) {
+        System.out.printf("%n=== Socket.IO E2E (clients=%d, roomSize=%d, interval=%s, window=%s) ===%n",
+                clients, roomSize, messageInterval, window);
+        System.out.printf("%-22s %10s %10s %10s %10s %10s%n", "event", "count", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        for (String type : List.of("login", "connect", "joinRoom",
+                LoadClient.CHAT, LoadClient.CHAT_FANOUT, LoadClient.READ, LoadClient.REACTION)) {
+            LatencyRecorder.Summary summary = recorder.summary(type);
+            System.out.printf("%-22s %10d %10.2f %10.2f %10.2f %10.2f%n", summary.type(), summary.count(),
+                    summary.p50(), summary.p90(), summary.p99(), summary.max());
+        }
+
+        System.out.println();
+        Map<String, Long> sorted = new TreeMap<>();
+        counters.forEach((name, count) -> sorted.put(name, count.sum()));
+        sorted.forEach((name, count) -> System.out.printf("%-40s %,d%n", name, count));
+
+        long messages = sorted.getOrDefault("sent." + LoadClient.CHAT, 0L);
+        System.out.printf("%nthroughput: %.1f chat messages/s%n", messages / usage.elapsedSeconds());
+        System.out.printf("server cpu: %.1fs (%.1f%% of %d cores)%n", usage.cpuSeconds(),
+                usage.cpuUtilization() * 100, Runtime.getRuntime().availableProcessors());
+        System.out.printf("server alloc: %,d MB (%,d KB per chat message)%n", usage.allocatedBytes() >> 20,
+                messages > 0 ? (usage.allocatedBytes() / messages) >> 10 : 0);
+        System.out.printf("gc (jvm): %d collections, %,d ms%n", usage.gcCount(), usage.gcMillis());
+    }
+
+    private void count(String name) {
+        counters.computeIfAbsent(name, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 항목마다 action을 setupConcurrency개까지 동시에 실행하고 결과를 입력 순서대로 반환
+     */
+    private <T, R> List<R> inParallel(List<T> items, ThrowingFunction<T, R> action) throws Exception {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Semaphore permits = new Semaphore(setupConcurrency);
+        try {
+            List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        return action.apply(item);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+            return futures.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingFunction<T, R> {
+        R apply(T item) throws Exception;
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
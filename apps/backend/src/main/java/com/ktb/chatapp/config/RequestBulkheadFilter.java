@@ -0,0 +1,172 @@
+package com.ktb.chatapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.ApiErrorCode;
+import com.ktb.chatapp.dto.StandardResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * REST 요청 동시 처리 수 제한 필터
+ * 가상 스레드 모드에서는 Tomcat 스레드 수가 더 이상 동시성을 제한하지 않으므로,
+ * Mongo 커넥션 풀(MongoConfig maxSize)보다 적은 수의 요청만 동시에 처리하도록 세마포어로 막는다.
+ * 허용 수를 넘는 요청은 acquire-timeout 동안 대기하고, 그래도 자리가 없으면 503으로 거절한다.
+ * 비동기 응답(CompletableFuture 등)은 필터 체인이 반환된 뒤가 아니라 비동기 처리가 끝날 때 허용을 반납한다.
+ * 파일 다운로드/보기는 전송 시간 동안 허용을 오래 잡고 있으므로 제한 대상에서 제외한다.
+ * max-concurrent-requests가 0이면 비활성화된다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestBulkheadFilter extends OncePerRequestFilter {
+
+    private static final String[] EXCLUDED_PATH_PREFIXES = {
+            "/actuator",
+            "/api/files/download/",
+            "/api/files/view/"
+    };
+
+    private final Semaphore permits;
+    private final int maxConcurrentRequests;
+    private final long acquireTimeoutMs;
+    private final ObjectMapper objectMapper;
+    private final Counter rejectedCounter;
+
+    public RequestBulkheadFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.rest.max-concurrent-requests:0}") int maxConcurrentRequests,
+            @Value("${app.rest.acquire-timeout-ms:500}") long acquireTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests) : null;
+
+        this.rejectedCounter = Counter.builder("http.bulkhead.rejected")
+                .description("REST requests rejected because no bulkhead permit was available")
+                .register(meterRegistry);
+        if (permits != null) {
+            Gauge.builder("http.bulkhead.in_flight", permits,
+                            p -> maxConcurrentRequests - p.availablePermits())
+                    .description("REST requests currently holding a bulkhead permit")
+                    .register(meterRegistry);
+            Gauge.builder("http.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                    .description("REST requests waiting for a bulkhead permit")
+                    .register(meterRegistry);
+            log.info("REST bulkhead enabled - maxConcurrentRequests: {}, acquireTimeoutMs: {}",
+                    maxConcurrentRequests, acquireTimeoutMs);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (permits == null) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        for (String prefix : EXCLUDED_PATH_PREFIXES) {
+            if (uri.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            log.warn("REST bulkhead full - rejecting {} {} (max: {}, waiting: {})",
+                    request.getMethod(), request.getRequestURI(),
+                    maxConcurrentRequests, permits.getQueueLength());
+            writeServiceUnavailableResponse(response);
+            return;
+        }
+
+        PermitRelease release = new PermitRelease();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(release);
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    /**
+     * 비동기 처리 종료(완료/오류/타임아웃) 시 허용을 한 번만 반납
+     */
+    private class PermitRelease implements AsyncListener, Runnable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 비동기 처리가 다시 시작되면 리스너가 해제되므로 다시 등록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private void writeServiceUnavailableResponse(HttpServletResponse response) throws IOException {
+        var errorCode = ApiErrorCode.SERVICE_UNAVAILABLE;
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        objectMapper.writeValue(response.getWriter(),
+                StandardResponse.error(errorCode, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+}
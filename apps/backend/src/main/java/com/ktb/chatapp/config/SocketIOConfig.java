@@ -5,11 +5,12 @@ import com.corundumstudio.socketio.SocketConfig;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.SpringAnnotationScanner;
 import com.corundumstudio.socketio.namespace.Namespace;
-import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
 import com.corundumstudio.socketio.store.MemoryStoreFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ktb.chatapp.websocket.socketio.ChatDataStore;
 import com.ktb.chatapp.websocket.socketio.LocalChatDataStore;
+import com.ktb.chatapp.websocket.socketio.SocketIOJsonSupport;
+import com.ktb.chatapp.websocket.socketio.backpressure.SlowConsumerGuard;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.BeanPostProcessor;
@@ -33,7 +34,8 @@ public class SocketIOConfig {
     private Integer port;
 
     @Bean(initMethod = "start", destroyMethod = "stop")
-    public SocketIOServer socketIOServer(AuthTokenListener authTokenListener) {
+    public SocketIOServer socketIOServer(AuthTokenListener authTokenListener, SocketIOJsonSupport jsonSupport,
+                                         SlowConsumerGuard slowConsumerGuard) {
         com.corundumstudio.socketio.Configuration config = new com.corundumstudio.socketio.Configuration();
         config.setHostname(host);
         config.setPort(port);
@@ -53,17 +55,29 @@ public class SocketIOConfig {
         config.setPingInterval(25000);
         config.setUpgradeTimeout(10000);
 
-        config.setJsonSupport(new JacksonJsonSupport(new JavaTimeModule()));
+        config.setJsonSupport(jsonSupport);
         config.setStoreFactory(new MemoryStoreFactory()); // 단일노드 전용
 
         log.info("Socket.IO server configured on {}:{} with {} boss threads and {} worker threads",
                  host, port, config.getBossThreads(), config.getWorkerThreads());
         var socketIOServer = new SocketIOServer(config);
+        if (slowConsumerGuard.isEnabled()) {
+            // 연결마다 write buffer water mark를 걸고 쓰기 가능 상태를 추적
+            socketIOServer.setPipelineFactory(slowConsumerGuard.channelInitializer());
+        }
         socketIOServer.getNamespace(Namespace.DEFAULT_NAME).addAuthTokenListener(authTokenListener);
         
         return socketIOServer;
     }
     
+    /**
+     * 패킷 인코더와 RoomBroadcaster가 같은 ObjectMapper 설정을 공유하도록 Bean으로 등록
+     */
+    @Bean
+    public SocketIOJsonSupport socketIOJsonSupport() {
+        return new SocketIOJsonSupport(new JavaTimeModule());
+    }
+
     /**
      * SpringAnnotationScanner는 BeanPostProcessor로서
      * ApplicationContext 초기화 초기에 등록되고,
@@ -2,9 +2,11 @@ package com.ktb.chatapp.controller;
 
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.event.SessionEndedEvent;
+import com.ktb.chatapp.exception.PasswordHashingRejectedException;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.JwtService;
+import com.ktb.chatapp.service.PasswordHashingService;
 import com.ktb.chatapp.service.SessionCreationResult;
 import com.ktb.chatapp.service.SessionMetadata;
 import com.ktb.chatapp.service.SessionService;
@@ -22,18 +24,16 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
@@ -44,9 +44,8 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/auth")
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
     private final SessionService sessionService;
     private final ApplicationEventPublisher eventPublisher;
@@ -79,56 +78,53 @@ public class AuthController {
             content = @Content(schema = @Schema(implementation = StandardResponse.class),
                 examples = @ExampleObject(value = "{\"success\":false,\"message\":\"이미 등록된 이메일입니다.\"}"))),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "503", description = "회원가입 요청 과다 - 잠시 후 재시도",
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @SecurityRequirement(name = "")
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(
+    public CompletableFuture<ResponseEntity<?>> registerUser(
             @Valid @RequestBody RegisterRequest registerRequest,
             BindingResult bindingResult,
             HttpServletRequest request) {
 
         // Handle validation errors
         ResponseEntity<?> errors = getBindingError(bindingResult);
-        if (errors != null) return errors;
+        if (errors != null) return CompletableFuture.completedFuture(errors);
         
-        // Check existing user
-        if (userRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(StandardResponse.error("이미 등록된 이메일입니다."));
-        }
-
         try {
-            // Create user
-            User user = User.builder()
-                    .name(registerRequest.getName())
-                    .email(registerRequest.getEmail().toLowerCase())
-                    .password(passwordEncoder.encode(registerRequest.getPassword()))
-                    .build();
-
-            user = userRepository.save(user);
-
-            LoginResponse response = LoginResponse.builder()
-                    .success(true)
-                    .message("회원가입이 완료되었습니다.")
-                    .user(new AuthUserDto(user.getId(), user.getName(), user.getEmail(), user.getProfileImage()))
-                    .build();
-
-            return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(response);
-
-        } catch (org.springframework.dao.DuplicateKeyException e) {
-            log.error("Register error: ", e);
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(StandardResponse.error("이미 등록된 이메일입니다."));
-        } catch (IllegalArgumentException e) {
-            log.error("Register error: ", e);
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(StandardResponse.error(e.getMessage()));
+            // Check existing user
+            if (userRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(StandardResponse.error("이미 등록된 이메일입니다.")));
+            }
+
+            // BCrypt 해시는 전용 실행기에서 수행하고 요청 스레드는 즉시 반환 (사용자 저장은 후속 전용 실행기에서)
+            return passwordHashingService.encode(registerRequest.getPassword())
+                    .<ResponseEntity<?>>thenApplyAsync(encodedPassword -> {
+                        // Create user
+                        User user = User.builder()
+                                .name(registerRequest.getName())
+                                .email(registerRequest.getEmail().toLowerCase())
+                                .password(encodedPassword)
+                                .build();
+
+                        user = userRepository.save(user);
+
+                        LoginResponse response = LoginResponse.builder()
+                                .success(true)
+                                .message("회원가입이 완료되었습니다.")
+                                .user(new AuthUserDto(user.getId(), user.getName(), user.getEmail(), user.getProfileImage()))
+                                .build();
+
+                        return ResponseEntity.status(HttpStatus.CREATED)
+                                .body(response);
+                    }, passwordHashingService.continuationExecutor())
+                    .exceptionally(e -> handleRegisterError(unwrap(e)));
+
         } catch (Exception e) {
-            log.error("Register error: ", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(StandardResponse.error("회원가입 처리 중 오류가 발생했습니다."));
+            return CompletableFuture.completedFuture(handleRegisterError(e));
         }
     }
     
@@ -142,72 +138,114 @@ public class AuthController {
             content = @Content(schema = @Schema(implementation = StandardResponse.class),
                 examples = @ExampleObject(value = "{\"success\":false,\"message\":\"이메일 또는 비밀번호가 올바르지 않습니다.\"}"))),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "503", description = "로그인 요청 과다 - 잠시 후 재시도",
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @SecurityRequirement(name = "")
     @PostMapping("/login")
-    public ResponseEntity<?> login(
+    public CompletableFuture<ResponseEntity<?>> login(
             @Valid @RequestBody LoginRequest loginRequest,
             BindingResult bindingResult,
             HttpServletRequest request) {
 
         // Handle validation errors
         ResponseEntity<?> errors = getBindingError(bindingResult);
-        if (errors != null) return errors;
+        if (errors != null) return CompletableFuture.completedFuture(errors);
         
         try {
-            // Authenticate user
-            User user = userRepository.findByEmail(loginRequest.getEmail().toLowerCase())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            user.getEmail(),
-                            loginRequest.getPassword()
-                    )
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            
-            // 단일 세션 정책을 위해 기존 세션 제거
-            sessionService.removeAllUserSessions(user.getId());
-
-            // Create new session
+            // 비동기 처리 이후에는 request 객체가 재사용될 수 있으므로 미리 값을 추출
             SessionMetadata metadata = new SessionMetadata(
                     request.getHeader("User-Agent"),
                     getClientIpAddress(request),
                     request.getHeader("User-Agent")
             );
 
-            SessionCreationResult sessionInfo =
-                    sessionService.createSession(user.getId(), metadata);
+            Optional<User> userOpt = userRepository.findByEmail(loginRequest.getEmail().toLowerCase());
+            if (userOpt.isEmpty()) {
+                return CompletableFuture.completedFuture(invalidCredentials());
+            }
+            User user = userOpt.get();
 
-            // Generate JWT token
-            String token = jwtService.generateToken(
-                sessionInfo.getSessionId(),
-                user.getEmail(),
-                user.getId()
-            );
+            // BCrypt 비교는 전용 실행기에서 수행하고 요청 스레드는 즉시 반환 (세션 생성은 후속 전용 실행기에서)
+            return passwordHashingService.matches(loginRequest.getPassword(), user.getPassword())
+                    .<ResponseEntity<?>>thenApplyAsync(matched -> matched
+                            ? createLoginResponse(user, metadata)
+                            : invalidCredentials(), passwordHashingService.continuationExecutor())
+                    .exceptionally(e -> handleLoginError(unwrap(e)));
 
-            LoginResponse response = LoginResponse.builder()
-                    .success(true)
-                    .token(token)
-                    .sessionId(sessionInfo.getSessionId())
-                    .user(new AuthUserDto(user.getId(), user.getName(), user.getEmail(), user.getProfileImage()))
-                    .build();
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(handleLoginError(e));
+        }
+    }
 
-            return ResponseEntity.ok()
-                    .header("Authorization", "Bearer " + token)
-                    .header("x-session-id", sessionInfo.getSessionId())
-                    .body(response);
+    private ResponseEntity<?> createLoginResponse(User user, SessionMetadata metadata) {
+        // 단일 세션 정책을 위해 기존 세션 제거
+        sessionService.removeAllUserSessions(user.getId());
+
+        // Create new session
+        SessionCreationResult sessionInfo =
+                sessionService.createSession(user.getId(), metadata);
+
+        // Generate JWT token
+        String token = jwtService.generateToken(
+            sessionInfo.getSessionId(),
+            user.getEmail(),
+            user.getId()
+        );
+
+        LoginResponse response = LoginResponse.builder()
+                .success(true)
+                .token(token)
+                .sessionId(sessionInfo.getSessionId())
+                .user(new AuthUserDto(user.getId(), user.getName(), user.getEmail(), user.getProfileImage()))
+                .build();
+
+        return ResponseEntity.ok()
+                .header("Authorization", "Bearer " + token)
+                .header("x-session-id", sessionInfo.getSessionId())
+                .body(response);
+    }
 
-        } catch (UsernameNotFoundException | BadCredentialsException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(StandardResponse.error("이메일 또는 비밀번호가 올바르지 않습니다."));
-        } catch (Exception e) {
-            log.error("Login error: ", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(StandardResponse.error("로그인 처리 중 오류가 발생했습니다."));
+    private ResponseEntity<?> invalidCredentials() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(StandardResponse.error("이메일 또는 비밀번호가 올바르지 않습니다."));
+    }
+
+    private ResponseEntity<?> handleRegisterError(Throwable e) {
+        if (e instanceof PasswordHashingRejectedException rejected) {
+            return serviceUnavailable(rejected);
         }
+        log.error("Register error: ", e);
+        if (e instanceof org.springframework.dao.DuplicateKeyException) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(StandardResponse.error("이미 등록된 이메일입니다."));
+        }
+        if (e instanceof IllegalArgumentException) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(StandardResponse.error(e.getMessage()));
+        }
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(StandardResponse.error("회원가입 처리 중 오류가 발생했습니다."));
+    }
+
+    private ResponseEntity<?> handleLoginError(Throwable e) {
+        if (e instanceof PasswordHashingRejectedException rejected) {
+            return serviceUnavailable(rejected);
+        }
+        log.error("Login error: ", e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(StandardResponse.error("로그인 처리 중 오류가 발생했습니다."));
+    }
+
+    private ResponseEntity<?> serviceUnavailable(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(StandardResponse.error(ApiErrorCode.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
     
     @Operation(summary = "로그아웃", description = "현재 세션을 종료합니다. x-session-id 헤더가 필요합니다.")
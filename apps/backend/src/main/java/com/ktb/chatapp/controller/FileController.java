@@ -4,8 +4,9 @@ import com.ktb.chatapp.dto.RemoteFileRequest;
 import com.ktb.chatapp.dto.StandardResponse;
 import com.ktb.chatapp.model.File;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.FileAccessResolver;
+import com.ktb.chatapp.service.FileSender;
 import com.ktb.chatapp.service.FileService;
 import com.ktb.chatapp.service.FileUploadResult;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,18 +18,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import jakarta.servlet.http.HttpServletResponse;
 import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "파일 (Files)", description = "파일 업로드 및 다운로드 API")
@@ -39,7 +37,8 @@ import org.springframework.web.bind.annotation.*;
 public class FileController {
 
     private final FileService fileService;
-    private final FileRepository fileRepository;
+    private final FileAccessResolver fileAccessResolver;
+    private final FileSender fileSender;
     private final UserRepository userRepository;
 
     /**
@@ -112,6 +111,9 @@ public class FileController {
     @Operation(summary = "파일 다운로드", description = "업로드된 파일을 다운로드합니다. 본인이 업로드한 파일만 다운로드 가능합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "파일 다운로드 성공"),
+        @ApiResponse(responseCode = "206", description = "Range 요청 부분 전송"),
+        @ApiResponse(responseCode = "302", description = "원격 스토리지 URL로 리다이렉트"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (ETag/Last-Modified)"),
         @ApiResponse(responseCode = "401", description = "인증 실패",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "403", description = "권한 없음",
@@ -125,34 +127,15 @@ public class FileController {
     public ResponseEntity<?> downloadFile(
             @Parameter(description = "다운로드할 파일명") @PathVariable String filename,
             HttpServletRequest request,
+            HttpServletResponse response,
             Principal principal) {
         try {
-            User user = userRepository.findByEmail(principal.getName())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
-
-            Resource resource = fileService.loadFileAsResource(filename, user.getId());
-
-            File fileEntity = fileRepository.findByFilename(filename)
-                    .orElse(null);
-
-            String originalFilename = fileEntity != null ? fileEntity.getOriginalname() : filename;
-            String encodedFilename = URLEncoder.encode(originalFilename, StandardCharsets.UTF_8)
-                    .replaceAll("\\+", "%20");
-
-            String contentDisposition = String.format(
-                    "attachment; filename*=UTF-8''%s",
-                    encodedFilename
-            );
+            // 권한 확인과 파일 메타데이터 조회를 한 번에 처리
+            File fileEntity = fileAccessResolver.resolve(filename, currentUserId(principal));
 
-            long contentLength = fileEntity != null ? fileEntity.getSize() : resource.contentLength();
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(fileEntity.getMimetype()))
-                    .contentLength(contentLength)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                    .header(HttpHeaders.CACHE_CONTROL, "private, no-cache, no-store, must-revalidate")
-                    .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Content-Disposition")
-                    .body(resource);
+            // Range/조건부 요청 처리 후 응답에 직접 전송 (원격 URL은 리다이렉트)
+            fileSender.send(fileEntity, FileSender.Disposition.ATTACHMENT, request, response);
+            return null;
 
         } catch (Exception e) {
             log.error("파일 다운로드 중 에러 발생: {}", filename, e);
@@ -160,6 +143,21 @@ public class FileController {
         }
     }
 
+    /**
+     * JWT의 userId 클레임을 사용하고, 없을 때만 이메일로 사용자를 조회
+     */
+    private String currentUserId(Principal principal) {
+        if (principal instanceof JwtAuthenticationToken token) {
+            String userId = token.getToken().getClaimAsString("userId");
+            if (userId != null) {
+                return userId;
+            }
+        }
+        return userRepository.findByEmail(principal.getName())
+                .map(User::getId)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+    }
+
     private ResponseEntity<?> handleFileError(Exception e) {
         String errorMessage = e.getMessage();
         int statusCode = 500;
@@ -197,16 +195,12 @@ public class FileController {
     @GetMapping("/view/{filename:.+}")
     public ResponseEntity<?> viewFile(
             @PathVariable String filename,
+            @RequestParam(required = false) String size,
             HttpServletRequest request,
+            HttpServletResponse response,
             Principal principal) {
         try {
-            User user = userRepository.findByEmail(principal.getName())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
-
-            Resource resource = fileService.loadFileAsResource(filename, user.getId());
-
-            File fileEntity = fileRepository.findByFilename(filename)
-                    .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
+            File fileEntity = fileAccessResolver.resolve(filename, currentUserId(principal));
 
             if (!fileEntity.isPreviewable()) {
                 Map<String, Object> errorResponse = new HashMap<>();
@@ -215,25 +209,9 @@ public class FileController {
                 return ResponseEntity.status(415).body(errorResponse);
             }
 
-
-            String originalFilename = fileEntity.getOriginalname();
-            String encodedFilename = URLEncoder.encode(originalFilename, StandardCharsets.UTF_8)
-                    .replaceAll("\\+", "%20");
-
-            String contentDisposition = String.format(
-                    "inline; filename=\"%s\"; filename*=UTF-8''%s",
-                    originalFilename,
-                    encodedFilename
-            );
-
-            long contentLength = fileEntity.getSize();
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(fileEntity.getMimetype()))
-                    .contentLength(contentLength)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                    .header(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable")
-                    .body(resource);
+            // size가 지정되고 미리보기가 생성되어 있으면 미리보기를, 아니면 원본을 전송
+            fileSender.send(preview(fileEntity, size), FileSender.Disposition.INLINE, request, response);
+            return null;
 
         } catch (Exception e) {
             log.error("파일 미리보기 중 에러 발생: {}", filename, e);
@@ -241,6 +219,20 @@ public class FileController {
         }
     }
 
+    private File preview(File file, String size) {
+        String previewPath = size != null && file.getPreviews() != null ? file.getPreviews().get(size) : null;
+        if (previewPath == null) {
+            return file;
+        }
+        return File.builder()
+                .id(file.getId() + "-" + size)
+                .filename(file.getFilename())
+                .originalname(file.getOriginalname())
+                .mimetype(previewPath.endsWith(".png") ? "image/png" : "image/jpeg")
+                .path(previewPath)
+                .build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteFile(@PathVariable String id, Principal principal) {
         try {
@@ -1,6 +1,11 @@
 package com.ktb.chatapp.controller;
 
+import com.ktb.chatapp.dto.MessageSearchRequest;
+import com.ktb.chatapp.dto.MessageSearchResponse;
 import com.ktb.chatapp.dto.StandardResponse;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.MessageSearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,7 +16,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
@@ -20,7 +28,8 @@ import java.security.Principal;
  * 메시지 시스템 REST API 컨트롤러
  *
  * - GET /api/message/rooms/:roomId/messages → 500 에러 (미구현)
- * - 모든 메시지 기능은 Socket.IO를 통해 제공됨
+ * - GET /api/message/search → 메시지 검색 (Socket.IO 'searchMessages'와 동일)
+ * - 그 외 메시지 기능은 Socket.IO를 통해 제공됨
  */
 @Tag(name = "메시지 (Messages)", description = "메시지 관련 API (주의: 실제 메시지 기능은 Socket.IO를 통해 제공됩니다)")
 @Slf4j
@@ -29,6 +38,9 @@ import java.security.Principal;
 @RequestMapping("/api/message")
 public class MessageController {
 
+    private final MessageSearchService messageSearchService;
+    private final UserRepository userRepository;
+
     /**
      * 채팅방 메시지 조회 - 미구현 (500 반환)
      * 실제 메시지 조회는 Socket.IO의 'fetchPreviousMessages' 이벤트를 사용하세요.
@@ -55,4 +67,45 @@ public class MessageController {
                 StandardResponse.error("미구현.")
         );
     }
+
+    /**
+     * 메시지 검색 - 최신순, 키셋 커서 페이지네이션
+     */
+    @Operation(summary = "메시지 검색",
+        description = "검색어의 토큰(한글 2글자 단위, 영문/숫자 단어)을 모두 포함한 메시지를 최신순으로 조회합니다. " +
+            "roomId를 생략하면 참여 중인 모든 채팅방에서 검색합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "검색 성공",
+            content = @Content(schema = @Schema(implementation = MessageSearchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "검색어 또는 커서 오류",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "403", description = "채팅방 참여자가 아님",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "404", description = "메시지 검색이 비활성화됨",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<?> searchMessages(
+            @Parameter(description = "검색어 (2자 이상)", example = "배포") @RequestParam("q") String query,
+            @Parameter(description = "채팅방 ID (생략 시 참여 중인 모든 방)") @RequestParam(required = false) String roomId,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회할 결과 개수 (최대 50)", example = "20") @RequestParam(required = false) Integer limit,
+            Principal principal) {
+        if (!messageSearchService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(StandardResponse.error("메시지 검색이 비활성화되어 있습니다."));
+        }
+        try {
+            User user = userRepository.findByEmail(principal.getName())
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+
+            MessageSearchResponse response = messageSearchService.search(
+                    new MessageSearchRequest(query, roomId, cursor, limit), user.getId());
+            return ResponseEntity.ok(StandardResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(StandardResponse.error(e.getMessage()));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(StandardResponse.error(e.getMessage()));
+        }
+    }
 }
@@ -7,6 +7,7 @@ import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.RoomService;
+import com.ktb.chatapp.service.UnreadCounterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -41,6 +42,7 @@ public class RoomController {
     private final UserRepository userRepository;
     private final MessageRepository messageRepository;
     private final RoomService roomService;
+    private final UnreadCounterService unreadCounterService;
 
     @Value("${spring.profiles.active:production}")
     private String activeProfile;
@@ -228,6 +230,24 @@ public class RoomController {
         }
     }
 
+    @Operation(summary = "안 읽은 메시지 수 조회", description = "현재 사용자의 채팅방별 안 읽은 메시지 수를 한 번에 조회합니다. 목록에 없는 방은 0입니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(examples = @ExampleObject(value = "{\"success\":true,\"data\":{\"60d5ec49f1b2c8b9e8c4f2a1\":3}}"))),
+        @ApiResponse(responseCode = "401", description = "인증 실패",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @GetMapping("/unread-counts")
+    public ResponseEntity<?> getUnreadCounts(Principal principal) {
+        Optional<User> user = userRepository.findByEmail(principal.getName());
+        if (user.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+                StandardResponse.error("사용자를 찾을 수 없습니다.")
+            );
+        }
+        return ResponseEntity.ok(StandardResponse.success(unreadCounterService.getCounts(user.get().getId())));
+    }
+
     @Operation(summary = "채팅방 참여", description = "채팅방에 참여합니다. 비공개 방인 경우 비밀번호가 필요합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "채팅방 참여 성공",
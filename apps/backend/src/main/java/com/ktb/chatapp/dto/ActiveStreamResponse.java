@@ -19,6 +19,9 @@ public class ActiveStreamResponse {
     private String type;
     private String aiType;
     private String content;
+    // content에 포함된 마지막 청크 순번. 클라이언트는 seq가 이 값 이하인 aiMessageChunk를 버린다
+    private long seq;
     private String timestamp;  // ISO_INSTANT 형식 문자열 예) 2025-11-07T13:45:30Z
+    @JsonProperty("isStreaming")
     private boolean isStreaming;
 }
@@ -0,0 +1,27 @@
+package com.ktb.chatapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * aiMessageChunk 이벤트 응답 DTO.
+ * 청크마다 이전 청크 이후 추가된 텍스트(delta)만 전송하고,
+ * 일정 간격으로 전체 내용(fullContent) 스냅샷을 함께 보내 늦게 입장했거나 청크를 놓친 클라이언트가 복구할 수 있게 한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiMessageChunkResponse {
+    private String messageId;
+    private long seq;
+    private String delta;
+    private String fullContent;  // 스냅샷 청크에만 포함
+    @JsonProperty("isCodeBlock")
+    private boolean codeBlock;
+    @JsonProperty("isComplete")
+    private boolean complete;
+}
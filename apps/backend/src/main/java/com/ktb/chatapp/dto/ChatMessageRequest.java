@@ -1,5 +1,6 @@
 package com.ktb.chatapp.dto;
 
+import com.ktb.chatapp.util.BannedWordChecker;
 import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,6 +36,13 @@ public class ChatMessageRequest {
         return MessageContent.from(getNormalizedContent());
     }
 
+    /**
+     * 파싱된 메시지 내용 객체 반환 (멘션 추출과 금칙어 검사를 한 번의 순회로 수행)
+     */
+    public MessageContent getParsedContent(BannedWordChecker bannedWordChecker) {
+        return MessageContent.from(getNormalizedContent(), bannedWordChecker);
+    }
+
     /**
      * 메시지 타입을 반환 (기본값: "text")
      */
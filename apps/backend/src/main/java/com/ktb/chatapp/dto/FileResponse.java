@@ -7,7 +7,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Data
 @Builder
@@ -23,6 +27,8 @@ public class FileResponse {
     private String url;
     private String user;
     private LocalDateTime uploadDate;
+    // 미리보기 크기 이름(thumb, medium) -> 미리보기 URL (생성 전이거나 이미지가 아니면 null)
+    private Map<String, String> previews;
 
     // File 엔티티에서 FileResponse로 변환하는 정적 메서드
     public static FileResponse from(File file) {
@@ -35,6 +41,20 @@ public class FileResponse {
                 .url(file.getPath() != null ? file.getPath() : file.getFilename())
                 .user(file.getUser())
                 .uploadDate(file.getUploadDate())
+                .previews(previewUrls(file))
                 .build();
     }
+
+    private static Map<String, String> previewUrls(File file) {
+        if (file.getPreviews() == null || file.getPreviews().isEmpty()) {
+            return null;
+        }
+        String encodedFilename = URLEncoder.encode(file.getFilename(), StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String size : file.getPreviews().keySet()) {
+            urls.put(size, "/api/files/view/" + encodedFilename + "?size=" + size);
+        }
+        return urls;
+    }
 }
@@ -1,61 +1,211 @@
 package com.ktb.chatapp.dto;
 
+import com.ktb.chatapp.util.BannedWordChecker;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.Getter;
 
 /**
- * 메시지 내용과 AI 멘션을 처리하는 클래스
+ * 메시지 내용과 멘션을 처리하는 클래스
+ * 생성 시 내용을 한 번만 훑어 trim 범위, AI 멘션, 사용자 멘션, 금칙어 포함 여부,
+ * 코드 블록(```) 상태를 함께 계산한다. 정규식을 쓰지 않으며 멘션이 없으면 추가 할당이 없다.
  */
-@Getter
 public class MessageContent {
-    private static final Pattern AI_MENTION_PATTERN = Pattern.compile("@(wayneAI|consultingAI)\\b");
-    
+    private static final List<String> AI_TYPES = List.of("wayneAI", "consultingAI");
+    private static final String CODE_FENCE = "```";
+
+    @Getter
     private final String rawContent;
+    @Getter
     private final String trimmedContent;
-    
-    private MessageContent(String content) {
+    private final boolean bannedWord;
+    /** 닫히지 않은 코드 블록으로 끝나는지 */
+    @Getter
+    private final boolean openCodeBlock;
+    /** 사용자 멘션 (AI 이름 제외, 등장 순서, 중복 제거) */
+    @Getter
+    private final List<String> userMentions;
+    private final List<String> aiMentions;
+
+    private MessageContent(String content, BannedWordChecker bannedWordChecker) {
         this.rawContent = content != null ? content : "";
-        this.trimmedContent = this.rawContent.trim();
+
+        String raw = this.rawContent;
+        int length = raw.length();
+        int start = -1;
+        int end = 0;
+        int state = BannedWordChecker.ROOT;
+        boolean banned = false;
+        boolean codeBlock = false;
+        int backticks = 0;
+        List<String> ai = null;
+        List<String> users = null;
+
+        for (int i = 0; i < length; i++) {
+            char c = raw.charAt(i);
+
+            // String.trim()과 같은 기준 (' ' 이하 문자를 공백으로 취급)
+            if (c > ' ') {
+                if (start < 0) {
+                    start = i;
+                }
+                end = i + 1;
+            }
+
+            if (bannedWordChecker != null && !banned) {
+                state = bannedWordChecker.next(state, c);
+                banned = bannedWordChecker.isMatch(state);
+            }
+
+            // indexOf("```") 반복과 같이 겹치지 않는 3연속 백틱마다 상태 반전
+            if (c == '`') {
+                if (++backticks == CODE_FENCE.length()) {
+                    codeBlock = !codeBlock;
+                    backticks = 0;
+                }
+            } else {
+                backticks = 0;
+            }
+
+            if (c == '@') {
+                String aiType = aiTypeAt(raw, i + 1);
+                if (aiType != null) {
+                    ai = addDistinct(ai, aiType);
+                } else if (i == 0 || !isWordChar(raw.charAt(i - 1))) {
+                    // 이메일 주소(user@host) 등 단어 중간의 @는 멘션으로 보지 않는다
+                    int nameEnd = userNameEnd(raw, i + 1);
+                    if (nameEnd > i + 1) {
+                        users = addDistinct(users, raw.substring(i + 1, nameEnd));
+                    }
+                }
+            }
+        }
+
+        this.trimmedContent = start < 0 ? "" : raw.substring(start, end);
+        this.bannedWord = banned;
+        this.openCodeBlock = codeBlock;
+        this.aiMentions = ai != null ? Collections.unmodifiableList(ai) : List.of();
+        this.userMentions = users != null ? Collections.unmodifiableList(users) : List.of();
     }
-    
+
     /**
-     * 메시지 내용으로부터 MessageContent 객체 생성
+     * 메시지 내용으로부터 MessageContent 객체 생성 (금칙어 검사 없음)
      */
     public static MessageContent from(String content) {
-        return new MessageContent(content);
+        return new MessageContent(content, null);
     }
-    
+
+    /**
+     * 메시지 내용으로부터 MessageContent 객체 생성. 같은 순회에서 금칙어 포함 여부도 계산
+     */
+    public static MessageContent from(String content, BannedWordChecker bannedWordChecker) {
+        return new MessageContent(content, bannedWordChecker);
+    }
+
     /**
      * 내용이 비어있는지 확인
      */
     public boolean isEmpty() {
         return trimmedContent.isEmpty();
     }
-    
+
+    /**
+     * 금칙어 포함 여부 (금칙어 검사기 없이 생성했으면 항상 false)
+     */
+    public boolean containsBannedWord() {
+        return bannedWord;
+    }
+
     /**
      * 특정 AI 타입의 멘션을 제거한 쿼리 문자열 반환
      */
     public String getQueryWithoutMention(String aiType) {
-        return trimmedContent.replaceAll("@" + aiType + "\\b", "").trim();
+        String mention = "@" + aiType;
+        int index = trimmedContent.indexOf(mention);
+        if (index < 0) {
+            return trimmedContent;
+        }
+
+        StringBuilder query = new StringBuilder(trimmedContent.length());
+        int copied = 0;
+        while (index >= 0) {
+            int mentionEnd = index + mention.length();
+            if (isBoundary(trimmedContent, mentionEnd)) {
+                query.append(trimmedContent, copied, index);
+                copied = mentionEnd;
+            }
+            index = trimmedContent.indexOf(mention, mentionEnd);
+        }
+        query.append(trimmedContent, copied, trimmedContent.length());
+        return query.toString().trim();
     }
-    
+
     /**
-     * AI 멘션 추출
+     * AI 멘션 추출 (등장 순서, 중복 제거)
      */
     public List<String> aiMentions() {
-        if (this.rawContent.isBlank()) {
-            return Collections.emptyList();
-        }
-        
-        Matcher matcher = AI_MENTION_PATTERN.matcher(this.rawContent);
-        Set<String> mentions = new LinkedHashSet<>();
-        
-        while (matcher.find()) {
-            mentions.add(matcher.group(1));
-        }
-        
-        return new ArrayList<>(mentions);
+        return aiMentions;
+    }
+
+    /**
+     * 메시지에 저장할 전체 멘션 목록 (AI 멘션 다음에 사용자 멘션)
+     */
+    public List<String> mentions() {
+        if (userMentions.isEmpty()) {
+            return new ArrayList<>(aiMentions);
+        }
+        List<String> mentions = new ArrayList<>(aiMentions.size() + userMentions.size());
+        mentions.addAll(aiMentions);
+        mentions.addAll(userMentions);
+        return mentions;
+    }
+
+    /**
+     * from 위치에서 시작하는 AI 이름 (정규식 \b와 같이 뒤에 단어 문자가 이어지면 멘션이 아님)
+     */
+    private static String aiTypeAt(String content, int from) {
+        for (String aiType : AI_TYPES) {
+            if (content.startsWith(aiType, from) && isBoundary(content, from + aiType.length())) {
+                return aiType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 사용자 이름 끝 위치. 프론트엔드 멘션 표시와 같이 단어 문자와 '.', '-'까지 이름으로 보되,
+     * 문장 끝의 마침표/하이픈은 이름에서 제외한다.
+     */
+    private static int userNameEnd(String content, int from) {
+        int end = from;
+        while (end < content.length()) {
+            char c = content.charAt(end);
+            if (!isWordChar(c) && c != '.' && c != '-') {
+                break;
+            }
+            end++;
+        }
+        while (end > from && (content.charAt(end - 1) == '.' || content.charAt(end - 1) == '-')) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isBoundary(String content, int index) {
+        return index >= content.length() || !isWordChar(content.charAt(index));
+    }
+
+    // java.util.regex의 \b 판정과 같은 단어 문자 기준
+    private static boolean isWordChar(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    private static List<String> addDistinct(List<String> mentions, String mention) {
+        if (mentions == null) {
+            mentions = new ArrayList<>(2);
+        }
+        if (!mentions.contains(mention)) {
+            mentions.add(mention);
+        }
+        return mentions;
     }
 }
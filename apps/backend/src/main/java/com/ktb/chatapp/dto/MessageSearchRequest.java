@@ -0,0 +1,8 @@
+package com.ktb.chatapp.dto;
+
+// roomId가 없으면 참여 중인 모든 방에서 검색, cursor는 이전 응답의 nextCursor
+public record MessageSearchRequest(String query, String roomId, String cursor, Integer limit) {
+    public int limit(int defaultLimit) {
+        return limit != null && limit > 0 ? limit : defaultLimit;
+    }
+}
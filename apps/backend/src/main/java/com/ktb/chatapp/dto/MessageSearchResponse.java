@@ -0,0 +1,19 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageSearchResponse {
+    private List<MessageSearchResult> results;
+    private boolean hasMore;
+    // 다음 페이지 요청에 그대로 전달 (마지막 결과의 시각과 ID)
+    private String nextCursor;
+}
@@ -0,0 +1,18 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageSearchResult {
+    private String messageId;
+    private String roomId;
+    private String senderId;
+    private String snippet;
+    private long timestamp;
+}
@@ -5,21 +5,30 @@ import org.springframework.context.ApplicationEvent;
 
 /**
  * AI 메시지 청크 이벤트
+ * delta는 직전 청크 이후 추가된 텍스트, fullContent는 스냅샷 청크에서만 채워진다.
  */
 @Getter
 public class AiMessageChunkEvent extends ApplicationEvent {
     
     private final String roomId;
     private final String messageId;
+    private final long sequence;
+    private final String delta;
     private final String fullContent;
     private final boolean isCodeBlock;
     
-    public AiMessageChunkEvent(Object source, String roomId, String messageId,
-                               String fullContent, boolean isCodeBlock) {
+    public AiMessageChunkEvent(Object source, String roomId, String messageId, long sequence,
+                               String delta, String fullContent, boolean isCodeBlock) {
         super(source);
         this.roomId = roomId;
         this.messageId = messageId;
+        this.sequence = sequence;
+        this.delta = delta;
         this.fullContent = fullContent;
         this.isCodeBlock = isCodeBlock;
     }
+
+    public boolean isSnapshot() {
+        return fullContent != null;
+    }
 }
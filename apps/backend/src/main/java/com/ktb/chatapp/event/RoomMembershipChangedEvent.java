@@ -0,0 +1,23 @@
+package com.ktb.chatapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 방 참가자 변경 이벤트 (입장/퇴장)
+ * 참가자 여부에 기반한 캐시(파일 접근 권한 등)를 무효화하는 데 사용한다.
+ */
+@Getter
+public class RoomMembershipChangedEvent extends ApplicationEvent {
+
+    private final String roomId;
+    private final String userId;
+    private final boolean joined;
+
+    public RoomMembershipChangedEvent(Object source, String roomId, String userId, boolean joined) {
+        super(source);
+        this.roomId = roomId;
+        this.userId = userId;
+        this.joined = joined;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ktb.chatapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 사용자의 방별 안 읽은 메시지 수 변경 이벤트 (user:{id} 소켓 방으로 전달)
+ */
+@Getter
+public class UnreadCountChangedEvent extends ApplicationEvent {
+
+    private final String userId;
+    private final String roomId;
+    private final long count;
+
+    public UnreadCountChangedEvent(Object source, String userId, String roomId, long count) {
+        super(source);
+        this.userId = userId;
+        this.roomId = roomId;
+        this.count = count;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ktb.chatapp.exception;
+
+/**
+ * 비밀번호 해시 작업 큐가 가득 차 요청을 받을 수 없을 때 발생
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -2,7 +2,9 @@ package com.ktb.chatapp.model;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -43,6 +45,17 @@ public class File {
     @Indexed
     private LocalDateTime uploadDate;
 
+    // 미리보기 크기 이름(thumb, medium) -> 미리보기 파일 경로 (백그라운드 생성 후 기록)
+    @Builder.Default
+    private Map<String, String> previews = new HashMap<>();
+
+    /**
+     * 미리보기 이미지 생성 대상 여부 (ImageIO로 읽을 수 있는 형식)
+     */
+    public boolean isImage() {
+        return "image/jpeg".equals(mimetype) || "image/png".equals(mimetype) || "image/gif".equals(mimetype);
+    }
+
     /**
      * 미리보기 지원 여부 확인
      */
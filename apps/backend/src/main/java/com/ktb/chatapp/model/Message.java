@@ -52,7 +52,8 @@ public class Message {
 
     private MessageType type;
 
-    // Mongo 문서 필드명 "file" 사용
+    // Mongo 문서 필드명 "file" 사용 (파일 권한 확인용, 파일 메시지만 색인)
+    @Indexed(sparse = true)
     @Field("file")
     private String fileId;
 
@@ -0,0 +1,51 @@
+package com.ktb.chatapp.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관(cold) 메시지 블록 문서 모델.
+ * 한 방의 연속된 오래된 메시지를 압축된 블록 하나로 묶어 저장한다 (readers 등 조회에 필요 없는 필드는 제외).
+ * 블록 ID는 "방ID:첫 메시지ID"로 고정해 같은 블록을 다시 보관해도 덮어쓰기만 된다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "message_archives")
+@CompoundIndex(name = "room_start_idx", def = "{'room': 1, 'start': -1}")
+public class MessageArchive {
+
+    @Id
+    private String id;
+
+    @Field("room")
+    private String roomId;
+
+    // 블록의 첫/마지막 메시지 시각
+    private LocalDateTime start;
+
+    private LocalDateTime end;
+
+    private int count;
+
+    // 블록에 포함된 첨부 파일 ID (파일 권한 확인용, 파일이 없는 블록은 null로 두어 색인하지 않음)
+    @Indexed(sparse = true)
+    private List<String> files;
+
+    // 압축 전 크기 (압축률 확인용)
+    private int rawSize;
+
+    // gzip으로 압축한 메시지 목록(JSON)
+    private byte[] payload;
+}
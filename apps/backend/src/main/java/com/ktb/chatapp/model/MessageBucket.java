@@ -0,0 +1,47 @@
+package com.ktb.chatapp.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 방별 메시지 버킷 문서 모델 (app.messages.storage=bucket 일 때 사용).
+ * 한 방의 연속된 메시지를 최대 개수/시간 구간 단위로 묶어 하나의 문서에 보관한다.
+ * 히스토리 조회는 버킷 1~2개를 순차로 읽으므로 메시지 단위 인덱스 대신 버킷 단위 인덱스만 탄다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "message_buckets")
+@CompoundIndex(name = "room_start_idx", def = "{'room': 1, 'start': -1}")
+public class MessageBucket {
+
+    @Id
+    private String id;
+
+    // Mongo 문서 필드명 "room" 사용 (messages 컬렉션과 동일)
+    @Field("room")
+    private String roomId;
+
+    // 버킷의 첫 메시지 시각 (시간 구간의 시작)
+    private LocalDateTime start;
+
+    // 버킷에 들어간 가장 늦은 메시지 시각
+    private LocalDateTime end;
+
+    private int count;
+
+    // 추가된 순서대로 쌓인 메시지 (messages 컬렉션 문서의 사본)
+    @Builder.Default
+    private List<Message> messages = new ArrayList<>();
+}
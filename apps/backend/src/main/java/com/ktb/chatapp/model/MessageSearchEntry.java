@@ -0,0 +1,43 @@
+package com.ktb.chatapp.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메시지 검색 색인 문서 모델 (메시지당 1개, ID는 메시지 ID와 같음).
+ * terms 배열에 대한 multikey 인덱스가 토큰 → (방, 시각, 메시지) 역색인 역할을 한다.
+ * 결과 표시용 snippet을 함께 보관해 원본이 보관(archive) 블록으로 옮겨진 뒤에도 검색된다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "message_search_index")
+@CompoundIndex(name = "terms_room_timestamp_idx", def = "{'terms': 1, 'room': 1, 'timestamp': -1, '_id': -1}")
+public class MessageSearchEntry {
+
+    @Id
+    private String id;
+
+    @Field("room")
+    private String roomId;
+
+    @Field("sender")
+    private String senderId;
+
+    private LocalDateTime timestamp;
+
+    private List<String> terms;
+
+    // 메시지 앞부분 (검색 결과 표시용)
+    private String snippet;
+}
@@ -0,0 +1,42 @@
+package com.ktb.chatapp.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자/방별 안 읽은 메시지 수 스냅샷.
+ * 카운터 원본은 UnreadCounterService의 메모리에 있고, 이 문서는 주기적으로 기록되는 복구용 사본이다.
+ * ID는 "사용자ID:방ID".
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "unread_counters")
+public class UnreadCounter {
+
+    @Id
+    private String id;
+
+    @Indexed
+    @Field("user")
+    private String userId;
+
+    @Field("room")
+    private String roomId;
+
+    private long count;
+
+    // 이 시각까지의 메시지는 읽은 것으로 본다
+    private LocalDateTime watermark;
+
+    private LocalDateTime updatedAt;
+}
@@ -2,6 +2,7 @@ package com.ktb.chatapp.repository;
 
 import com.ktb.chatapp.model.Message;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -30,4 +31,10 @@ public interface MessageRepository extends MongoRepository<Message, String> {
      * fileId로 메시지 조회 (파일 권한 검증용)
      */
     Optional<Message> findByFileId(String fileId);
+
+    /**
+     * 읽음 처리 대상 메시지의 방/시각만 조회 (권한 확인, 읽음 위치 계산용)
+     */
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'room': 1, 'timestamp': 1 }")
+    List<Message> findRoomAndTimestampByIdIn(List<String> ids);
 }
@@ -0,0 +1,120 @@
+package com.ktb.chatapp.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * 검증이 끝난 JWT를 토큰 만료 시각까지 재사용하는 JwtDecoder.
+ * REST 필터, JwtService, Socket.IO 인증이 같은 인스턴스를 공유해
+ * 요청마다 HMAC 검증과 JSON 파싱을 반복하지 않게 한다.
+ *
+ * 키는 토큰 원문 대신 SHA-256 다이제스트를 사용한다 (캐시된 Jwt 값은 tokenValue로 원문을 그대로 가진다).
+ * 검증에 실패한 토큰은 캐싱하지 않는다. 이 캐시는 폐기 목록이 아니며, 로그아웃한 토큰은
+ * SessionAwareJwtAuthenticationConverter의 세션 확인에서 거절된다.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final long PURGE_INTERVAL_MS = 1000;
+
+    private final JwtDecoder delegate;
+    private final int maxSize;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Jwt> cache = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurgeMillis = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize) {
+        this(delegate, maxSize, Clock.systemUTC());
+    }
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, Clock clock) {
+        this.delegate = delegate;
+        this.maxSize = Math.max(1, maxSize);
+        this.clock = clock;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null || token.isEmpty()) {
+            return delegate.decode(token);
+        }
+
+        String key = digest(token);
+        Instant now = clock.instant();
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            if (isLive(cached, now)) {
+                hits.increment();
+                return cached;
+            }
+            cache.remove(key, cached);
+        }
+
+        misses.increment();
+        Jwt jwt = delegate.decode(token);
+        if (isLive(jwt, now)) {
+            put(key, jwt, now);
+        }
+        return jwt;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private void put(String key, Jwt jwt, Instant now) {
+        if (cache.size() >= maxSize) {
+            purgeExpired(now);
+        }
+        // 만료 정리 후에도 가득 차 있으면 임의 항목을 제거해 상한을 유지
+        Iterator<String> keys = cache.keySet().iterator();
+        while (cache.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+        cache.put(key, jwt);
+    }
+
+    private void purgeExpired(Instant now) {
+        long nowMillis = now.toEpochMilli();
+        long last = lastPurgeMillis.get();
+        if (nowMillis - last < PURGE_INTERVAL_MS || !lastPurgeMillis.compareAndSet(last, nowMillis)) {
+            return;
+        }
+        cache.values().removeIf(jwt -> !isLive(jwt, now));
+    }
+
+    private static boolean isLive(Jwt jwt, Instant now) {
+        return jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(now);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
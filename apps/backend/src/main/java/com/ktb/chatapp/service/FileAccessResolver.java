@@ -0,0 +1,167 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.FileRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * 파일 다운로드/미리보기 권한 확인
+ * 파일명 → 파일(filename 인덱스) → 파일이 첨부된 메시지의 방(file 인덱스, room 필드만 조회) → 방 참가자 여부(exists)
+ * 순서로 인덱스를 타는 조회만 사용한다.
+ *
+ * (fileId, userId) 판정 결과는 짧은 TTL 동안 캐싱하며, 사용자가 방에 입장/퇴장하면 해당 사용자의 판정을 모두 버린다.
+ * 사용자당 판정은 max-files-per-user개까지만 두고, 가득 차면 만료된 판정부터 지운다.
+ * 메시지에 아직 첨부되지 않은 파일(업로드 직후)은 곧 접근 가능해질 수 있으므로 캐싱하지 않는다.
+ */
+@Slf4j
+@Service
+public class FileAccessResolver {
+
+    private record Decision(boolean allowed, long expiresAtMillis) {
+    }
+
+    private final FileRepository fileRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MessageArchiveService messageArchiveService;
+    private final long ttlMillis;
+    private final int maxUsers;
+    private final int maxFilesPerUser;
+    private final Clock clock;
+
+    // userId -> (fileId -> 판정)
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Decision>> decisions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public FileAccessResolver(
+            FileRepository fileRepository,
+            MongoTemplate mongoTemplate,
+            MessageArchiveService messageArchiveService,
+            @Value("${app.file.access-cache.ttl:30s}") Duration ttl,
+            @Value("${app.file.access-cache.max-users:10000}") int maxUsers,
+            @Value("${app.file.access-cache.max-files-per-user:256}") int maxFilesPerUser) {
+        this(fileRepository, mongoTemplate, messageArchiveService, ttl, maxUsers, maxFilesPerUser, Clock.systemUTC());
+    }
+
+    public FileAccessResolver(FileRepository fileRepository, MongoTemplate mongoTemplate,
+                              MessageArchiveService messageArchiveService,
+                              Duration ttl, int maxUsers, int maxFilesPerUser, Clock clock) {
+        this.fileRepository = fileRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.messageArchiveService = messageArchiveService;
+        this.ttlMillis = ttl.toMillis();
+        this.maxUsers = Math.max(1, maxUsers);
+        this.maxFilesPerUser = Math.max(1, maxFilesPerUser);
+        this.clock = clock;
+    }
+
+    /**
+     * 요청자가 접근할 수 있는 파일을 반환한다.
+     * 예외 메시지는 FileController의 상태 코드 매핑(찾을 수 없습니다/권한)과 맞춘다.
+     */
+    public File resolve(String filename, String userId) {
+        File file = fileRepository.findByFilename(filename)
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + filename));
+
+        if (!isAllowed(file.getId(), userId)) {
+            log.warn("파일 접근 권한 없음: {} (사용자: {})", filename, userId);
+            throw new RuntimeException("파일에 접근할 권한이 없습니다");
+        }
+        return file;
+    }
+
+    @EventListener
+    public void onRoomMembershipChanged(RoomMembershipChangedEvent event) {
+        evictUser(event.getUserId());
+    }
+
+    public void evictUser(String userId) {
+        if (userId != null) {
+            decisions.remove(userId);
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private boolean isAllowed(String fileId, String userId) {
+        long now = clock.millis();
+        ConcurrentHashMap<String, Decision> userDecisions = decisions.get(userId);
+        if (userDecisions != null) {
+            Decision cached = userDecisions.get(fileId);
+            if (cached != null) {
+                if (cached.expiresAtMillis() > now) {
+                    hits.increment();
+                    return cached.allowed();
+                }
+                userDecisions.remove(fileId, cached);
+            }
+        }
+
+        misses.increment();
+        Query messageQuery = Query.query(Criteria.where("file").is(fileId));
+        messageQuery.fields().include("room");
+        Message message = mongoTemplate.findOne(messageQuery, Message.class);
+        // 원본 메시지가 보관(archive)으로 옮겨졌으면 보관 블록의 files 색인으로 방을 찾는다
+        String roomId = message != null ? message.getRoomId() : messageArchiveService.findRoomIdByFileId(fileId);
+        if (roomId == null) {
+            throw new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다");
+        }
+
+        boolean allowed = mongoTemplate.exists(
+                Query.query(Criteria.where("_id").is(roomId).and("participantIds").is(userId)),
+                Room.class);
+        put(userId, fileId, new Decision(allowed, now + ttlMillis));
+        return allowed;
+    }
+
+    private void put(String userId, String fileId, Decision decision) {
+        if (decisions.size() >= maxUsers && !decisions.containsKey(userId)) {
+            // 상한 초과 시 임의 사용자 항목 제거 (판정은 TTL이 짧아 재조회 비용이 작음)
+            Iterator<String> users = decisions.keySet().iterator();
+            while (decisions.size() >= maxUsers && users.hasNext()) {
+                users.next();
+                users.remove();
+            }
+        }
+        ConcurrentHashMap<String, Decision> userDecisions =
+                decisions.computeIfAbsent(userId, key -> new ConcurrentHashMap<>());
+        if (userDecisions.size() >= maxFilesPerUser && !userDecisions.containsKey(fileId)) {
+            long now = clock.millis();
+            userDecisions.values().removeIf(cached -> cached.expiresAtMillis() <= now);
+            // 만료된 판정이 없으면 임의 항목 제거
+            Iterator<String> files = userDecisions.keySet().iterator();
+            while (userDecisions.size() >= maxFilesPerUser && files.hasNext()) {
+                files.next();
+                files.remove();
+            }
+        }
+        userDecisions.put(fileId, decision);
+    }
+
+    int cachedDecisions(String userId) {
+        ConcurrentHashMap<String, Decision> userDecisions = decisions.get(userId);
+        return userDecisions != null ? userDecisions.size() : 0;
+    }
+}
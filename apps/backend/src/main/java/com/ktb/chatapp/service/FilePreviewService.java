@@ -0,0 +1,250 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이미지 첨부 미리보기 생성기
+ * 업로드 직후 이미지 파일을 작은 크기(thumb, medium)로 축소해 원본 옆에 저장하고 File.previews에 기록한다.
+ * 업로드 요청 스레드를 막지 않도록 전용 스레드 풀에서 처리하며, 대기 큐가 가득 차면 해당 파일은 건너뛴다
+ * (미리보기가 없으면 클라이언트는 원본을 사용).
+ *
+ * 원격 스토리지(URL) 파일은 원본 옆에 쓸 수 없으므로 대상에서 제외한다.
+ *
+ * 압축된 파일 크기(max-source-bytes)만으로는 디코딩 후 비트맵 크기를 막을 수 없으므로,
+ * 헤더에서 가로/세로만 먼저 읽어 max-source-pixels를 넘으면 건너뛰고,
+ * 큰 이미지는 가장 큰 미리보기의 2배 정도로 서브샘플링하며 디코딩한다.
+ */
+@Slf4j
+@Service
+public class FilePreviewService {
+
+    @Getter
+    public enum PreviewSize {
+        THUMB("thumb", 160),
+        MEDIUM("medium", 640);
+
+        private final String key;
+        private final int maxEdge;
+
+        PreviewSize(String key, int maxEdge) {
+            this.key = key;
+            this.maxEdge = maxEdge;
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final long maxSourceBytes;
+    private final long maxSourcePixels;
+    private final ThreadPoolExecutor executor;
+    private final Timer generationTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public FilePreviewService(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.file.preview.enabled:true}") boolean enabled,
+            @Value("${app.file.preview.threads:2}") int threads,
+            @Value("${app.file.preview.queue-capacity:200}") int queueCapacity,
+            @Value("${app.file.preview.max-source-bytes:20971520}") long maxSourceBytes,
+            @Value("${app.file.preview.max-source-pixels:50000000}") long maxSourcePixels) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.maxSourceBytes = maxSourceBytes;
+        this.maxSourcePixels = maxSourcePixels;
+
+        // 이미지 디코딩/축소는 CPU와 메모리를 많이 쓰므로 적은 수의 스레드로 제한
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("file-preview-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.generationTimer = Timer.builder("file.preview.generation.time")
+                .description("Time to generate all preview sizes for one image")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("file.preview.rejected")
+                .description("Preview jobs skipped because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("file.preview.failed")
+                .description("Preview jobs that failed to read or write an image")
+                .register(meterRegistry);
+        Gauge.builder("file.preview.queue.depth", executor, e -> e.getQueue().size())
+                .description("Pending preview jobs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업로드 훅: 로컬에 저장된 이미지 파일이면 미리보기 생성 작업을 큐에 넣는다.
+     */
+    public void enqueue(File file) {
+        if (!enabled || file == null || file.getId() == null || !file.isImage()) {
+            return;
+        }
+        Path source = localPath(file);
+        if (source == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> generationTimer.record(() -> generate(file.getId(), source)));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Preview queue is full - skipping file {}", file.getId());
+        }
+    }
+
+    /**
+     * 미리보기를 생성하고 File 문서에 경로를 기록 (previews.{size}만 갱신해 다른 필드를 덮어쓰지 않음)
+     */
+    void generate(String fileId, Path source) {
+        try {
+            Map<String, String> previews = createPreviews(source, maxSourcePixels);
+            if (previews.isEmpty()) {
+                return;
+            }
+            Update update = new Update();
+            previews.forEach((key, path) -> update.set("previews." + key, path));
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(fileId)), update, File.class);
+            log.debug("Previews generated - fileId: {}, sizes: {}", fileId, previews.keySet());
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("Preview generation failed - fileId: {}, source: {}", fileId, source, e);
+        }
+    }
+
+    /**
+     * 원본보다 작은 크기만 생성하며, 원본 옆에 {원본}.{size}.{jpg|png} 이름으로 저장한다.
+     * 가로x세로가 maxPixels를 넘는 이미지는 디코딩하지 않는다.
+     */
+    static Map<String, String> createPreviews(Path source, long maxPixels) throws IOException {
+        int width;
+        int height;
+        BufferedImage original;
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return Map.of();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Map.of();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                width = reader.getWidth(0);
+                height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.info("Image too large for preview - source: {}, size: {}x{}", source, width, height);
+                    return Map.of();
+                }
+                // 가장 큰 미리보기의 2배 이상은 남기고 줄여서 디코딩 (축소 품질 유지)
+                int step = Math.max(1, Math.max(width, height) / (PreviewSize.MEDIUM.getMaxEdge() * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                original = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        Map<String, String> previews = new LinkedHashMap<>();
+        boolean hasAlpha = original.getColorModel().hasAlpha();
+        String format = hasAlpha ? "png" : "jpg";
+        for (PreviewSize size : PreviewSize.values()) {
+            // 생성 여부는 서브샘플링 전 원본 크기로 판단
+            if (Math.max(width, height) <= size.getMaxEdge()) {
+                continue;
+            }
+            BufferedImage scaled = scale(original, size.getMaxEdge(), hasAlpha);
+            Path target = source.resolveSibling(source.getFileName() + "." + size.getKey() + "." + format);
+            ImageIO.write(scaled, format, target.toFile());
+            previews.put(size.getKey(), target.toString());
+        }
+        return previews;
+    }
+
+    /**
+     * 절반씩 줄여가며 축소해 한 번에 크게 줄일 때 생기는 계단 현상을 줄인다.
+     */
+    private static BufferedImage scale(BufferedImage source, int maxEdge, boolean hasAlpha) {
+        double ratio = (double) maxEdge / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        int type = hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private Path localPath(File file) {
+        String target = file.getPath() != null ? file.getPath() : file.getFilename();
+        if (target == null || target.startsWith("http://") || target.startsWith("https://")) {
+            return null;
+        }
+        Path path = Path.of(target).toAbsolutePath().normalize();
+        try {
+            if (!Files.isRegularFile(path) || Files.size(path) > maxSourceBytes) {
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return path;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,173 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 권한 확인이 끝난 파일을 응답으로 전송
+ * - 원격 URL(S3 등)은 프록시하지 않고 302로 리다이렉트
+ * - 로컬 파일은 Tomcat sendfile(지원 시) 또는 FileChannel.transferTo로 커널에서 바로 복사
+ * - 단일 Range 요청은 206, 범위 밖이면 416, 다중 Range는 전체 전송(200)
+ * - ETag/Last-Modified 조건부 요청은 304
+ *
+ * 파일명이 콘텐츠 키라서 같은 파일명의 내용은 바뀌지 않으므로 immutable 캐싱을 허용한다.
+ */
+@Slf4j
+@Component
+public class FileSender {
+
+    static final String IMMUTABLE_MAX_AGE = "max-age=31536000, immutable";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    public enum Disposition {
+        ATTACHMENT("attachment", "private, " + IMMUTABLE_MAX_AGE),
+        INLINE("inline", "public, " + IMMUTABLE_MAX_AGE);
+
+        private final String type;
+        private final String cacheControl;
+
+        Disposition(String type, String cacheControl) {
+            this.type = type;
+            this.cacheControl = cacheControl;
+        }
+    }
+
+    public void send(File file, Disposition disposition,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String target = file.getPath() != null ? file.getPath() : file.getFilename();
+        if (isRemote(target)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, disposition.cacheControl);
+            response.sendRedirect(target);
+            return;
+        }
+
+        Path path = Path.of(target).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(path)) {
+            throw new RuntimeException("파일을 찾을 수 없습니다: " + file.getFilename());
+        }
+
+        long length = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        String etag = etag(file, length);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, disposition.cacheControl);
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            // 304와 ETag/Last-Modified 헤더는 checkNotModified가 설정
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(file, disposition));
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Content-Disposition, Content-Range");
+        if (file.getMimetype() != null) {
+            response.setContentType(file.getMimetype());
+        }
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            // HttpRange는 파일 크기를 벗어난 시작 위치에도 예외를 던지지 않으므로 직접 확인
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                start = length;
+            }
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = length == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+        write(path, start, count, request, response);
+    }
+
+    /**
+     * If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 보낸다.
+     */
+    private static HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.getFirst() : null;
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 Range 헤더는 무시 (RFC 9110)
+            return null;
+        }
+    }
+
+    private static void write(Path path, long start, long count,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 서블릿 반환 후 커넥터가 sendfile로 전송하므로 요청 스레드를 바로 반납
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    private static String etag(File file, long length) {
+        return "\"" + file.getId() + "-" + Long.toHexString(length) + "\"";
+    }
+
+    private static String contentDisposition(File file, Disposition disposition) {
+        String name = file.getOriginalname() != null ? file.getOriginalname() : file.getFilename();
+        String encoded = URLEncoder.encode(name, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+        return disposition.type + "; filename*=UTF-8''" + encoded;
+    }
+
+    private static boolean isRemote(String target) {
+        return target.startsWith("http://") || target.startsWith("https://");
+    }
+}
@@ -1,7 +1,6 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.dto.RemoteFileRequest;
-import org.springframework.core.io.Resource;
 
 public interface FileService {
 
@@ -9,7 +8,5 @@ public interface FileService {
 
     String storeFile(RemoteFileRequest request);
 
-    Resource loadFileAsResource(String fileName, String requesterId);
-
     boolean deleteFile(String fileId, String requesterId);
 }
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 /**
  * Spring Security의 JwtEncoder/JwtDecoder를 사용하는 JWT 서비스
  * JwtUtil을 대체하는 표준화된 JWT 처리 서비스
+ * jwtDecoder는 CachingJwtDecoder이므로 동일 토큰에 대한 extract* 반복 호출은 캐시에서 처리된다.
  */
 @Service
 @Slf4j
@@ -2,18 +2,10 @@ package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.dto.RemoteFileRequest;
 import com.ktb.chatapp.model.File;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.FileRepository;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.time.LocalDateTime;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -21,17 +13,14 @@ import org.springframework.stereotype.Service;
 public class LocalFileService implements FileService {
 
     private final FileRepository fileRepository;
-    private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
+    private final FilePreviewService filePreviewService;
     private final String defaultBaseUrl;
 
     public LocalFileService(@Value("${app.file.base-url:}") String defaultBaseUrl,
                             FileRepository fileRepository,
-                            MessageRepository messageRepository,
-                            RoomRepository roomRepository) {
+                            FilePreviewService filePreviewService) {
         this.fileRepository = fileRepository;
-        this.messageRepository = messageRepository;
-        this.roomRepository = roomRepository;
+        this.filePreviewService = filePreviewService;
         this.defaultBaseUrl = defaultBaseUrl;
     }
 
@@ -49,6 +38,9 @@ public class LocalFileService implements FileService {
 
         File savedFile = fileRepository.save(fileEntity);
 
+        // 이미지면 미리보기 생성을 백그라운드로 요청 (응답은 기다리지 않음)
+        filePreviewService.enqueue(savedFile);
+
         return FileUploadResult.builder()
                 .success(true)
                 .file(savedFile)
@@ -60,37 +52,6 @@ public class LocalFileService implements FileService {
         return resolvePath(request);
     }
 
-    @Override
-    public Resource loadFileAsResource(String fileName, String requesterId) {
-        // 1. 파일 조회
-        File fileEntity = fileRepository.findByFilename(fileName)
-                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileName));
-
-        // 2. 메시지 조회 (파일과 메시지 연결 확인) - 효율적인 쿼리 메서드 사용
-        Message message = messageRepository.findByFileId(fileEntity.getId())
-                .orElseThrow(() -> new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다"));
-
-        // 3. 방 조회 (사용자가 방 참가자인지 확인)
-        Room room = roomRepository.findById(message.getRoomId())
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
-
-        // 4. 권한 검증
-        if (!room.getParticipantIds().contains(requesterId)) {
-            log.warn("파일 접근 권한 없음: {} (사용자: {})", fileName, requesterId);
-            throw new RuntimeException("파일에 접근할 권한이 없습니다");
-        }
-
-        // 5. 파일 경로(URL 또는 키)로 리소스 생성
-        String targetPath = fileEntity.getPath() != null ? fileEntity.getPath() : fileEntity.getFilename();
-        Resource resource = toUrlResource(targetPath);
-        if (resource.exists()) {
-            log.info("파일 로드 성공: {} (사용자: {})", fileName, requesterId);
-            return resource;
-        } else {
-            throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName);
-        }
-    }
-
     @Override
     public boolean deleteFile(String fileId, String requesterId) {
         try {
@@ -126,16 +87,4 @@ public class LocalFileService implements FileService {
         }
         return request.getKey();
     }
-
-    private Resource toUrlResource(String path) {
-        try {
-            // 절대 URL이면 그대로, 아니면 file: 로 시도
-            if (path.startsWith("http://") || path.startsWith("https://")) {
-                return new UrlResource(new URL(path));
-            }
-            return new UrlResource("file:" + path);
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("잘못된 파일 경로/URL입니다: " + path, e);
-        }
-    }
 }
@@ -0,0 +1,373 @@
+package com.ktb.chatapp.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.model.AiType;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageArchive;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * 오래된 메시지 보관(hot/cold 분리)
+ * age보다 오래된 메시지를 방별로 block-size개씩 묶어 gzip 압축 블록(message_archives)으로 옮기고 원본 문서를 지운다.
+ * messages 컬렉션과 그 인덱스(readers 포함)가 최근 메시지 크기로 유지되어 Mongo 작업 집합이 줄어든다.
+ *
+ * 이동은 블록 저장 → 원본 삭제 순서이며 블록 ID가 고정이라 중간에 중단돼도 다음 실행에서 같은 블록을 덮어쓴다.
+ * 초당 max-messages-per-second개로 속도를 제한해 운영 중인 primary에 부담을 주지 않는다.
+ * 보관된 메시지는 읽기 전용이다 (리액션/읽음 상태는 더 이상 갱신되지 않음).
+ * 버킷 저장 모드이면 방을 보관한 뒤 cutoff 이전 메시지만 담은 버킷도 지운다.
+ */
+@Slf4j
+@Service
+public class MessageArchiveService {
+
+    /**
+     * 최신순 메시지(최대 limit개)와 더 오래된 보관 메시지 존재 여부
+     */
+    public record Page(List<Message> messages, boolean hasMore) {
+    }
+
+    /**
+     * 블록에 저장하는 메시지 형태 (readers, isDeleted 등 보관 후 필요 없는 필드 제외)
+     */
+    record ArchivedMessage(
+            String id,
+            String sender,
+            MessageType type,
+            String content,
+            String file,
+            AiType aiType,
+            long ts,
+            List<String> mentions,
+            Map<String, Set<String>> reactions,
+            Map<String, Object> metadata) {
+    }
+
+    private static final TypeReference<List<ArchivedMessage>> BLOCK_TYPE = new TypeReference<>() {
+    };
+
+    private final MongoTemplate mongoTemplate;
+    private final MessageBucketStore messageBucketStore;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private final boolean enabled;
+    private final Duration age;
+    private final Duration interval;
+    private final int blockSize;
+    private final int maxMessagesPerRun;
+    private final double maxMessagesPerSecond;
+
+    private final Counter movedCounter;
+    private final Counter blockCounter;
+    private final Counter rawBytesCounter;
+    private final Counter compressedBytesCounter;
+    private final Counter readCounter;
+    private final Timer runTimer;
+
+    private ScheduledExecutorService scheduler;
+
+    public MessageArchiveService(
+            MongoTemplate mongoTemplate,
+            MessageBucketStore messageBucketStore,
+            MeterRegistry meterRegistry,
+            @Value("${app.messages.archive.enabled:false}") boolean enabled,
+            @Value("${app.messages.archive.age:30d}") Duration age,
+            @Value("${app.messages.archive.interval:10m}") Duration interval,
+            @Value("${app.messages.archive.block-size:500}") int blockSize,
+            @Value("${app.messages.archive.max-messages-per-run:100000}") int maxMessagesPerRun,
+            @Value("${app.messages.archive.max-messages-per-second:2000}") double maxMessagesPerSecond) {
+        this.mongoTemplate = mongoTemplate;
+        this.messageBucketStore = messageBucketStore;
+        this.enabled = enabled;
+        this.age = age;
+        this.interval = interval;
+        this.blockSize = Math.max(1, blockSize);
+        this.maxMessagesPerRun = Math.max(1, maxMessagesPerRun);
+        this.maxMessagesPerSecond = maxMessagesPerSecond;
+
+        this.movedCounter = Counter.builder("messages.archive.moved")
+                .description("Messages moved from the hot collection into archive blocks")
+                .register(meterRegistry);
+        this.blockCounter = Counter.builder("messages.archive.blocks")
+                .description("Archive blocks written")
+                .register(meterRegistry);
+        this.rawBytesCounter = Counter.builder("messages.archive.bytes")
+                .description("Archived message bytes before/after compression")
+                .tag("kind", "raw")
+                .register(meterRegistry);
+        this.compressedBytesCounter = Counter.builder("messages.archive.bytes")
+                .description("Archived message bytes before/after compression")
+                .tag("kind", "compressed")
+                .register(meterRegistry);
+        this.readCounter = Counter.builder("messages.archive.reads")
+                .description("History pages that fell through to the archive")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("messages.archive.run.time")
+                .description("Duration of one archival run")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("message-archiver").daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::runSafely, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Message archival enabled - age: {}, interval: {}, block size: {}, max rate: {}/s",
+                age, interval, blockSize, maxMessagesPerSecond);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void runSafely() {
+        try {
+            runTimer.record(() -> archiveOlderThan(LocalDateTime.now().minus(age)));
+        } catch (Exception e) {
+            log.error("Message archival run failed", e);
+        }
+    }
+
+    /**
+     * cutoff 이전 메시지를 방별로 블록 단위 이동. 이번 실행에서 옮긴 메시지 수를 반환한다.
+     */
+    public int archiveOlderThan(LocalDateTime cutoff) {
+        Query rooms = new Query();
+        rooms.fields().include("_id");
+        long startedAt = System.nanoTime();
+        int moved = 0;
+
+        try (Stream<Room> stream = mongoTemplate.stream(rooms, Room.class)) {
+            for (Room room : (Iterable<Room>) stream::iterator) {
+                while (moved < maxMessagesPerRun && !Thread.currentThread().isInterrupted()) {
+                    int count = archiveBlock(room.getId(), cutoff, Math.min(blockSize, maxMessagesPerRun - moved));
+                    if (count == 0) {
+                        break;
+                    }
+                    moved += count;
+                    throttle(moved, startedAt);
+                }
+                messageBucketStore.pruneRoom(room.getId(), cutoff);
+                if (moved >= maxMessagesPerRun || Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+            }
+        }
+
+        if (moved > 0) {
+            log.info("Archived {} messages older than {}", moved, cutoff);
+        }
+        return moved;
+    }
+
+    /**
+     * 방의 가장 오래된 메시지 최대 limit개를 블록 하나로 보관하고 원본을 삭제
+     */
+    int archiveBlock(String roomId, LocalDateTime cutoff, int limit) {
+        Query query = Query.query(Criteria.where("room").is(roomId)
+                        .and("isDeleted").is(false)
+                        .and("timestamp").lt(cutoff))
+                .with(Sort.by(Sort.Direction.ASC, "timestamp"))
+                .limit(limit);
+        List<Message> messages = mongoTemplate.find(query, Message.class);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        byte[] raw = serialize(messages);
+        byte[] payload = gzip(raw);
+        List<String> files = messages.stream().map(Message::getFileId).filter(Objects::nonNull).toList();
+        MessageArchive block = MessageArchive.builder()
+                .id(roomId + ":" + messages.getFirst().getId())
+                .roomId(roomId)
+                .start(messages.getFirst().getTimestamp())
+                .end(messages.getLast().getTimestamp())
+                .count(messages.size())
+                .files(files.isEmpty() ? null : files)
+                .rawSize(raw.length)
+                .payload(payload)
+                .build();
+        mongoTemplate.save(block);
+
+        List<String> ids = messages.stream().map(Message::getId).toList();
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), Message.class);
+
+        movedCounter.increment(messages.size());
+        blockCounter.increment();
+        rawBytesCounter.increment(raw.length);
+        compressedBytesCounter.increment(payload.length);
+        return messages.size();
+    }
+
+    /**
+     * before 이전 보관 메시지를 최신순으로 limit개까지 읽는다 (hot 페이지가 부족할 때 MessageLoader가 사용).
+     */
+    public Page loadPage(String roomId, LocalDateTime before, int limit) {
+        if (limit <= 0) {
+            return new Page(List.of(), hasArchived(roomId, before));
+        }
+        Query query = Query.query(Criteria.where("room").is(roomId).and("start").lt(before))
+                .with(Sort.by(Sort.Direction.DESC, "start"));
+        query.cursorBatchSize(2);
+
+        List<Message> collected = new ArrayList<>();
+        try (Stream<MessageArchive> blocks = mongoTemplate.stream(query, MessageArchive.class)) {
+            for (MessageArchive block : (Iterable<MessageArchive>) blocks::iterator) {
+                // 블록은 방 안에서 시간 구간이 겹치지 않으므로 limit+1개를 모으면 충분
+                if (collected.size() > limit) {
+                    break;
+                }
+                for (Message message : deserialize(roomId, gunzip(block.getPayload()))) {
+                    if (message.getTimestamp().isBefore(before)) {
+                        collected.add(message);
+                    }
+                }
+                collected.sort(Comparator.comparing(Message::getTimestamp).reversed());
+            }
+        }
+        readCounter.increment();
+
+        boolean hasMore = collected.size() > limit;
+        return new Page(hasMore ? List.copyOf(collected.subList(0, limit)) : List.copyOf(collected), hasMore);
+    }
+
+    /**
+     * 보관된 블록에서 첨부 파일의 방을 찾는다 (원본 메시지가 보관된 파일의 권한 확인용)
+     */
+    public String findRoomIdByFileId(String fileId) {
+        Query query = Query.query(Criteria.where("files").is(fileId));
+        query.fields().include("room");
+        MessageArchive block = mongoTemplate.findOne(query, MessageArchive.class);
+        return block != null ? block.getRoomId() : null;
+    }
+
+    private boolean hasArchived(String roomId, LocalDateTime before) {
+        return mongoTemplate.exists(
+                Query.query(Criteria.where("room").is(roomId).and("start").lt(before)), MessageArchive.class);
+    }
+
+    /**
+     * 지금까지 옮긴 양이 허용 속도를 넘었으면 그만큼 쉰다
+     */
+    private void throttle(int moved, long startedAt) {
+        if (maxMessagesPerSecond <= 0) {
+            return;
+        }
+        long expectedNanos = (long) (moved / maxMessagesPerSecond * 1_000_000_000L);
+        long aheadNanos = expectedNanos - (System.nanoTime() - startedAt);
+        if (aheadNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    byte[] serialize(List<Message> messages) {
+        List<ArchivedMessage> block = messages.stream()
+                .map(m -> new ArchivedMessage(
+                        m.getId(),
+                        m.getSenderId(),
+                        m.getType(),
+                        m.getContent(),
+                        m.getFileId(),
+                        m.getAiType(),
+                        m.toTimestampMillis(),
+                        m.getMentions() == null || m.getMentions().isEmpty() ? null : m.getMentions(),
+                        m.getReactions() == null || m.getReactions().isEmpty() ? null : m.getReactions(),
+                        m.getMetadata() == null || m.getMetadata().isEmpty() ? null : m.getMetadata()))
+                .toList();
+        try {
+            return objectMapper.writeValueAsBytes(block);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    List<Message> deserialize(String roomId, byte[] raw) {
+        try {
+            return objectMapper.readValue(raw, BLOCK_TYPE).stream()
+                    .map(a -> Message.builder()
+                            .id(a.id())
+                            .roomId(roomId)
+                            .senderId(a.sender())
+                            .type(a.type())
+                            .content(a.content())
+                            .fileId(a.file())
+                            .aiType(a.aiType())
+                            .timestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(a.ts()), ZoneId.systemDefault()))
+                            .mentions(a.mentions() != null ? a.mentions() : new ArrayList<>())
+                            .reactions(a.reactions() != null ? a.reactions() : new HashMap<>())
+                            .metadata(a.metadata() != null ? a.metadata() : new HashMap<>())
+                            .build())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] gunzip(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageBucket;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+/**
+ * 버킷 저장 모드 (app.messages.storage=bucket)
+ * 새 메시지를 방의 최신 버킷에 $push로 덧붙이고, 히스토리 페이지는 버킷 문서 1~2개를 읽어 구성한다.
+ * 버킷은 max-messages개가 차거나 window 시간이 지나면 닫히고 다음 메시지부터 새 버킷이 만들어진다.
+ *
+ * messages 컬렉션은 ID 기반 조회/변경(리액션, 읽음, 파일 권한)의 원본으로 그대로 유지하며,
+ * 버킷은 히스토리 조회용 사본이다. 리액션과 읽음 상태는 같은 변경을 버킷에도 반영한다.
+ * 메시지는 저장 후 수정되지 않는다는 전제로, 저장(insert) 시점에만 버킷에 추가한다.
+ *
+ * 버킷은 모드를 켠 뒤 저장된 메시지만 담는다. 방의 가장 오래된 버킷보다 이전 메시지(모드 전환 전 메시지,
+ * 보관 후 정리된 버킷의 메시지)는 MessageLoader가 messages 컬렉션과 보관 블록에서 이어서 읽는다.
+ * 모드를 껐다가 다시 켜면 그 사이 메시지는 버킷 사이의 공백이 되어 히스토리에서 빠지므로,
+ * 다시 켤 때는 message_buckets 컬렉션을 비우고 시작해야 한다.
+ */
+@Slf4j
+@Service
+public class MessageBucketStore {
+
+    public static final String MODE_BUCKET = "bucket";
+
+    /**
+     * 최신순 메시지(최대 limit개)와 더 오래된 메시지 존재 여부
+     * oldestStart는 읽은 버킷 중 가장 오래된 버킷의 시작 시각 (읽은 버킷이 없으면 null).
+     * hasMore가 false이면 그 이전 메시지는 버킷에 없으므로 messages 컬렉션에서 이어서 읽는다.
+     */
+    public record Page(List<Message> messages, boolean hasMore, int bucketsRead, LocalDateTime oldestStart) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int maxMessages;
+    private final Duration window;
+    private final DistributionSummary bucketsPerPage;
+
+    public MessageBucketStore(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.messages.storage:document}") String storage,
+            @Value("${app.messages.bucket.max-messages:100}") int maxMessages,
+            @Value("${app.messages.bucket.window:1h}") Duration window) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = MODE_BUCKET.equalsIgnoreCase(storage);
+        this.maxMessages = Math.max(1, maxMessages);
+        this.window = window;
+        this.bucketsPerPage = DistributionSummary.builder("messages.bucket.page.buckets")
+                .description("Bucket documents read to build one history page")
+                .register(meterRegistry);
+        if (enabled) {
+            log.info("Message bucket storage enabled - max messages: {}, window: {}", this.maxMessages, window);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 방의 열린 버킷(시간 구간 안이고 가득 차지 않은 버킷)에 메시지를 덧붙이고, 없으면 새 버킷을 만든다.
+     * 동시에 두 버킷이 생길 수 있지만 조회 시 시각 순으로 병합하므로 결과는 같다.
+     */
+    public void append(Message message) {
+        if (!enabled || message == null || message.getRoomId() == null) {
+            return;
+        }
+        LocalDateTime timestamp = message.getTimestamp() != null ? message.getTimestamp() : LocalDateTime.now();
+        message.setTimestamp(timestamp);
+
+        Query query = Query.query(Criteria.where("room").is(message.getRoomId())
+                .and("start").lte(timestamp).gt(timestamp.minus(window))
+                .and("count").lt(maxMessages));
+        Update update = new Update()
+                .push("messages", message)
+                .inc("count", 1)
+                .max("end", timestamp)
+                .setOnInsert("start", timestamp);
+
+        try {
+            mongoTemplate.upsert(query, update, MessageBucket.class);
+        } catch (Exception e) {
+            log.error("Failed to append message {} to bucket of room {}", message.getId(), message.getRoomId(), e);
+        }
+    }
+
+    /**
+     * before 이전 메시지를 최신순으로 limit개까지 읽는다.
+     * 버킷을 최신순으로 하나씩 읽다가, 이미 limit+1개를 모았고 다음 버킷이 모두 그보다 오래됐으면 멈춘다.
+     */
+    public Page loadPage(String roomId, LocalDateTime before, int limit) {
+        Query query = Query.query(Criteria.where("room").is(roomId).and("start").lt(before))
+                .with(Sort.by(Sort.Direction.DESC, "start"));
+        // 보통 1~2개면 충분하므로 한 번에 작은 배치만 가져온다
+        query.cursorBatchSize(2);
+
+        List<Message> collected = new ArrayList<>();
+        int bucketsRead = 0;
+        LocalDateTime oldestStart = null;
+        try (Stream<MessageBucket> buckets = mongoTemplate.stream(query, MessageBucket.class)) {
+            for (MessageBucket bucket : (Iterable<MessageBucket>) buckets::iterator) {
+                if (collected.size() > limit
+                        && bucket.getEnd() != null
+                        && bucket.getEnd().isBefore(collected.get(limit).getTimestamp())) {
+                    break;
+                }
+                bucketsRead++;
+                oldestStart = bucket.getStart();
+                for (Message message : bucket.getMessages()) {
+                    if (message.getTimestamp() != null
+                            && message.getTimestamp().isBefore(before)
+                            && !Boolean.TRUE.equals(message.getIsDeleted())) {
+                        collected.add(message);
+                    }
+                }
+                collected.sort(Comparator.comparing(Message::getTimestamp).reversed());
+            }
+        }
+        bucketsPerPage.record(bucketsRead);
+
+        boolean hasMore = collected.size() > limit;
+        List<Message> page = hasMore ? List.copyOf(collected.subList(0, limit)) : List.copyOf(collected);
+        return new Page(page, hasMore, bucketsRead, oldestStart);
+    }
+
+    /**
+     * 메시지가 모두 cutoff 이전인 방의 버킷을 지운다 (메시지 보관 후 호출).
+     * 지운 버킷의 메시지는 messages 컬렉션 또는 보관 블록에서 읽히므로 히스토리에서 빠지지 않는다.
+     */
+    public long pruneRoom(String roomId, LocalDateTime cutoff) {
+        if (!enabled) {
+            return 0;
+        }
+        Query query = Query.query(Criteria.where("room").is(roomId)
+                .and("start").lt(cutoff)
+                .and("end").lt(cutoff));
+        try {
+            return mongoTemplate.remove(query, MessageBucket.class).getDeletedCount();
+        } catch (Exception e) {
+            log.error("Failed to prune buckets of room {}", roomId, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 읽음 처리를 페이지에 포함된 버킷에도 반영 (이미 읽은 사용자는 arrayFilters로 제외)
+     */
+    public void markRead(String roomId, List<Message> messages, String userId) {
+        if (!enabled || messages == null || messages.isEmpty()) {
+            return;
+        }
+        LocalDateTime oldest = messages.stream().map(Message::getTimestamp).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime newest = messages.stream().map(Message::getTimestamp).max(Comparator.naturalOrder()).orElseThrow();
+        List<Object> ids = messages.stream().map(Message::getId).filter(Objects::nonNull).map(MessageBucketStore::toId).toList();
+
+        Message.MessageReader readerInfo = Message.MessageReader.builder()
+                .userId(userId)
+                .readAt(LocalDateTime.now())
+                .build();
+        Update update = new Update()
+                .addToSet("messages.$[m].readers", readerInfo)
+                .filterArray(Criteria.where("m._id").in(ids).and("m.readers.userId").ne(userId));
+        try {
+            mongoTemplate.updateMulti(overlapping(roomId, oldest, newest), update, MessageBucket.class);
+        } catch (Exception e) {
+            log.error("Bucket read status update error for user {}", userId, e);
+        }
+    }
+
+    /**
+     * 리액션 변경 결과(messages 컬렉션의 최신 reactions)를 버킷 사본에 덮어쓴다.
+     */
+    public void updateReactions(Message message) {
+        if (!enabled || message == null || message.getTimestamp() == null) {
+            return;
+        }
+        Map<String, ?> reactions = message.getReactions() != null ? message.getReactions() : Map.of();
+        Query query = overlapping(message.getRoomId(), message.getTimestamp(), message.getTimestamp());
+        query.addCriteria(Criteria.where("messages._id").is(toId(message.getId())));
+        try {
+            mongoTemplate.updateFirst(query, new Update().set("messages.$.reactions", reactions), MessageBucket.class);
+        } catch (Exception e) {
+            log.error("Bucket reaction update error for message {}", message.getId(), e);
+        }
+    }
+
+    private static Query overlapping(String roomId, LocalDateTime oldest, LocalDateTime newest) {
+        return Query.query(Criteria.where("room").is(roomId)
+                .and("start").lte(newest)
+                .and("end").gte(oldest));
+    }
+
+    /**
+     * 내장 문서의 String @Id도 ObjectId 형식이면 ObjectId로 저장되므로 같은 규칙으로 변환해 비교한다.
+     */
+    private static Object toId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    /**
+     * 메시지가 저장되면 버킷 모드일 때 최신 버킷에 추가
+     */
+    @Component
+    public static class MessageBucketListener extends AbstractMongoEventListener<Message> {
+
+        private final MessageBucketStore messageBucketStore;
+
+        public MessageBucketListener(MessageBucketStore messageBucketStore) {
+            this.messageBucketStore = messageBucketStore;
+        }
+
+        @Override
+        public void onAfterSave(AfterSaveEvent<Message> event) {
+            messageBucketStore.append(event.getSource());
+        }
+    }
+}
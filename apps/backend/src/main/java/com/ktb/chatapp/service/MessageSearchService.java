@@ -0,0 +1,230 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.MessageSearchRequest;
+import com.ktb.chatapp.dto.MessageSearchResponse;
+import com.ktb.chatapp.dto.MessageSearchResult;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSearchEntry;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.util.KoreanNgramTokenizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메시지 전문 검색.
+ * 메시지가 저장될 때마다 토큰(한글 bigram, 영문/숫자 단어)을 message_search_index에 기록하고,
+ * 검색은 질의 토큰을 모두 포함한 색인 문서를 최신순으로 읽는다. content 정규식 스캔은 사용하지 않는다.
+ *
+ * 페이지네이션은 (timestamp, id) 키셋 커서라 깊은 페이지도 skip 없이 인덱스 위치에서 바로 이어 읽는다.
+ * 색인은 저장 시점의 내용만 반영한다 (메시지는 저장 후 수정되지 않는다는 전제).
+ * 켜기 전에 저장된 메시지는 색인이 없어 검색되지 않으므로 기본값은 비활성화다.
+ */
+@Slf4j
+@Service
+public class MessageSearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final int SNIPPET_LENGTH = 200;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int maxTerms;
+    private final Counter indexed;
+    private final Timer searchTimer;
+
+    public MessageSearchService(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.messages.search.enabled:false}") boolean enabled,
+            @Value("${app.messages.search.max-terms:256}") int maxTerms) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.maxTerms = Math.max(1, maxTerms);
+        this.indexed = Counter.builder("messages.search.indexed")
+                .description("Messages written to the search index")
+                .register(meterRegistry);
+        this.searchTimer = Timer.builder("messages.search.time")
+                .description("Time to answer one search page")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장된 메시지를 색인한다. 같은 ID로 다시 저장해도 같은 문서를 덮어쓴다.
+     */
+    public void index(Message message) {
+        if (!enabled || message.getId() == null || message.getType() == MessageType.system) {
+            return;
+        }
+        List<String> terms = KoreanNgramTokenizer.tokenize(message.getContent(), maxTerms);
+        if (terms.isEmpty()) {
+            return;
+        }
+        String content = message.getContent().strip();
+        mongoTemplate.save(MessageSearchEntry.builder()
+                .id(message.getId())
+                .roomId(message.getRoomId())
+                .senderId(message.getSenderId())
+                .timestamp(message.getTimestamp())
+                .terms(terms)
+                .snippet(content.length() > SNIPPET_LENGTH ? content.substring(0, SNIPPET_LENGTH) : content)
+                .build());
+        indexed.increment();
+    }
+
+    /**
+     * 질의 토큰을 모두 포함한 메시지를 최신순으로 조회한다.
+     * roomId가 있으면 해당 방(참여 중일 때만), 없으면 사용자가 참여 중인 모든 방이 대상이다.
+     *
+     * @throws IllegalArgumentException 검색어/커서가 올바르지 않을 때
+     * @throws AccessDeniedException 참여하지 않은 방을 지정했을 때
+     * @throws IllegalStateException 검색이 비활성화되어 있을 때 (호출 전에 isEnabled로 확인)
+     */
+    public MessageSearchResponse search(MessageSearchRequest request, String userId) {
+        if (!enabled) {
+            throw new IllegalStateException("메시지 검색이 비활성화되어 있습니다.");
+        }
+        String text = request.query() != null ? request.query().strip() : "";
+        List<String> terms = KoreanNgramTokenizer.tokenize(text, MAX_QUERY_TERMS);
+        if (text.length() < 2 || terms.isEmpty()) {
+            throw new IllegalArgumentException("검색어는 2자 이상 입력해주세요.");
+        }
+        int limit = Math.min(request.limit(DEFAULT_LIMIT), MAX_LIMIT);
+
+        List<String> roomIds = searchableRooms(request.roomId(), userId);
+        if (roomIds.isEmpty()) {
+            return MessageSearchResponse.builder().results(List.of()).hasMore(false).build();
+        }
+
+        Criteria criteria = Criteria.where("terms").all(terms);
+        criteria = roomIds.size() == 1
+                ? criteria.and("roomId").is(roomIds.getFirst())
+                : criteria.and("roomId").in(roomIds);
+        if (request.cursor() != null && !request.cursor().isBlank()) {
+            Cursor cursor = Cursor.parse(request.cursor());
+            criteria = criteria.orOperator(
+                    Criteria.where("timestamp").lt(cursor.timestamp()),
+                    Criteria.where("timestamp").is(cursor.timestamp()).and("id").lt(cursor.id()));
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "timestamp", "id"))
+                .limit(limit + 1);
+        query.fields().exclude("terms");
+
+        List<MessageSearchEntry> entries = searchTimer.record(
+                () -> mongoTemplate.find(query, MessageSearchEntry.class));
+        boolean hasMore = entries.size() > limit;
+        List<MessageSearchEntry> page = hasMore ? entries.subList(0, limit) : entries;
+
+        log.debug("Message search - user: {}, rooms: {}, terms: {}, results: {}, hasMore: {}",
+                userId, roomIds.size(), terms.size(), page.size(), hasMore);
+
+        return MessageSearchResponse.builder()
+                .results(page.stream().map(this::toResult).toList())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? Cursor.of(page.getLast()).encode() : null)
+                .build();
+    }
+
+    private List<String> searchableRooms(String roomId, String userId) {
+        if (roomId != null && !roomId.isBlank()) {
+            boolean participant = mongoTemplate.exists(
+                    Query.query(Criteria.where("_id").is(roomId).and("participantIds").is(userId)), Room.class);
+            if (!participant) {
+                throw new AccessDeniedException("채팅방 접근 권한이 없습니다.");
+            }
+            return List.of(roomId);
+        }
+        Query rooms = Query.query(Criteria.where("participantIds").is(userId));
+        rooms.fields().include("_id");
+        return mongoTemplate.find(rooms, Room.class).stream().map(Room::getId).toList();
+    }
+
+    private MessageSearchResult toResult(MessageSearchEntry entry) {
+        return MessageSearchResult.builder()
+                .messageId(entry.getId())
+                .roomId(entry.getRoomId())
+                .senderId(entry.getSenderId())
+                .snippet(entry.getSnippet())
+                .timestamp(toEpochMillis(entry.getTimestamp()))
+                .build();
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    /**
+     * 키셋 커서 ("epochMillis:messageId")
+     */
+    record Cursor(LocalDateTime timestamp, String id) {
+
+        static Cursor of(MessageSearchEntry entry) {
+            return new Cursor(entry.getTimestamp(), entry.getId());
+        }
+
+        static Cursor parse(String value) {
+            int separator = value.indexOf(':');
+            if (separator <= 0 || separator == value.length() - 1) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            try {
+                long millis = Long.parseLong(value.substring(0, separator));
+                return new Cursor(
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()),
+                        value.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+
+        String encode() {
+            return toEpochMillis(timestamp) + ":" + id;
+        }
+    }
+
+    /**
+     * 메시지 저장 직후 검색 색인 갱신
+     */
+    @Component
+    public static class MessageSearchIndexListener extends AbstractMongoEventListener<Message> {
+
+        private final MessageSearchService messageSearchService;
+
+        public MessageSearchIndexListener(MessageSearchService messageSearchService) {
+            this.messageSearchService = messageSearchService;
+        }
+
+        @Override
+        public void onAfterSave(AfterSaveEvent<Message> event) {
+            try {
+                messageSearchService.index(event.getSource());
+            } catch (Exception e) {
+                // 색인 실패가 메시지 저장/전송을 막지 않도록 기록만 남김
+                log.warn("Failed to index message {} for search", event.getSource().getId(), e);
+            }
+        }
+    }
+}
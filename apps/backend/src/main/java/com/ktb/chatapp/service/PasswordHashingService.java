@@ -0,0 +1,156 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기
+ * 해시 연산을 Tomcat 요청 스레드에서 분리해 로그인 폭주 시에도 다른 API가 응답할 수 있게 한다.
+ * 대기 큐가 가득 차면 즉시 거절(503)하여 요청이 무한정 쌓이지 않게 한다.
+ * 해시 이후의 사용자 저장/세션 생성은 별도의 고정 크기 실행기에서 이어서 수행하며, 이 실행기도 같은 방식으로 거절한다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor continuationExecutor;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter continuationRejectedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.password-hashing.threads:0}") int threads,
+            @Value("${app.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.password-hashing.continuation-threads:16}") int continuationThreads,
+            @Value("${app.password-hashing.continuation-queue-capacity:128}") int continuationQueueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+
+        // BCrypt는 CPU 바운드 작업이므로 코어 수 이상으로 늘려도 처리량이 늘지 않음
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // 해시 이후 작업은 Mongo/Redis I/O 대기가 대부분이므로 해시 풀과 분리하고 크기를 따로 둠
+        int continuationPoolSize = Math.max(1, continuationThreads);
+        this.continuationExecutor = new ThreadPoolExecutor(
+                continuationPoolSize,
+                continuationPoolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, continuationQueueCapacity)),
+                Thread.ofPlatform().name("auth-continuation-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("auth.password.hash.time")
+                .description("Password hashing time")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("auth.password.hash.time")
+                .description("Password hashing time")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+                .description("Time password hashing tasks spend waiting in queue")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        this.continuationRejectedCounter = Counter.builder("auth.continuation.rejected")
+                .description("Post-hash auth tasks rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size())
+                .description("Pending password hashing tasks")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+        Gauge.builder("auth.continuation.queue.depth", continuationExecutor, e -> e.getQueue().size())
+                .description("Pending post-hash auth tasks")
+                .register(meterRegistry);
+
+        log.info("Password hashing executor configured - threads: {}, queueCapacity: {}, "
+                        + "continuationThreads: {}, continuationQueueCapacity: {}",
+                poolSize, queueCapacity, continuationPoolSize, continuationQueueCapacity);
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(matchTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 해시 결과를 받아 이어서 실행할 작업의 실행기
+     * 큐가 가득 차면 PasswordHashingRejectedException으로 후속 단계를 실패시킨다.
+     */
+    public Executor continuationExecutor() {
+        return task -> {
+            try {
+                continuationExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                continuationRejectedCounter.increment();
+                log.warn("Auth continuation queue is full - queued: {}, active: {}",
+                        continuationExecutor.getQueue().size(), continuationExecutor.getActiveCount());
+                throw new PasswordHashingRejectedException(
+                        "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 1);
+            }
+        };
+    }
+
+    private <T> CompletableFuture<T> submit(Timer hashTimer, Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full - queued: {}, active: {}",
+                    executor.getQueue().size(), executor.getActiveCount());
+            return CompletableFuture.failedFuture(new PasswordHashingRejectedException(
+                    "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 1));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        continuationExecutor.shutdown();
+    }
+}
@@ -2,6 +2,7 @@ package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
 import com.ktb.chatapp.event.RoomUpdatedEvent;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
@@ -214,6 +215,7 @@ public class RoomService {
             // 채팅방 참여
             room.getParticipantIds().add(user.getId());
             room = roomRepository.save(room);
+            eventPublisher.publishEvent(new RoomMembershipChangedEvent(this, roomId, user.getId(), true));
         }
         
         // Publish event for room updated
@@ -228,6 +230,13 @@ public class RoomService {
         return room;
     }
 
+    /**
+     * 요청 사용자 없이 방 응답 생성 (다른 노드의 변경을 전달할 때 사용, isCreator는 false)
+     */
+    public RoomResponse toRoomResponse(Room room) {
+        return mapToRoomResponse(room, null, preloadUsersForRooms(List.of(room)));
+    }
+
     private RoomResponse mapToRoomResponse(Room room, String name, Map<String, User> userLookup) {
         if (room == null) return null;
 
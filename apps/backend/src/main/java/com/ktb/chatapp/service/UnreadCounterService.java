@@ -0,0 +1,482 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.event.UnreadCountChangedEvent;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.UnreadCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자/방별 안 읽은 메시지 수
+ * 메시지가 저장되면 보낸 사람을 제외한 참가자의 카운터를 1 올리고, 읽음 위치(watermark)가 앞으로 이동하면 다시 계산한다.
+ * 증가는 저장 경로에서 하지 않고 큐에 넣어 unread-fanout 스레드가 모아서 처리하며, 한 번에 처리한 묶음에서 바뀐 카운터마다 이벤트를 한 번만 발행한다.
+ * 메모리에 올라온 사용자만 증가시키고, 나머지는 처음 다룰 때 스냅샷 이후 메시지를 한 번 세어 맞춘다.
+ * 읽음 위치가 방의 마지막 메시지 이후면 0으로, 중간이면 그 이후 메시지 수를 한 번 세어(room/timestamp 인덱스) 맞춘다.
+ *
+ * 카운터 원본은 메모리에 있고 변경된 항목만 snapshot-interval마다 unread_counters에 일괄 기록한다.
+ * 사용자를 처음 다룰 때 스냅샷을 읽어 오므로, 재시작 시 마지막 스냅샷 이후 증가분만 빠질 수 있고 다음 읽음 처리에서 바로잡힌다.
+ * 카운터는 이 노드에서 저장/읽음 처리된 메시지 기준이다.
+ */
+@Slf4j
+@Service
+public class UnreadCounterService {
+
+    /**
+     * 방 하나에 대한 사용자의 카운터 (entry 단위로 동기화)
+     */
+    static final class Entry {
+        long count;
+        LocalDateTime watermark;
+        // 스냅샷을 읽을 때 이 시각까지의 메시지를 이미 세었다
+        LocalDateTime countedUpTo;
+    }
+
+    /**
+     * 카운터 반영을 기다리는 저장된 메시지
+     */
+    private record Saved(String roomId, String senderId, LocalDateTime timestamp) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration snapshotInterval;
+    private final int maxUsers;
+
+    // userId → (roomId → 카운터)
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Entry>> users = new ConcurrentHashMap<>();
+    // roomId → 참가자 ID (입장/퇴장 이벤트로 무효화)
+    private final ConcurrentHashMap<String, Set<String>> participants = new ConcurrentHashMap<>();
+    // roomId → 마지막으로 카운트한 메시지 시각
+    private final ConcurrentHashMap<String, LocalDateTime> lastMessageAt = new ConcurrentHashMap<>();
+    // 스냅샷이 필요한 "userId:roomId"
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<Saved> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean fanOutScheduled = new AtomicBoolean();
+
+    private final Counter recounts;
+    private ScheduledExecutorService scheduler;
+    private volatile ExecutorService fanOutExecutor;
+
+    public UnreadCounterService(
+            MongoTemplate mongoTemplate,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.unread.snapshot-interval:5s}") Duration snapshotInterval,
+            @Value("${app.unread.max-users:100000}") int maxUsers) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+        this.snapshotInterval = snapshotInterval;
+        this.maxUsers = Math.max(1, maxUsers);
+        this.recounts = Counter.builder("unread.recounts")
+                .description("Unread counts recomputed from Mongo after a partial read or a stale snapshot")
+                .register(meterRegistry);
+        Gauge.builder("unread.users", users, Map::size)
+                .description("Users whose unread counters are held in memory")
+                .register(meterRegistry);
+        Gauge.builder("unread.dirty", dirty, Set::size)
+                .description("Unread counters waiting for the next snapshot")
+                .register(meterRegistry);
+        Gauge.builder("unread.pending", pending, ConcurrentLinkedQueue::size)
+                .description("Saved messages waiting to be applied to unread counters")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("unread-snapshot").daemon(true).factory());
+        long interval = Math.max(100, snapshotInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::snapshotSafely, interval, interval, TimeUnit.MILLISECONDS);
+        fanOutExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("unread-fanout").daemon(true).factory());
+        scheduleFanOut();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (fanOutExecutor != null) {
+            fanOutExecutor.shutdownNow();
+        }
+        fanOutSafely();
+        snapshotSafely();
+    }
+
+    /**
+     * 저장된 메시지를 카운터 반영 큐에 넣는다. 저장 경로에서는 조회나 이벤트 발행을 하지 않는다.
+     */
+    public void onMessageSaved(Message message) {
+        if (message.getRoomId() == null || message.getType() == MessageType.system) {
+            return;
+        }
+        String roomId = message.getRoomId();
+        LocalDateTime timestamp = message.getTimestamp() != null ? message.getTimestamp() : LocalDateTime.now();
+        lastMessageAt.merge(roomId, timestamp, (a, b) -> a.isAfter(b) ? a : b);
+        pending.add(new Saved(roomId, message.getSenderId(), timestamp));
+        scheduleFanOut();
+    }
+
+    /**
+     * 대기 중인 메시지를 보낸 사람을 제외한 방 참가자 중 메모리에 있는 사용자의 카운터에 반영하고,
+     * 바뀐 카운터마다 최종 값으로 이벤트를 한 번 발행한다.
+     */
+    public int fanOut() {
+        Map<String, Long> changes = new LinkedHashMap<>();
+        Saved saved;
+        while ((saved = pending.poll()) != null) {
+            for (String userId : participants(saved.roomId())) {
+                if (userId.equals(saved.senderId())) {
+                    continue;
+                }
+                // 메모리에 없는 사용자는 불러오지 않음 (처음 다룰 때 스냅샷 이후 메시지를 다시 셈)
+                ConcurrentHashMap<String, Entry> rooms = users.get(userId);
+                if (rooms == null) {
+                    continue;
+                }
+                Entry entry = rooms.computeIfAbsent(saved.roomId(), id -> new Entry());
+                synchronized (entry) {
+                    if (entry.watermark != null && !saved.timestamp().isAfter(entry.watermark)
+                            || entry.countedUpTo != null && !saved.timestamp().isAfter(entry.countedUpTo)) {
+                        continue;
+                    }
+                    changes.put(key(userId, saved.roomId()), ++entry.count);
+                }
+            }
+        }
+        changes.forEach((key, count) -> {
+            int separator = key.indexOf(':');
+            changed(key.substring(0, separator), key.substring(separator + 1), count);
+        });
+        return changes.size();
+    }
+
+    private void scheduleFanOut() {
+        ExecutorService executor = fanOutExecutor;
+        if (executor != null && !pending.isEmpty() && fanOutScheduled.compareAndSet(false, true)) {
+            executor.execute(this::fanOutSafely);
+        }
+    }
+
+    private void fanOutSafely() {
+        // 처리 중에 들어온 메시지는 다음 실행에서 처리되도록 먼저 해제
+        fanOutScheduled.set(false);
+        try {
+            fanOut();
+        } catch (Exception e) {
+            // 실패한 묶음의 증가분은 다음 읽음 처리에서 다시 계산됨
+            log.error("Unread counter fan-out failed", e);
+        }
+    }
+
+    /**
+     * 사용자가 readUpTo 시각까지의 메시지를 읽었음을 반영. 읽음 위치는 앞으로만 이동한다.
+     */
+    public void markRead(String userId, String roomId, LocalDateTime readUpTo) {
+        if (userId == null || roomId == null || readUpTo == null) {
+            return;
+        }
+        Entry entry = entry(userId, roomId);
+        synchronized (entry) {
+            if (entry.watermark != null && !readUpTo.isAfter(entry.watermark)) {
+                return;
+            }
+            entry.watermark = readUpTo;
+        }
+
+        LocalDateTime last = lastMessageAt.get(roomId);
+        long count = last != null && !readUpTo.isBefore(last) ? 0 : countAfter(userId, roomId, readUpTo);
+
+        synchronized (entry) {
+            // 그 사이 더 앞선 읽음 처리가 반영됐으면 그 결과를 유지
+            if (!readUpTo.equals(entry.watermark)) {
+                return;
+            }
+            if (entry.count == count) {
+                dirty.add(key(userId, roomId));
+                return;
+            }
+            entry.count = count;
+        }
+        changed(userId, roomId, count);
+    }
+
+    /**
+     * 사용자의 방별 안 읽은 메시지 수 (카운터가 없는 방은 0)
+     */
+    public Map<String, Long> getCounts(String userId) {
+        Map<String, Long> counts = new HashMap<>();
+        rooms(userId).forEach((roomId, entry) -> {
+            synchronized (entry) {
+                counts.put(roomId, entry.count);
+            }
+        });
+        return counts;
+    }
+
+    @EventListener
+    public void onRoomMembershipChanged(RoomMembershipChangedEvent event) {
+        participants.remove(event.getRoomId());
+        String userId = event.getUserId();
+        String roomId = event.getRoomId();
+        if (event.isJoined()) {
+            // 입장 전 메시지는 안 읽은 메시지로 세지 않음
+            Entry entry = entry(userId, roomId);
+            synchronized (entry) {
+                entry.watermark = LocalDateTime.now();
+                entry.count = 0;
+            }
+            changed(userId, roomId, 0);
+            return;
+        }
+        ConcurrentHashMap<String, Entry> rooms = users.get(userId);
+        if (rooms != null) {
+            rooms.remove(roomId);
+        }
+        dirty.remove(key(userId, roomId));
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(key(userId, roomId))), UnreadCounter.class);
+    }
+
+    /**
+     * 변경된 카운터를 한 번의 bulk upsert로 기록한다. 실패한 항목은 다음 주기에 다시 시도한다.
+     */
+    public int snapshot() {
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        List<String> keys = new ArrayList<>(dirty);
+        dirty.removeAll(keys);
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UnreadCounter.class);
+        LocalDateTime now = LocalDateTime.now();
+        int written = 0;
+        for (String key : keys) {
+            int separator = key.indexOf(':');
+            String userId = key.substring(0, separator);
+            String roomId = key.substring(separator + 1);
+            ConcurrentHashMap<String, Entry> rooms = users.get(userId);
+            Entry entry = rooms != null ? rooms.get(roomId) : null;
+            if (entry == null) {
+                continue;
+            }
+            Update update = new Update()
+                    .set("user", userId)
+                    .set("room", roomId)
+                    .set("updatedAt", now);
+            synchronized (entry) {
+                update.set("count", entry.count).set("watermark", entry.watermark);
+            }
+            bulk.upsert(Query.query(Criteria.where("_id").is(key)), update);
+            written++;
+        }
+        if (written == 0) {
+            return 0;
+        }
+        try {
+            bulk.execute();
+        } catch (RuntimeException e) {
+            dirty.addAll(keys);
+            throw e;
+        }
+        evictIfNeeded();
+        return written;
+    }
+
+    private void snapshotSafely() {
+        try {
+            int written = snapshot();
+            if (written > 0) {
+                log.debug("Unread counter snapshot - written: {}", written);
+            }
+        } catch (Exception e) {
+            log.error("Unread counter snapshot failed", e);
+        }
+    }
+
+    private Entry entry(String userId, String roomId) {
+        return rooms(userId).computeIfAbsent(roomId, id -> new Entry());
+    }
+
+    /**
+     * 사용자의 카운터. 스냅샷 조회가 맵의 같은 bin을 쓰는 다른 사용자를 막지 않도록 맵 밖에서 읽고 먼저 넣은 쪽을 쓴다.
+     */
+    private ConcurrentHashMap<String, Entry> rooms(String userId) {
+        ConcurrentHashMap<String, Entry> rooms = users.get(userId);
+        if (rooms != null) {
+            return rooms;
+        }
+        ConcurrentHashMap<String, Entry> loaded = load(userId);
+        rooms = users.putIfAbsent(userId, loaded);
+        return rooms != null ? rooms : loaded;
+    }
+
+    /**
+     * 스냅샷을 읽고, 메모리에 없던 동안 메시지가 저장된 방은 읽음 위치 이후 메시지 수를 한 번 세어 맞춘다.
+     * 센 범위(countedUpTo)까지의 메시지는 아직 fan-out 큐에 남아 있어도 다시 세지 않는다.
+     * 스냅샷이 없는 방은 다시 센 값이 0이면 항목을 만들지 않는다 (보낸 메시지만 있는 방 등).
+     */
+    private ConcurrentHashMap<String, Entry> load(String userId) {
+        ConcurrentHashMap<String, Entry> rooms = new ConcurrentHashMap<>();
+        Map<String, LocalDateTime> snapshotAt = new HashMap<>();
+        for (UnreadCounter snapshot : mongoTemplate.find(
+                Query.query(Criteria.where("userId").is(userId)), UnreadCounter.class)) {
+            Entry entry = new Entry();
+            entry.count = snapshot.getCount();
+            entry.watermark = snapshot.getWatermark();
+            rooms.put(snapshot.getRoomId(), entry);
+            snapshotAt.put(snapshot.getRoomId(), snapshot.getUpdatedAt());
+        }
+        lastMessageAt.forEach((roomId, last) -> {
+            Entry entry = rooms.get(roomId);
+            if (entry == null) {
+                Set<String> members = participants.get(roomId);
+                if (members == null || !members.contains(userId)) {
+                    return;
+                }
+                long count = count(userId, roomId, null, last);
+                if (count == 0) {
+                    return;
+                }
+                entry = new Entry();
+                entry.count = count;
+                rooms.put(roomId, entry);
+            } else {
+                LocalDateTime updatedAt = snapshotAt.get(roomId);
+                if (updatedAt != null && !last.isAfter(updatedAt)) {
+                    return;
+                }
+                entry.count = count(userId, roomId, entry.watermark, last);
+            }
+            entry.countedUpTo = last;
+            dirty.add(key(userId, roomId));
+        });
+        return rooms;
+    }
+
+    private Set<String> participants(String roomId) {
+        Set<String> cached = participants.get(roomId);
+        if (cached != null) {
+            return cached;
+        }
+        // 조회는 맵 밖에서 (rooms 참고)
+        Query query = Query.query(Criteria.where("_id").is(roomId));
+        query.fields().include("participantIds");
+        Room room = mongoTemplate.findOne(query, Room.class);
+        Set<String> loaded = room != null && room.getParticipantIds() != null
+                ? Set.copyOf(room.getParticipantIds())
+                : Set.of();
+        cached = participants.putIfAbsent(roomId, loaded);
+        return cached != null ? cached : loaded;
+    }
+
+    private long countAfter(String userId, String roomId, LocalDateTime after) {
+        return count(userId, roomId, after, null);
+    }
+
+    /**
+     * (after, upTo] 구간의 안 읽은 메시지 수. 경계가 null이면 그쪽은 제한하지 않는다.
+     */
+    private long count(String userId, String roomId, LocalDateTime after, LocalDateTime upTo) {
+        recounts.increment();
+        Criteria criteria = Criteria.where("roomId").is(roomId)
+                .and("isDeleted").is(false)
+                .and("senderId").ne(userId)
+                .and("type").ne(MessageType.system);
+        if (after != null || upTo != null) {
+            Criteria timestamp = criteria.and("timestamp");
+            if (after != null) {
+                timestamp.gt(after);
+            }
+            if (upTo != null) {
+                timestamp.lte(upTo);
+            }
+        }
+        return mongoTemplate.count(Query.query(criteria), Message.class);
+    }
+
+    private void changed(String userId, String roomId, long count) {
+        dirty.add(key(userId, roomId));
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(this, userId, roomId, count));
+    }
+
+    /**
+     * 메모리에 둔 사용자 수가 max-users를 넘으면 스냅샷이 끝난 사용자부터 내려놓는다 (다음 접근 시 스냅샷에서 다시 읽음)
+     */
+    private void evictIfNeeded() {
+        if (users.size() <= maxUsers) {
+            return;
+        }
+        Set<String> pending = new HashSet<>();
+        dirty.forEach(key -> pending.add(key.substring(0, key.indexOf(':'))));
+        Iterator<String> iterator = users.keySet().iterator();
+        while (users.size() > maxUsers && iterator.hasNext()) {
+            if (!pending.contains(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static String key(String userId, String roomId) {
+        return userId + ":" + roomId;
+    }
+
+    /**
+     * 메시지 저장 직후 카운터 반영 큐에 추가
+     */
+    @Component
+    public static class UnreadMessageListener extends AbstractMongoEventListener<Message> {
+
+        private final UnreadCounterService unreadCounterService;
+
+        public UnreadMessageListener(UnreadCounterService unreadCounterService) {
+            this.unreadCounterService = unreadCounterService;
+        }
+
+        @Override
+        public void onAfterSave(AfterSaveEvent<Message> event) {
+            try {
+                unreadCounterService.onMessageSaved(event.getSource());
+            } catch (Exception e) {
+                // 카운터 갱신 실패가 메시지 저장/전송을 막지 않도록 기록만 남김 (다음 읽음 처리에서 다시 계산됨)
+                log.warn("Failed to update unread counters for message {}", event.getSource().getId(), e);
+            }
+        }
+    }
+}
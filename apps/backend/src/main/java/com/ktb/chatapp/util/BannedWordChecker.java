@@ -1,29 +1,157 @@
 package com.ktb.chatapp.util;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 import org.springframework.util.Assert;
 
+/**
+ * 금칙어 검사기 (Aho-Corasick 오토마톤)
+ * 사전 크기와 무관하게 메시지를 한 번만 훑는다. 상태 전이를 공개해 다른 스캐너가
+ * 자기 루프 안에서 금칙어 검사를 함께 수행할 수 있다 ({@link com.ktb.chatapp.dto.MessageContent}).
+ * 대소문자는 문자 단위 {@link Character#toLowerCase(char)}로 맞추므로 메시지 전체를 소문자로 복사하지 않는다.
+ */
 public class BannedWordChecker {
-    
-    private final Set<String> bannedWords;
-    
+
+    /** 초기 상태 */
+    public static final int ROOT = 0;
+
+    // 노드 i의 간선은 edgeChars/edgeTargets[edgeStart[i], edgeStart[i + 1]) 구간에 문자 순으로 정렬되어 있다
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] failure;
+    // 해당 상태에서 끝나는 금칙어가 있는지 (실패 링크를 따라 도달하는 접미사 포함)
+    private final boolean[] terminal;
+
     public BannedWordChecker(Set<String> bannedWords) {
-        this.bannedWords =
+        List<String> words =
                 bannedWords.stream()
                         .filter(word -> word != null && !word.isBlank())
                         .map(word -> word.toLowerCase(Locale.ROOT))
-                        .collect(Collectors.toUnmodifiableSet());
-        Assert.notEmpty(this.bannedWords, "Banned words set must not be empty");
+                        .distinct()
+                        .toList();
+        Assert.notEmpty(words, "Banned words set must not be empty");
+
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(false);
+        int edgeCount = 0;
+        for (String word : words) {
+            int node = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                Integer next = trie.get(node).get(word.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(word.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    ends.add(false);
+                    edgeCount++;
+                }
+                node = next;
+            }
+            ends.set(node, true);
+        }
+
+        int nodes = trie.size();
+        edgeStart = new int[nodes + 1];
+        edgeChars = new char[edgeCount];
+        edgeTargets = new int[edgeCount];
+        terminal = new boolean[nodes];
+        int edge = 0;
+        for (int node = 0; node < nodes; node++) {
+            edgeStart[node] = edge;
+            for (Map.Entry<Character, Integer> entry : trie.get(node).entrySet()) {
+                edgeChars[edge] = entry.getKey();
+                edgeTargets[edge] = entry.getValue();
+                edge++;
+            }
+            terminal[node] = ends.get(node);
+        }
+        edgeStart[nodes] = edge;
+        failure = buildFailureLinks(nodes);
+    }
+
+    /**
+     * 너비 우선으로 실패 링크 계산. 얕은 노드가 먼저 처리되므로 접미사의 terminal 값을 그대로 물려받는다.
+     */
+    private int[] buildFailureLinks(int nodes) {
+        int[] links = new int[nodes];
+        int[] queue = new int[nodes];
+        int head = 0;
+        int tail = 0;
+        for (int edge = edgeStart[ROOT]; edge < edgeStart[ROOT + 1]; edge++) {
+            queue[tail++] = edgeTargets[edge];
+        }
+        while (head < tail) {
+            int node = queue[head++];
+            for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; edge++) {
+                int child = edgeTargets[edge];
+                int fallback = links[node];
+                int target;
+                while ((target = child(fallback, edgeChars[edge])) < 0 && fallback != ROOT) {
+                    fallback = links[fallback];
+                }
+                links[child] = target >= 0 ? target : ROOT;
+                terminal[child] |= terminal[links[child]];
+                queue[tail++] = child;
+            }
+        }
+        return links;
     }
-    
+
     public boolean containsBannedWord(String message) {
         if (message == null || message.isBlank()) {
             return false;
         }
-        
-        String normalizedMessage = message.toLowerCase(Locale.ROOT);
-        return bannedWords.stream().anyMatch(normalizedMessage::contains);
+
+        int state = ROOT;
+        for (int i = 0; i < message.length(); i++) {
+            state = next(state, message.charAt(i));
+            if (terminal[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 현재 상태에서 문자 하나를 읽은 다음 상태
+     */
+    public int next(int state, char c) {
+        char lower = Character.toLowerCase(c);
+        int target;
+        while ((target = child(state, lower)) < 0 && state != ROOT) {
+            state = failure[state];
+        }
+        return target >= 0 ? target : ROOT;
+    }
+
+    /**
+     * 이 상태에 도달했을 때 금칙어가 하나 이상 끝났는지
+     */
+    public boolean isMatch(int state) {
+        return terminal[state];
+    }
+
+    private int child(int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = edgeChars[mid];
+            if (label < c) {
+                low = mid + 1;
+            } else if (label > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
     }
 }
@@ -0,0 +1,84 @@
+package com.ktb.chatapp.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 메시지 검색용 토크나이저.
+ * 한글은 띄어쓰기/조사 때문에 단어 단위 색인이 잘 맞지 않아 음절 bigram으로 나누고,
+ * 영문/숫자는 소문자 단어 그대로 색인한다. 그 외 문자(공백, 기호, 이모지)는 구분자로 취급한다.
+ *
+ * 예) "배포 완료했어요 v2.1" → [배포, 완료, 료했, 했어, 어요, v2, 1]
+ * 색인과 질의에 같은 규칙을 쓰므로, 질의 토큰이 모두 포함된 메시지가 검색 결과가 된다.
+ */
+public final class KoreanNgramTokenizer {
+
+    private static final int HANGUL = 1;
+    private static final int ALNUM = 2;
+    private static final int OTHER = 0;
+
+    private KoreanNgramTokenizer() {
+        // 유틸리티 클래스 - 인스턴스 생성 방지
+        throw new AssertionError("Cannot instantiate KoreanNgramTokenizer");
+    }
+
+    /**
+     * 중복을 제거한 토큰 목록 (최대 maxTerms개, 등장 순서 유지)
+     */
+    public static List<String> tokenize(String text, int maxTerms) {
+        if (text == null || text.isBlank() || maxTerms <= 0) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        Set<String> terms = new LinkedHashSet<>();
+
+        int runStart = 0;
+        int runType = OTHER;
+        int i = 0;
+        while (i <= normalized.length()) {
+            int type = i < normalized.length() ? classify(normalized.codePointAt(i)) : OTHER;
+            if (type != runType) {
+                emit(normalized, runStart, i, runType, terms, maxTerms);
+                if (terms.size() >= maxTerms) {
+                    break;
+                }
+                runStart = i;
+                runType = type;
+            }
+            if (i == normalized.length()) {
+                break;
+            }
+            i += Character.charCount(normalized.codePointAt(i));
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private static void emit(String text, int start, int end, int type, Set<String> terms, int maxTerms) {
+        if (type == ALNUM) {
+            terms.add(text.substring(start, end));
+        } else if (type == HANGUL) {
+            // 한글 음절은 모두 BMP 문자라 char 인덱스로 바로 자를 수 있음
+            if (end - start == 1) {
+                terms.add(text.substring(start, end));
+                return;
+            }
+            for (int i = start; i + 2 <= end && terms.size() < maxTerms; i++) {
+                terms.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static int classify(int codePoint) {
+        if (codePoint >= 0xAC00 && codePoint <= 0xD7A3) {
+            return HANGUL;
+        }
+        if (Character.isLetterOrDigit(codePoint)) {
+            return ALNUM;
+        }
+        return OTHER;
+    }
+}
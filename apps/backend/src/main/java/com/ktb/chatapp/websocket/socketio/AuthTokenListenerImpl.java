@@ -13,6 +13,7 @@ import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
@@ -32,6 +33,9 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
     private final UserRepository userRepository;
     private final ObjectProvider<ConnectionLoginHandler> socketIOChatHandlerProvider;
 
+    @Value("${socketio.msgpack.enabled:false}")
+    private boolean msgpackEnabled;
+
     @Override
     public AuthTokenResult getAuthTokenResult(Object _authToken, SocketIOClient client) {
         try {
@@ -70,6 +74,9 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
 
             log.info("Socket.IO connection authorized for user: {} ({})", user.getName(), userId);
             
+            // 페이로드 코덱 협상 (auth.codec = "msgpack"), 기본 JSON
+            WireCodec.negotiate(authToken.get("codec"), msgpackEnabled).applyTo(client);
+
             var socketUser = new SocketUser(user.getId(), user.getName(), sessionId, client.getSessionId().toString());
             socketIOChatHandlerProvider.getObject().onConnect(client, socketUser);
             return AuthTokenResult.AuthTokenResultSuccess;
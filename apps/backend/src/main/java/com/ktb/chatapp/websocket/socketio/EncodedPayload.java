@@ -0,0 +1,52 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 한 번 JSON으로 인코딩된 이벤트 페이로드
+ * 패킷 인코더가 클라이언트마다 페이로드를 직렬화하는 대신 미리 만든 UTF-8 바이트를 그대로 복사한다.
+ * 불변 객체이므로 여러 클라이언트 채널에서 동시에 써도 안전하다.
+ */
+@JsonSerialize(using = EncodedPayload.Serializer.class)
+public final class EncodedPayload {
+
+    private final SerializedString json;
+    private final int size;
+
+    EncodedPayload(byte[] utf8) {
+        this.json = new SerializedString(new String(utf8, StandardCharsets.UTF_8));
+        this.size = utf8.length;
+        // UTF-8 바이트를 미리 계산해 캐싱 (이후 채널별 인코딩은 바이트 복사만 수행)
+        this.json.asUnquotedUTF8();
+    }
+
+    /**
+     * 인코딩된 페이로드 크기 (bytes)
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return json.getValue();
+    }
+
+    static class Serializer extends StdSerializer<EncodedPayload> {
+
+        Serializer() {
+            super(EncodedPayload.class);
+        }
+
+        @Override
+        public void serialize(EncodedPayload value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeRawValue(value.json);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+/**
+ * MessagePack 페이로드 인코더/디코더
+ * JSON 인코딩과 같은 Jackson 어노테이션(@JsonProperty("_id") 등)과 NON_NULL 규칙을 따르므로
+ * 클라이언트는 디코딩 후 JSON과 같은 구조의 객체를 얻는다.
+ */
+public class MessagePackCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public MessagePackCodec(Module... modules) {
+        this.objectMapper = new ObjectMapper(new MessagePackFactory());
+        objectMapper.registerModules(modules);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    public byte[] encode(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to encode MessagePack payload", e);
+        }
+    }
+
+    public <T> T decode(byte[] bytes, Class<T> type) {
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to decode MessagePack payload", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.websocket.socketio.backpressure.SlowConsumerGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 단위 이벤트 브로드캐스트
+ * 페이로드를 브로드캐스트당 한 번만 JSON으로 인코딩하고, 방의 모든 클라이언트가 같은 인코딩 결과를 공유한다.
+ * 방 인원이 N명일 때 Jackson 직렬화가 N번에서 1번으로 줄고 클라이언트별로는 바이트 복사만 남는다.
+ *
+ * MessagePack이 활성화되어 있으면 클라이언트가 협상한 코덱별로 한 번씩 인코딩해 나눠 보낸다.
+ * 쓰기 버퍼가 밀린 클라이언트가 있을 때만 클라이언트마다 SlowConsumerGuard를 거쳐 보내고,
+ * 평소에는 netty-socketio 브로드캐스트로 한 번에 보낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoomBroadcaster {
+
+    private final SocketIOServer socketIOServer;
+    private final SocketIOJsonSupport jsonSupport;
+    private final SlowConsumerGuard slowConsumerGuard;
+
+    @Value("${socketio.msgpack.enabled:false}")
+    private boolean msgpackEnabled;
+
+    public void sendEvent(String room, String event, Object payload) {
+        BroadcastOperations operations = socketIOServer.getRoomOperations(room);
+        if (!msgpackEnabled && !slowConsumerGuard.hasSlowClients()) {
+            operations.sendEvent(event, jsonSupport.encode(payload));
+            return;
+        }
+
+        Object json = null;
+        Object msgpack = null;
+        for (SocketIOClient client : operations.getClients()) {
+            if (msgpackEnabled && WireCodec.of(client) == WireCodec.MSGPACK) {
+                if (msgpack == null) {
+                    msgpack = jsonSupport.encode(WireCodec.MSGPACK, payload);
+                }
+                slowConsumerGuard.send(client, room, event, msgpack);
+            } else {
+                if (json == null) {
+                    json = jsonSupport.encode(payload);
+                }
+                slowConsumerGuard.send(client, room, event, json);
+            }
+        }
+    }
+
+    /**
+     * 단일 클라이언트 응답 (이전 메시지 페이지, 입장 응답, 오류 등)을 클라이언트 코덱으로 전송
+     */
+    public void sendToClient(SocketIOClient client, String event, Object payload) {
+        if (msgpackEnabled && WireCodec.of(client) == WireCodec.MSGPACK) {
+            slowConsumerGuard.send(client, null, event, jsonSupport.encode(WireCodec.MSGPACK, payload));
+        } else {
+            slowConsumerGuard.send(client, null, event, payload);
+        }
+    }
+}
@@ -46,6 +46,24 @@ public final class SocketIOEvents {
      * Payload: { messageId, reaction, type }
      */
     public static final String MESSAGE_REACTION = "messageReaction";
+
+    /**
+     * 메시지 검색
+     * Payload: { query, roomId, cursor, limit }
+     */
+    public static final String SEARCH_MESSAGES = "searchMessages";
+
+    /**
+     * 방별 안 읽은 메시지 수 요청
+     * Payload: 없음
+     */
+    public static final String GET_UNREAD_COUNTS = "getUnreadCounts";
+
+    /**
+     * 입력 중 알림 (입력하는 동안 반복 전송, 저장하지 않음)
+     * Payload: roomId (String)
+     */
+    public static final String TYPING = "typing";
     
     // ============================================
     // Server → Client Events (전송 이벤트)
@@ -66,6 +84,8 @@ public final class SocketIOEvents {
     /**
      * 채팅방 입장 성공
      * Payload: JoinRoomSuccessResponse
+     * activeStreams[].seq는 content에 이미 포함된 마지막 청크 순번이며,
+     * 클라이언트는 해당 메시지의 aiMessageChunk 중 seq가 이 값 이하인 것을 버린다.
      */
     public static final String JOIN_ROOM_SUCCESS = "joinRoomSuccess";
 
@@ -86,6 +106,30 @@ public final class SocketIOEvents {
      */
     public static final String MESSAGE_LOAD_START = "messageLoadStart";
 
+    /**
+     * 메시지 검색 결과
+     * Payload: { results, hasMore, nextCursor }
+     */
+    public static final String SEARCH_MESSAGES_RESULT = "searchMessagesResult";
+
+    /**
+     * 방별 안 읽은 메시지 수 (getUnreadCounts 응답)
+     * Payload: { roomId: count }
+     */
+    public static final String UNREAD_COUNTS = "unreadCounts";
+
+    /**
+     * 안 읽은 메시지 수 변경 (user:{id} 방으로 전송)
+     * Payload: { roomId, count }
+     */
+    public static final String UNREAD_COUNT_UPDATE = "unreadCountUpdate";
+
+    /**
+     * 방의 입력 중 사용자 목록 (방당 주기별 1회)
+     * Payload: { roomId, users: [{ id, name }], count }
+     */
+    public static final String TYPING_UPDATE = "typingUpdate";
+
     /**
      * 참가자 업데이트
      * Payload: List<UserDto>
@@ -152,8 +196,10 @@ public final class SocketIOEvents {
     public static final String AI_MESSAGE_START = "aiMessageStart";
 
     /**
-     * AI 스트리밍 청크
-     * Payload: { messageId, currentChunk, fullContent, isCodeBlock, timestamp, aiType, isComplete }
+     * AI 스트리밍 청크 (delta 방식)
+     * Payload: { messageId, seq, delta, fullContent?, isCodeBlock, isComplete }
+     * seq는 1부터 증가하며 fullContent는 스냅샷 청크에만 포함된다.
+     * seq가 건너뛰면 다음 스냅샷까지 delta를 버리고 스냅샷으로 내용을 교체한다.
      */
     public static final String AI_MESSAGE_CHUNK = "aiMessageChunk";
 
@@ -0,0 +1,48 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.Module;
+
+/**
+ * Socket.IO 패킷 인코딩용 JsonSupport
+ * 패킷 인코더와 같은 ObjectMapper 설정(NON_NULL 등)으로 페이로드를 미리 인코딩할 수 있게 한다.
+ * MessagePack을 협상한 클라이언트용 인코딩도 같은 모듈 구성으로 제공한다.
+ */
+public class SocketIOJsonSupport extends JacksonJsonSupport {
+
+    private final MessagePackCodec messagePackCodec;
+
+    public SocketIOJsonSupport(Module... modules) {
+        super(modules);
+        this.messagePackCodec = new MessagePackCodec(modules);
+    }
+
+    /**
+     * 페이로드를 한 번 인코딩해 여러 클라이언트에 재사용할 수 있는 형태로 반환
+     */
+    public EncodedPayload encode(Object payload) {
+        if (payload instanceof EncodedPayload encoded) {
+            return encoded;
+        }
+        try {
+            // 패킷 인코더와 같은 UTF-8 생성기를 써야 결과가 바이트 단위로 같다
+            // (문자 기반 writeValueAsString은 BMP 밖 문자를 이스케이프하지 않는다)
+            return new EncodedPayload(objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to encode Socket.IO payload", e);
+        }
+    }
+
+    /**
+     * 클라이언트 코덱에 맞는 이벤트 인자 반환
+     * JSON은 EncodedPayload, MSGPACK은 바이너리 첨부로 전송될 byte[]
+     */
+    public Object encode(WireCodec codec, Object payload) {
+        return codec == WireCodec.MSGPACK ? messagePackCodec.encode(payload) : encode(payload);
+    }
+
+    public MessagePackCodec messagePack() {
+        return messagePackCodec;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+
+/**
+ * 클라이언트별 서버 → 클라이언트 페이로드 인코딩 방식
+ * 핸드셰이크 auth.codec 값으로 협상하며 기본값은 JSON이다.
+ *
+ * MSGPACK 클라이언트는 이벤트 인자로 MessagePack 바이트(ArrayBuffer) 하나를 받는다.
+ * Socket.IO 바이너리 첨부로 전송되므로 base64 변환 없이 바이너리 프레임으로 전달된다.
+ */
+public enum WireCodec {
+    JSON,
+    MSGPACK;
+
+    static final String CLIENT_KEY = "wireCodec";
+
+    /**
+     * 핸드셰이크에서 요청한 코덱 결정 (서버에서 MessagePack을 허용하지 않으면 항상 JSON)
+     */
+    public static WireCodec negotiate(Object requested, boolean msgpackEnabled) {
+        if (msgpackEnabled && requested != null && "msgpack".equalsIgnoreCase(requested.toString())) {
+            return MSGPACK;
+        }
+        return JSON;
+    }
+
+    public static WireCodec of(SocketIOClient client) {
+        WireCodec codec = client.get(CLIENT_KEY);
+        return codec != null ? codec : JSON;
+    }
+
+    public void applyTo(SocketIOClient client) {
+        client.set(CLIENT_KEY, this);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * AI 스트리밍 청크 병합기
+ * 모델이 초당 수십 개씩 내보내는 작은 토큰을 스트림별 시간 창(window) 단위로 모아 하나의 프레임으로 만든다.
+ * 프레임마다 이벤트 발행과 방 전체 브로드캐스트가 한 번씩 일어나므로 프레임 수가 곧 브로드캐스트 수다.
+ *
+ * 코드 블록 상태는 병합 전에 청크 단위로 계산되며, 병합된 프레임은 마지막 청크의 상태를 가진다.
+ * 한 프레임은 max-bytes를 넘지 않도록 나눈다 (단일 청크가 더 큰 경우는 그대로 전송).
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiChunkCoalescer {
+
+    private final Duration window;
+    private final int maxChunks;
+    private final int maxBytes;
+    private final Counter chunksCounter;
+    private final Counter framesCounter;
+    private final Counter framesSavedCounter;
+
+    @Autowired
+    public AiChunkCoalescer(
+            @Value("${app.ai.stream.coalesce.window-ms:50}") long windowMs,
+            @Value("${app.ai.stream.coalesce.max-chunks:64}") int maxChunks,
+            @Value("${app.ai.stream.coalesce.max-bytes:2048}") int maxBytes,
+            MeterRegistry meterRegistry) {
+        this(Duration.ofMillis(windowMs), maxChunks, maxBytes, meterRegistry);
+    }
+
+    public AiChunkCoalescer(Duration window, int maxChunks, int maxBytes, MeterRegistry meterRegistry) {
+        this.window = window;
+        this.maxChunks = Math.max(1, maxChunks);
+        this.maxBytes = Math.max(1, maxBytes);
+        this.chunksCounter = Counter.builder("ai.stream.chunks")
+                .description("AI stream chunks received from the model")
+                .register(meterRegistry);
+        this.framesCounter = Counter.builder("ai.stream.frames")
+                .description("AI stream frames emitted after coalescing")
+                .register(meterRegistry);
+        this.framesSavedCounter = Counter.builder("ai.stream.frames.saved")
+                .description("AI stream chunks merged into an earlier frame instead of being broadcast")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return !window.isZero() && !window.isNegative();
+    }
+
+    public Flux<ChunkData> coalesce(Flux<ChunkData> chunks) {
+        if (!isEnabled()) {
+            return chunks;
+        }
+        return chunks
+                .bufferTimeout(maxChunks, window)
+                .concatMapIterable(this::toFrames);
+    }
+
+    private List<ChunkData> toFrames(List<ChunkData> batch) {
+        List<ChunkData> frames = new ArrayList<>(1);
+        int start = 0;
+        int bytes = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            int size = utf8Length(batch.get(i).currentChunk());
+            if (i > start && bytes + size > maxBytes) {
+                frames.add(ChunkData.merge(batch.subList(start, i)));
+                start = i;
+                bytes = 0;
+            }
+            bytes += size;
+        }
+        frames.add(ChunkData.merge(batch.subList(start, batch.size())));
+
+        chunksCounter.increment(batch.size());
+        framesCounter.increment(frames.size());
+        framesSavedCounter.increment(batch.size() - frames.size());
+        return frames;
+    }
+
+    private static int utf8Length(String text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
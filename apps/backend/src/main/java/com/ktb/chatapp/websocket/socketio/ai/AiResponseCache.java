@@ -0,0 +1,178 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.model.AiType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * AI 페르소나 응답 캐시 (opt-in, app.ai.cache.enabled)
+ * (AiType, 정규화된 질문)을 키로 모델이 내보낸 토큰 목록을 보관하고, 적중 시 같은 토큰을 스트림으로 재생한다.
+ * 재생된 토큰은 실제 응답과 동일하게 코드 블록 계산/병합 파이프라인을 거친다.
+ *
+ * 같은 키의 요청이 동시에 들어오면 첫 요청의 upstream 호출 하나를 공유한다 (single-flight).
+ * 오류로 끝난 응답은 캐싱하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiResponseCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s?!.~。？！]+$");
+
+    record Key(AiType aiType, String query) {
+    }
+
+    private record Entry(List<String> tokens, long createdAtMillis) {
+    }
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+    private final ConcurrentHashMap<Key, Entry> cache = new ConcurrentHashMap<>();
+    private final Map<Key, Flux<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter sharedCounter;
+    private final Counter tokensSavedCounter;
+
+    @Autowired
+    public AiResponseCache(
+            @Value("${app.ai.cache.enabled:false}") boolean enabled,
+            @Value("${app.ai.cache.ttl:10m}") Duration ttl,
+            @Value("${app.ai.cache.max-entries:1000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        this(enabled, ttl, maxEntries, meterRegistry, Clock.systemUTC());
+    }
+
+    public AiResponseCache(boolean enabled, Duration ttl, int maxEntries, MeterRegistry meterRegistry, Clock clock) {
+        this.enabled = enabled;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+
+        Gauge.builder("ai.cache.size", cache, Map::size)
+                .description("AI responses currently cached")
+                .register(meterRegistry);
+        this.hitCounter = requests(meterRegistry, "hit");
+        this.missCounter = requests(meterRegistry, "miss");
+        this.sharedCounter = requests(meterRegistry, "shared");
+        this.tokensSavedCounter = Counter.builder("ai.cache.tokens.saved")
+                .description("Model tokens served from the cache or a shared in-flight call instead of a new upstream call")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 적중 시 저장된 토큰을, 동일 요청이 진행 중이면 그 스트림을 공유하고, 아니면 upstream을 호출한다.
+     */
+    public Flux<String> stream(AiType aiType, String query, Supplier<Flux<String>> upstream) {
+        if (!enabled || query == null) {
+            return upstream.get();
+        }
+
+        Key key = new Key(aiType, normalize(query));
+        long now = clock.millis();
+        Entry entry = cache.get(key);
+        if (entry != null) {
+            if (isLive(entry, now)) {
+                hitCounter.increment();
+                tokensSavedCounter.increment(entry.tokens().size());
+                return Flux.fromIterable(entry.tokens());
+            }
+            cache.remove(key, entry);
+        }
+
+        boolean[] created = new boolean[1];
+        Flux<String> shared = inFlight.computeIfAbsent(key, k -> {
+            created[0] = true;
+            return record(k, upstream.get());
+        });
+
+        if (created[0]) {
+            missCounter.increment();
+            return shared;
+        }
+        sharedCounter.increment();
+        return shared.doOnNext(token -> tokensSavedCounter.increment());
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 공백/대소문자/끝 문장부호 차이만 있는 질문을 같은 키로 취급
+     */
+    static String normalize(String query) {
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return TRAILING_PUNCTUATION.matcher(normalized).replaceAll("");
+    }
+
+    /**
+     * upstream 토큰을 모으면서 구독자 간에 공유되는 스트림 생성.
+     * 모든 구독자가 취소하면 upstream도 취소되고, 정상 완료된 경우에만 캐시에 저장한다.
+     */
+    private Flux<String> record(Key key, Flux<String> upstream) {
+        List<String> tokens = Collections.synchronizedList(new ArrayList<>());
+        return upstream
+                .doOnNext(tokens::add)
+                .doOnComplete(() -> put(key, List.copyOf(tokens)))
+                .doFinally(signal -> inFlight.remove(key))
+                .replay()
+                .refCount();
+    }
+
+    private void put(Key key, List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        long now = clock.millis();
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> !isLive(entry, now));
+        }
+        // 만료 정리 후에도 가득 차 있으면 가장 오래된 항목부터 제거
+        while (cache.size() >= maxEntries) {
+            cache.entrySet().stream()
+                    .min((a, b) -> Long.compare(a.getValue().createdAtMillis(), b.getValue().createdAtMillis()))
+                    .ifPresent(oldest -> cache.remove(oldest.getKey(), oldest.getValue()));
+        }
+        cache.put(key, new Entry(tokens, now));
+        log.debug("AI response cached - aiType: {}, tokens: {}, size: {}", key.aiType(), tokens.size(), cache.size());
+    }
+
+    private boolean isLive(Entry entry, long now) {
+        return now - entry.createdAtMillis() < ttlMillis;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.cache.requests")
+                .description("AI response cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -2,6 +2,7 @@ package com.ktb.chatapp.websocket.socketio.ai;
 
 import com.ktb.chatapp.dto.MessageContent;
 import com.ktb.chatapp.event.AiMessageCompleteEvent;
+import com.ktb.chatapp.event.AiMessageErrorEvent;
 import com.ktb.chatapp.event.AiMessageSavedEvent;
 import com.ktb.chatapp.event.AiMessageStartEvent;
 import com.ktb.chatapp.model.AiType;
@@ -13,6 +14,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
@@ -31,14 +33,26 @@ public class AiService {
     private final ChatClient chatClient;
     private final ApplicationEventPublisher eventPublisher;
     private final MessageRepository messageRepository;
+    private final AiChunkCoalescer chunkCoalescer;
+    private final AiStreamRegistry streamRegistry;
+    private final AiResponseCache responseCache;
+    private final int snapshotInterval;
 
     public AiService(
             ChatClient.Builder chatClientBuilder,
             ApplicationEventPublisher eventPublisher,
-            MessageRepository messageRepository) {
+            MessageRepository messageRepository,
+            AiChunkCoalescer chunkCoalescer,
+            AiStreamRegistry streamRegistry,
+            AiResponseCache responseCache,
+            @Value("${app.ai.stream.snapshot-interval:32}") int snapshotInterval) {
         this.chatClient = chatClientBuilder.build();
         this.eventPublisher = eventPublisher;
         this.messageRepository = messageRepository;
+        this.chunkCoalescer = chunkCoalescer;
+        this.streamRegistry = streamRegistry;
+        this.responseCache = responseCache;
+        this.snapshotInterval = snapshotInterval;
     }
 
     public void handleAIMentions(String roomId, String userId, MessageContent messageContent) {
@@ -54,14 +68,6 @@ public class AiService {
         var timestamp = System.currentTimeMillis();
         String messageId = aiType + "-" + timestamp;
 
-        log.info("AI response started - messageId: {}, room: {}, aiType: {}, query: {}",
-            messageId, roomId, aiType, query);
-        
-        // AI 스트리밍 시작 이벤트 발행
-        eventPublisher.publishEvent(new AiMessageStartEvent(
-            this, roomId, messageId, aiType, timestamp
-        ));
-        
         // 스트리밍 세션 초기화
         StreamingSession session = StreamingSession.builder()
             .messageId(messageId)
@@ -71,10 +77,31 @@ public class AiService {
             .timestamp(timestamp)
             .query(query)
             .build();
-        
-        
-        streamResponse(session)
-                .subscribe(new AiStreamHandler(session, eventPublisher));
+
+        AiStreamHandler handler = new AiStreamHandler(session, eventPublisher, snapshotInterval);
+
+        // 동시 실행 한도를 넘으면 대기열에서 슬롯이 날 때 시작된다
+        var admission = streamRegistry.submit(handler, () -> {
+            log.info("AI response started - messageId: {}, room: {}, aiType: {}, query: {}",
+                messageId, roomId, aiType, query);
+
+            // AI 스트리밍 시작 이벤트 발행
+            eventPublisher.publishEvent(new AiMessageStartEvent(
+                this, roomId, messageId, aiType, timestamp
+            ));
+
+            streamResponse(session)
+                    .doFinally(signal -> streamRegistry.release(handler))
+                    .subscribe(handler);
+        });
+
+        if (admission == AiStreamRegistry.Admission.REJECTED) {
+            log.warn("AI stream rejected - messageId: {}, room: {}", messageId, roomId);
+            eventPublisher.publishEvent(new AiMessageErrorEvent(
+                this, roomId, messageId,
+                "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", session.aiTypeEnum()
+            ));
+        }
     }
 
     Flux<ChunkData> streamResponse(StreamingSession session) {
@@ -85,17 +112,21 @@ public class AiService {
                 return Flux.error(new IllegalArgumentException("Unknown AI persona"));
             }
 
-            Flux<String> contentStream = chatClient.prompt()
+            // 캐시 적중 시 저장된 토큰을 재생하므로 이후 파이프라인은 동일
+            Flux<String> contentStream = responseCache.stream(aiType, query, () -> chatClient.prompt()
                     .system(aiType.getSystemPrompt())
                     .user(query)
                     .stream()
-                    .content();
+                    .content());
 
             AtomicBoolean codeBlockState = new AtomicBoolean(false);
 
-            return contentStream
+            // 코드 블록 상태는 토큰 단위로 계산한 뒤 시간 창 단위로 병합
+            Flux<ChunkData> chunks = contentStream
                     .filter(chunk -> chunk != null && !chunk.isBlank())
-                    .map(chunk -> ChunkData.from(chunk).updateCodeBlockState(codeBlockState))
+                    .map(chunk -> ChunkData.from(chunk).updateCodeBlockState(codeBlockState));
+
+            return chunkCoalescer.coalesce(chunks)
                     .doOnSubscribe(subscription -> log.info(
                             "Starting AI streaming response - aiType: {}, query: {}",
                             aiType, query))
@@ -5,6 +5,7 @@ import com.ktb.chatapp.event.AiMessageCompleteEvent;
 import com.ktb.chatapp.event.AiMessageErrorEvent;
 import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
 import java.util.Objects;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.reactivestreams.Subscriber;
@@ -14,19 +15,32 @@ import org.springframework.context.ApplicationEventPublisher;
 @Slf4j
 @RequiredArgsConstructor
 public class AiStreamHandler implements Subscriber<ChunkData> {
+    @Getter
     private final StreamingSession session;
     private final ApplicationEventPublisher eventPublisher;
-    private Subscription subscription;
+    // 전체 내용 스냅샷을 함께 보내는 청크 간격
+    private final int snapshotInterval;
+    // cancel()은 방 퇴장/연결 해제를 처리하는 소켓 스레드에서 호출된다
+    private volatile Subscription subscription;
+    private volatile boolean cancelled;
 
     @Override
     public void onSubscribe(Subscription subscription) {
         this.subscription = subscription;
+        if (cancelled) {
+            // 구독 전에 취소된 경우
+            subscription.cancel();
+            return;
+        }
         subscription.request(Long.MAX_VALUE);
     }
 
     @Override
     public void onNext(ChunkData chunk) {
-        session.appendContent(chunk.currentChunk());
+        if (cancelled) {
+            return;
+        }
+        long sequence = session.appendContent(chunk.currentChunk());
         
         String messageId = session.getMessageId();
         String roomId = session.getRoomId();
@@ -35,9 +49,10 @@ public class AiStreamHandler implements Subscriber<ChunkData> {
             return;
         }
 
+        String snapshot = isSnapshot(sequence) ? session.getContent() : null;
         eventPublisher.publishEvent(new AiMessageChunkEvent(
-            this, roomId, messageId,
-            session.getContent(), chunk.codeBlock()
+            this, roomId, messageId, sequence,
+            chunk.currentChunk(), snapshot, chunk.codeBlock()
         ));
     }
 
@@ -71,11 +86,21 @@ public class AiStreamHandler implements Subscriber<ChunkData> {
     }
 
     public void cancel() {
-        if (subscription != null) {
-            subscription.cancel();
+        cancelled = true;
+        Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
         }
     }
 
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    private boolean isSnapshot(long sequence) {
+        return snapshotInterval > 0 && sequence % snapshotInterval == 0;
+    }
+
     private void sendCompletionEvent() {
         eventPublisher.publishEvent(new AiMessageCompleteEvent(
             this, session.getRoomId(), session.getMessageId(),
@@ -0,0 +1,202 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.event.AiMessageErrorEvent;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 AI 스트림 레지스트리
+ * 방별 활성 스트림을 추적하고 전체/방별 동시 실행 수를 제한한다.
+ * 한도를 넘은 요청은 대기열에 넣었다가 스트림이 끝날 때 순서대로 시작하며, 대기열도 가득 차면 거절한다.
+ *
+ * 상태 변경은 짧은 임계 구역(synchronized)에서만 하고, 스트림 시작과 취소는 락 밖에서 실행한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiStreamRegistry {
+
+    static final String CANCELLED_MESSAGE = "요청한 사용자가 채팅방을 나가 AI 응답이 취소되었습니다.";
+
+    public enum Admission {
+        STARTED, QUEUED, REJECTED
+    }
+
+    private record PendingStream(AiStreamHandler handler, Runnable start) {
+    }
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxActive;
+    private final int maxActivePerRoom;
+    private final int maxQueued;
+
+    // roomId -> 해당 방에서 실행 중인 스트림
+    private final Map<String, List<AiStreamHandler>> activeByRoom = new HashMap<>();
+    private final Deque<PendingStream> waiting = new ArrayDeque<>();
+    private int activeCount;
+
+    private final Counter rejectedCounter;
+    private final Counter cancelledCounter;
+
+    public AiStreamRegistry(
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.ai.stream.max-active:32}") int maxActive,
+            @Value("${app.ai.stream.max-active-per-room:2}") int maxActivePerRoom,
+            @Value("${app.ai.stream.max-queued:64}") int maxQueued) {
+        this.eventPublisher = eventPublisher;
+        this.maxActive = Math.max(1, maxActive);
+        this.maxActivePerRoom = Math.max(1, maxActivePerRoom);
+        this.maxQueued = Math.max(0, maxQueued);
+
+        Gauge.builder("ai.stream.active", this, AiStreamRegistry::activeCount)
+                .description("AI streams currently running")
+                .register(meterRegistry);
+        Gauge.builder("ai.stream.waiting", this, AiStreamRegistry::waitingCount)
+                .description("AI streams waiting for a free slot")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ai.stream.rejected")
+                .description("AI stream requests rejected because the waiting queue was full")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("ai.stream.cancelled")
+                .description("AI streams cancelled because the requester left the room")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 슬롯이 있으면 즉시 start를 실행하고, 없으면 대기열에 넣는다.
+     * 시작된 스트림은 종료 시 반드시 {@link #release(AiStreamHandler)}를 호출해야 한다.
+     */
+    public Admission submit(AiStreamHandler handler, Runnable start) {
+        synchronized (this) {
+            String roomId = handler.getSession().getRoomId();
+            if (hasCapacity(roomId)) {
+                activate(handler);
+            } else if (waiting.size() < maxQueued) {
+                waiting.addLast(new PendingStream(handler, start));
+                log.info("AI stream queued - messageId: {}, room: {}, waiting: {}",
+                        handler.getSession().getMessageId(), roomId, waiting.size());
+                return Admission.QUEUED;
+            } else {
+                rejectedCounter.increment();
+                return Admission.REJECTED;
+            }
+        }
+        start.run();
+        return Admission.STARTED;
+    }
+
+    /**
+     * 스트림 종료(완료/오류/취소) 시 슬롯을 반납하고 대기 중인 스트림을 시작한다.
+     */
+    public void release(AiStreamHandler handler) {
+        List<Runnable> starts = new ArrayList<>();
+        synchronized (this) {
+            String roomId = handler.getSession().getRoomId();
+            List<AiStreamHandler> handlers = activeByRoom.get(roomId);
+            if (handlers == null || !handlers.remove(handler)) {
+                return;
+            }
+            if (handlers.isEmpty()) {
+                activeByRoom.remove(roomId);
+            }
+            activeCount--;
+
+            Iterator<PendingStream> it = waiting.iterator();
+            while (it.hasNext() && activeCount < maxActive) {
+                PendingStream pending = it.next();
+                if (hasCapacity(pending.handler().getSession().getRoomId())) {
+                    it.remove();
+                    activate(pending.handler());
+                    starts.add(pending.start());
+                }
+            }
+        }
+        starts.forEach(Runnable::run);
+    }
+
+    /**
+     * 사용자가 방을 나가거나 연결이 끊기면 해당 사용자가 요청한 스트림을 모두 취소한다.
+     *
+     * @return 취소된 스트림 수 (대기 중이던 요청 포함)
+     */
+    public int cancel(String roomId, String userId) {
+        List<AiStreamHandler> running = new ArrayList<>();
+        List<AiStreamHandler> dequeued = new ArrayList<>();
+        synchronized (this) {
+            for (AiStreamHandler handler : activeByRoom.getOrDefault(roomId, List.of())) {
+                if (handler.matches(roomId, userId)) {
+                    running.add(handler);
+                }
+            }
+            waiting.removeIf(pending -> {
+                if (pending.handler().matches(roomId, userId)) {
+                    dequeued.add(pending.handler());
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        // 실행 중인 스트림은 구독 취소 시 doFinally에서 release가 호출된다
+        running.forEach(AiStreamHandler::cancel);
+
+        List<AiStreamHandler> cancelled = new ArrayList<>(running);
+        cancelled.addAll(dequeued);
+        for (AiStreamHandler handler : cancelled) {
+            StreamingSession session = handler.getSession();
+            eventPublisher.publishEvent(new AiMessageErrorEvent(
+                    this, roomId, session.getMessageId(), CANCELLED_MESSAGE, session.aiTypeEnum()
+            ));
+        }
+        if (!cancelled.isEmpty()) {
+            cancelledCounter.increment(cancelled.size());
+            log.info("AI streams cancelled - room: {}, userId: {}, count: {}", roomId, userId, cancelled.size());
+        }
+        return cancelled.size();
+    }
+
+    /**
+     * 방에서 실행 중인 스트림 세션 (입장 시 진행 중인 응답을 내려주기 위함)
+     */
+    public synchronized List<StreamingSession> activeSessions(String roomId) {
+        List<AiStreamHandler> handlers = activeByRoom.get(roomId);
+        if (handlers == null) {
+            return List.of();
+        }
+        return handlers.stream().map(AiStreamHandler::getSession).toList();
+    }
+
+    public synchronized int activeCount() {
+        return activeCount;
+    }
+
+    public synchronized int waitingCount() {
+        return waiting.size();
+    }
+
+    private boolean hasCapacity(String roomId) {
+        return activeCount < maxActive
+                && activeByRoom.getOrDefault(roomId, List.of()).size() < maxActivePerRoom;
+    }
+
+    private void activate(AiStreamHandler handler) {
+        activeByRoom.computeIfAbsent(handler.getSession().getRoomId(), key -> new ArrayList<>(maxActivePerRoom))
+                .add(handler);
+        activeCount++;
+    }
+}
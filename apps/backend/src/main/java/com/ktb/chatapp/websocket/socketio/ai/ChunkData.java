@@ -1,5 +1,6 @@
 package com.ktb.chatapp.websocket.socketio.ai;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public record ChunkData(String currentChunk, boolean codeBlock) {
@@ -18,4 +19,18 @@ public record ChunkData(String currentChunk, boolean codeBlock) {
         codeBlockState.set(currentState);
         return new ChunkData(currentChunk, currentState);
     }
+
+    /**
+     * 연속된 청크를 하나로 병합. 코드 블록 상태는 마지막 청크 기준
+     */
+    public static ChunkData merge(List<ChunkData> chunks) {
+        if (chunks.size() == 1) {
+            return chunks.getFirst();
+        }
+        StringBuilder merged = new StringBuilder();
+        for (ChunkData chunk : chunks) {
+            merged.append(chunk.currentChunk());
+        }
+        return new ChunkData(merged.toString(), chunks.getLast().codeBlock());
+    }
 }
@@ -0,0 +1,126 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * 부하/지연 테스트용 로컬 ChatModel (ai-stub 프로파일)
+ * OpenAI 키 없이 AI 스트리밍 → 브로드캐스트 → 저장 경로 전체를 실행할 수 있도록 토큰을 흉내 내어 스트리밍한다.
+ *
+ * 응답 내용, 길이, 코드 블록 포함 여부, 오류 주입 여부는 (seed, 프롬프트)로 결정되므로 같은 요청은 항상 같은 결과를 낸다.
+ * 실행: SPRING_PROFILE=prod,ai-stub ./app-control.sh start
+ */
+@Slf4j
+@Component
+@Profile("ai-stub")
+public class StubChatModel implements ChatModel {
+
+    private static final String[] WORDS = {
+            "안녕하세요", " 질문", "하신", " 내용", "에", " 대해", " 설명", "드리겠습니다", ".",
+            " 먼저", " 핵심", "은", " 다음", "과", " 같습니다", ",", " 그리고", " 예시", "를", " 보면", "\n"
+    };
+    private static final String[] CODE_LINES = {
+            "public", " class", " Example", " {", "\n", "    int", " value", " =", " 42", ";", "\n", "}", "\n"
+    };
+
+    private final long seed;
+    private final Duration tokenInterval;
+    private final Duration firstTokenDelay;
+    private final int minTokens;
+    private final int maxTokens;
+    private final double codeBlockRatio;
+    private final double errorRate;
+
+    public StubChatModel(
+            @Value("${app.ai.stub.seed:42}") long seed,
+            @Value("${app.ai.stub.tokens-per-second:50}") double tokensPerSecond,
+            @Value("${app.ai.stub.first-token-delay-ms:300}") long firstTokenDelayMs,
+            @Value("${app.ai.stub.min-tokens:50}") int minTokens,
+            @Value("${app.ai.stub.max-tokens:300}") int maxTokens,
+            @Value("${app.ai.stub.code-block-ratio:0.2}") double codeBlockRatio,
+            @Value("${app.ai.stub.error-rate:0.0}") double errorRate) {
+        this.seed = seed;
+        // 0 이하면 지연 없이 최대한 빠르게 전송
+        this.tokenInterval = tokensPerSecond > 0
+                ? Duration.ofNanos((long) (1_000_000_000L / tokensPerSecond))
+                : Duration.ZERO;
+        this.firstTokenDelay = Duration.ofMillis(Math.max(0, firstTokenDelayMs));
+        this.minTokens = Math.max(1, minTokens);
+        this.maxTokens = Math.max(this.minTokens, maxTokens);
+        this.codeBlockRatio = codeBlockRatio;
+        this.errorRate = errorRate;
+        log.warn("StubChatModel active - AI responses are generated locally (tokens/s: {}, tokens: {}-{}, error rate: {})",
+                tokensPerSecond, this.minTokens, this.maxTokens, errorRate);
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        Script script = script(prompt);
+        if (script.failAfter() >= 0) {
+            throw new IllegalStateException("Stub AI error injected");
+        }
+        return response(String.join("", script.tokens()));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        Script script = script(prompt);
+        List<String> tokens = script.failAfter() >= 0
+                ? script.tokens().subList(0, script.failAfter())
+                : script.tokens();
+
+        Flux<String> flux = Flux.fromIterable(tokens);
+        if (!tokenInterval.isZero()) {
+            flux = flux.delayElements(tokenInterval);
+        }
+        if (!firstTokenDelay.isZero()) {
+            flux = flux.delaySubscription(firstTokenDelay);
+        }
+        if (script.failAfter() >= 0) {
+            flux = flux.concatWith(Flux.error(new IllegalStateException("Stub AI error injected")));
+        }
+        return flux.map(StubChatModel::response);
+    }
+
+    /**
+     * 응답 토큰 목록과 오류 주입 위치 (failAfter < 0 이면 정상 완료)
+     */
+    record Script(List<String> tokens, int failAfter) {
+    }
+
+    Script script(Prompt prompt) {
+        SplittableRandom random = new SplittableRandom(seed ^ prompt.getContents().hashCode());
+        int length = random.nextInt(minTokens, maxTokens + 1);
+        boolean withCode = random.nextDouble() < codeBlockRatio;
+        int codeStart = withCode ? random.nextInt(0, length) : -1;
+
+        List<String> tokens = new ArrayList<>(length + CODE_LINES.length + 2);
+        for (int i = 0; i < length; i++) {
+            if (i == codeStart) {
+                tokens.add("\n```java\n");
+                tokens.addAll(List.of(CODE_LINES));
+                tokens.add("```\n");
+            }
+            tokens.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        int failAfter = random.nextDouble() < errorRate ? random.nextInt(0, tokens.size()) : -1;
+        return new Script(tokens, failAfter);
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+}
@@ -0,0 +1,356 @@
+package com.ktb.chatapp.websocket.socketio.backpressure;
+
+import com.corundumstudio.socketio.SocketIOChannelInitializer;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.handler.ClientHead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.util.AttributeKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 느린 클라이언트 보호 (클라이언트별 송신 버퍼 한도)
+ * netty-socketio는 클라이언트가 소켓을 비우지 못해도 프레임을 계속 쌓으므로, 큰 방에서 모바일 클라이언트 몇 명이
+ * 힙을 키우고 GC를 유발한다. 연결마다 Netty write buffer water mark를 걸고, 채널이 쓰기 불가(high-water-mark 초과)인
+ * 동안에는 최신 상태만 의미 있는 이벤트를 줄여 보낸다.
+ * - 참가자/입력 중 목록: 방별 최신 것 하나만 보관했다가 채널이 다시 쓰기 가능해지면 전송 (병합)
+ * - 읽음 표시, AI 청크: 버림 (AI 청크는 seq 공백 뒤 스냅샷/완료 이벤트로 복구됨)
+ * - 그 외(메시지, 응답 등): 그대로 전송
+ * 대기 바이트가 hard-limit을 넘거나 max-stall 동안 쓰기 불가 상태가 이어지면 연결을 끊는다.
+ * 클라이언트는 재접속 후 방에 다시 입장하면서 전체 상태를 다시 받는다.
+ *
+ * 클라이언트와 채널은 세션 ID로 연결한다. websocket 전송 요청이 들어올 때 채널에 세션을 묶는데,
+ * polling에서 업그레이드한 연결은 요청의 sid로, websocket으로 바로 핸드셰이크한 연결은 새로 만들어진 세션으로 묶는다.
+ * 프록시/NAT 뒤에서 원격 주소가 겹쳐도 다른 클라이언트로 잘못 판정하지 않는다. polling 채널은 대상이 아니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowConsumerGuard {
+
+    enum Policy { SEND, MERGE, DROP }
+
+    private static final Map<String, Policy> POLICIES = Map.of(
+            PARTICIPANTS_UPDATE, Policy.MERGE,
+            TYPING_UPDATE, Policy.MERGE,
+            MESSAGES_READ, Policy.DROP,
+            AI_MESSAGE_CHUNK, Policy.DROP);
+
+    private static final AttributeKey<ChannelState> STATE = AttributeKey.valueOf("slowConsumerGuard.state");
+    private static final String HANDLER_NAME = "slowConsumerGuard";
+
+    private record Frame(String event, Object payload) {
+    }
+
+    /**
+     * 연결 하나의 쓰기 가능 상태와 병합 대기 프레임
+     * unwritableSince는 채널 이벤트 루프에서만 바꾼다.
+     */
+    private static final class ChannelState {
+        final Channel channel;
+        final ConcurrentHashMap<String, Frame> merged = new ConcurrentHashMap<>();
+        final AtomicBoolean closing = new AtomicBoolean();
+        volatile UUID sessionId;
+        volatile SocketIOClient client;
+        volatile long unwritableSince;
+
+        ChannelState(Channel channel) {
+            this.channel = channel;
+        }
+    }
+
+    @Getter
+    private final boolean enabled;
+    private final int lowWaterMark;
+    private final int highWaterMark;
+    private final long hardLimitBytes;
+    private final long maxStallMillis;
+    private final Clock clock;
+
+    // 세션 ID → websocket 채널 상태
+    private final ConcurrentHashMap<UUID, ChannelState> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger slowClients = new AtomicInteger();
+    private final Map<String, Counter> frameCounters = new HashMap<>();
+    private final Counter stalls;
+    private final Counter hardLimitDisconnects;
+    private final Counter stallDisconnects;
+    private final WritabilityHandler handler = new WritabilityHandler();
+
+    @Autowired
+    public SlowConsumerGuard(
+            MeterRegistry meterRegistry,
+            @Value("${app.socketio.backpressure.enabled:true}") boolean enabled,
+            @Value("${app.socketio.backpressure.low-water-mark-bytes:32768}") int lowWaterMark,
+            @Value("${app.socketio.backpressure.high-water-mark-bytes:65536}") int highWaterMark,
+            @Value("${app.socketio.backpressure.hard-limit-bytes:4194304}") long hardLimitBytes,
+            @Value("${app.socketio.backpressure.max-stall:30s}") Duration maxStall) {
+        this(meterRegistry, enabled, lowWaterMark, highWaterMark, hardLimitBytes, maxStall, Clock.systemUTC());
+    }
+
+    public SlowConsumerGuard(MeterRegistry meterRegistry, boolean enabled, int lowWaterMark, int highWaterMark,
+                             long hardLimitBytes, Duration maxStall, Clock clock) {
+        this.enabled = enabled;
+        this.highWaterMark = Math.max(1, highWaterMark);
+        this.lowWaterMark = Math.clamp(lowWaterMark, 0, this.highWaterMark);
+        this.hardLimitBytes = Math.max(this.highWaterMark, hardLimitBytes);
+        this.maxStallMillis = Math.max(0, maxStall.toMillis());
+        this.clock = clock;
+
+        POLICIES.forEach((event, policy) -> {
+            if (policy != Policy.SEND) {
+                frameCounters.put(event, Counter.builder("socketio.backpressure.frames")
+                        .description("Frames merged or dropped for clients that cannot keep up")
+                        .tag("action", policy == Policy.MERGE ? "merged" : "dropped")
+                        .tag("event", event)
+                        .register(meterRegistry));
+            }
+        });
+        this.stalls = Counter.builder("socketio.backpressure.stalls")
+                .description("Times a client channel went over the write buffer high water mark")
+                .register(meterRegistry);
+        this.hardLimitDisconnects = disconnects(meterRegistry, "hard_limit");
+        this.stallDisconnects = disconnects(meterRegistry, "stalled");
+        Gauge.builder("socketio.backpressure.slow_clients", slowClients, AtomicInteger::get)
+                .description("Client channels currently over the write buffer high water mark")
+                .register(meterRegistry);
+    }
+
+    private static Counter disconnects(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("socketio.backpressure.disconnects")
+                .description("Slow clients disconnected to force a resync")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * netty-socketio 파이프라인에 water mark와 쓰기 가능 상태 추적 핸들러를 추가하는 초기화기
+     */
+    public SocketIOChannelInitializer channelInitializer() {
+        return new SocketIOChannelInitializer() {
+            @Override
+            protected void initChannel(Channel ch) throws Exception {
+                super.initChannel(ch);
+                register(ch);
+            }
+        };
+    }
+
+    void register(Channel channel) {
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(lowWaterMark, highWaterMark));
+        ChannelState state = new ChannelState(channel);
+        channel.attr(STATE).set(state);
+        // HTTP 요청을 보려면 디코더 뒤, 세션을 만드는 인증 핸들러 앞에 둔다
+        if (channel.pipeline().get(SocketIOChannelInitializer.AUTHORIZE_HANDLER) != null) {
+            channel.pipeline().addBefore(SocketIOChannelInitializer.AUTHORIZE_HANDLER, HANDLER_NAME, handler);
+        } else {
+            channel.pipeline().addLast(HANDLER_NAME, handler);
+        }
+        channel.closeFuture().addListener(future -> {
+            UUID sessionId = state.sessionId;
+            if (sessionId != null) {
+                sessions.remove(sessionId, state);
+            }
+            markWritable(state);
+            state.merged.clear();
+        });
+    }
+
+    /**
+     * websocket 채널을 세션에 묶는다. 이미 닫힌 채널이면 바로 풀어 남기지 않는다.
+     */
+    void bind(UUID sessionId, Channel channel) {
+        ChannelState state = channel.attr(STATE).get();
+        if (state == null || sessionId == null) {
+            return;
+        }
+        state.sessionId = sessionId;
+        sessions.put(sessionId, state);
+        if (!channel.isOpen()) {
+            sessions.remove(sessionId, state);
+        }
+    }
+
+    /**
+     * 클라이언트에게 이벤트 전송. room은 병합 키로 쓰인다 (단일 클라이언트 응답이면 null).
+     */
+    public void send(SocketIOClient client, String room, String event, Object payload) {
+        if (!enabled) {
+            client.sendEvent(event, payload);
+            return;
+        }
+        ChannelState state = sessions.get(client.getSessionId());
+        Policy policy = POLICIES.getOrDefault(event, Policy.SEND);
+        if (state == null || (policy != Policy.MERGE && state.channel.isWritable())) {
+            client.sendEvent(event, payload);
+            return;
+        }
+        state.client = client;
+        if (state.channel.isWritable()) {
+            // 병합 대상은 쓰기 가능해도 대기 중인 프레임을 대체하며 보내야 이전 상태가 뒤따라가지 않는다
+            merge(state, room, event, payload);
+            return;
+        }
+
+        long pendingBytes = lowWaterMark + state.channel.bytesBeforeWritable();
+        if (pendingBytes >= hardLimitBytes) {
+            disconnect(state, hardLimitDisconnects, pendingBytes);
+            return;
+        }
+        long since = state.unwritableSince;
+        if (maxStallMillis > 0 && since != 0 && clock.millis() - since >= maxStallMillis) {
+            disconnect(state, stallDisconnects, pendingBytes);
+            return;
+        }
+
+        switch (policy) {
+            case SEND -> client.sendEvent(event, payload);
+            case DROP -> frameCounters.get(event).increment();
+            case MERGE -> merge(state, room, event, payload);
+        }
+    }
+
+    /**
+     * 방별 최신 프레임만 남기고, 채널이 쓰기 가능하면 바로 보낸다
+     */
+    private void merge(ChannelState state, String room, String event, Object payload) {
+        String key = room != null ? event + ':' + room : event;
+        Frame previous = state.merged.put(key, new Frame(event, payload));
+        if (previous != null) {
+            frameCounters.get(event).increment();
+        }
+        // 넣는 사이에 버퍼가 비워졌으면 다음 상태 변화를 기다리지 않고 바로 보낸다
+        if (state.channel.isWritable()) {
+            flushMerged(state);
+        }
+    }
+
+    private void disconnect(ChannelState state, Counter reason, long pendingBytes) {
+        if (!state.closing.compareAndSet(false, true)) {
+            return;
+        }
+        reason.increment();
+        SocketIOClient client = state.client;
+        log.warn("Disconnecting slow client - sessionId: {}, pendingBytes: {}",
+                client != null ? client.getSessionId() : null, pendingBytes);
+        state.merged.clear();
+        if (client != null) {
+            client.disconnect();
+        }
+        // 쌓인 송신 버퍼를 바로 해제
+        state.channel.close();
+    }
+
+    private void onWritabilityChanged(ChannelState state) {
+        if (state.channel.isWritable()) {
+            markWritable(state);
+            flushMerged(state);
+        } else if (state.unwritableSince == 0) {
+            state.unwritableSince = Math.max(1, clock.millis());
+            slowClients.incrementAndGet();
+            stalls.increment();
+        }
+    }
+
+    private void markWritable(ChannelState state) {
+        if (state.unwritableSince != 0) {
+            state.unwritableSince = 0;
+            slowClients.decrementAndGet();
+        }
+    }
+
+    /**
+     * 대기 중인 병합 프레임 전송. 이벤트 루프(쓰기 가능 전환)와 브로드캐스트 스레드가 동시에 부를 수 있으므로
+     * 꺼내기와 전송을 같은 잠금 안에서 해 먼저 꺼낸 이전 프레임이 나중 프레임 뒤에 나가지 않게 한다.
+     */
+    private void flushMerged(ChannelState state) {
+        SocketIOClient client = state.client;
+        if (client == null || state.merged.isEmpty()) {
+            return;
+        }
+        synchronized (state) {
+            for (String key : state.merged.keySet()) {
+                Frame frame = state.merged.remove(key);
+                if (frame != null) {
+                    client.sendEvent(frame.event(), frame.payload());
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 high water mark를 넘은 채널이 있는지 (없으면 브로드캐스트를 클라이언트별로 나눌 필요가 없다)
+     */
+    public boolean hasSlowClients() {
+        return enabled && slowClients.get() > 0;
+    }
+
+    private static String first(Map<String, List<String>> params, String name) {
+        List<String> values = params.get(name);
+        return values != null && !values.isEmpty() ? values.getFirst() : null;
+    }
+
+    @ChannelHandler.Sharable
+    private final class WritabilityHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            if (!(msg instanceof HttpRequest request)) {
+                super.channelRead(ctx, msg);
+                return;
+            }
+            // 다음 핸들러가 요청을 해제할 수 있으므로 먼저 읽어 둔다
+            Map<String, List<String>> params = new QueryStringDecoder(request.uri()).parameters();
+            super.channelRead(ctx, msg);
+            if (!"websocket".equals(first(params, "transport"))) {
+                return;
+            }
+            String sid = first(params, "sid");
+            if (sid != null) {
+                try {
+                    bind(UUID.fromString(sid), ctx.channel());
+                } catch (IllegalArgumentException e) {
+                    log.debug("Ignoring websocket request with invalid sid: {}", sid);
+                }
+                return;
+            }
+            // sid 없이 바로 websocket으로 접속하면 인증 핸들러가 채널에 세션을 붙인다
+            ClientHead client = ctx.channel().attr(ClientHead.CLIENT).get();
+            if (client != null) {
+                bind(client.getSessionId(), ctx.channel());
+            }
+        }
+
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+            ChannelState state = ctx.channel().attr(STATE).get();
+            if (state != null) {
+                onWritabilityChanged(state);
+            }
+            super.channelWritabilityChanged(ctx);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.ktb.chatapp.websocket.socketio.cluster;
+
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomService;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+import static com.ktb.chatapp.websocket.socketio.cluster.LocalOrigins.MESSAGES;
+import static com.ktb.chatapp.websocket.socketio.cluster.LocalOrigins.ROOMS;
+
+/**
+ * 노드 간 이벤트 전달 (app.cluster.event-bus.enabled, MongoDB 레플리카셋 필요)
+ * messages/rooms 컬렉션의 change stream을 노드마다 구독해, 다른 노드에서 일어난 변경을 로컬 Socket.IO 방에 전달한다.
+ * - messages insert: 일반 메시지는 message, AI 메시지는 aiMessageComplete
+ * - rooms insert: room-list에 roomCreated
+ * - rooms update/replace: 해당 방에 roomUpdated
+ *
+ * 이 노드가 직접 쓴 변경은 이미 로컬에서 브로드캐스트했으므로 LocalOrigins 기록으로 한 번 건너뛴다.
+ * AI 스트리밍 청크처럼 저장되지 않는 이벤트는 전달 대상이 아니다.
+ *
+ * 처리한 위치(resume token)는 cluster_resume_tokens에 주기적으로 저장해, 재시작 시 끊긴 지점부터 이어 받는다.
+ * 너무 오래된 변경(max-replay-age 초과)은 토큰만 전진시키고 전달하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${socketio.enabled:true} and ${app.cluster.event-bus.enabled:false}")
+public class ClusterEventBus {
+
+    static final String RESUME_TOKENS = "cluster_resume_tokens";
+
+    // 토큰이 oplog 범위를 벗어났거나 더 이상 사용할 수 없는 경우
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final int CHANGE_STREAM_FATAL_ERROR = 280;
+
+    private final MongoTemplate mongoTemplate;
+    private final RoomBroadcaster roomBroadcaster;
+    private final LocalOrigins localOrigins;
+    private final RoomService roomService;
+    private final UserRepository userRepository;
+    private final FileRepository fileRepository;
+    private final MessageResponseMapper messageResponseMapper;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+    private final long checkpointIntervalMillis;
+    private final long maxReplayAgeMillis;
+    private final Clock clock;
+
+    private final List<Thread> workers = new CopyOnWriteArrayList<>();
+    private final List<MongoChangeStreamCursor<?>> cursors = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+
+    public ClusterEventBus(
+            MongoTemplate mongoTemplate,
+            RoomBroadcaster roomBroadcaster,
+            LocalOrigins localOrigins,
+            RoomService roomService,
+            UserRepository userRepository,
+            FileRepository fileRepository,
+            MessageResponseMapper messageResponseMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.cluster.node-id:}") String nodeId,
+            @Value("${app.cluster.event-bus.checkpoint-interval:1s}") Duration checkpointInterval,
+            @Value("${app.cluster.event-bus.max-replay-age:60s}") Duration maxReplayAge) {
+        this.mongoTemplate = mongoTemplate;
+        this.roomBroadcaster = roomBroadcaster;
+        this.localOrigins = localOrigins;
+        this.roomService = roomService;
+        this.userRepository = userRepository;
+        this.fileRepository = fileRepository;
+        this.messageResponseMapper = messageResponseMapper;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.checkpointIntervalMillis = checkpointInterval.toMillis();
+        this.maxReplayAgeMillis = maxReplayAge.toMillis();
+        this.clock = Clock.systemUTC();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        for (String collection : List.of(MESSAGES, ROOMS)) {
+            Thread worker = Thread.ofPlatform()
+                    .name("cluster-bus-" + collection)
+                    .daemon(true)
+                    .start(() -> tail(collection));
+            workers.add(worker);
+        }
+        log.info("Cluster event bus started - node: {}, collections: {}", nodeId, List.of(MESSAGES, ROOMS));
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        // 블로킹 중인 tryNext를 깨우기 위해 커서를 닫는다 (마지막 토큰은 각 워커가 종료하며 저장)
+        cursors.forEach(cursor -> {
+            try {
+                cursor.close();
+            } catch (Exception ignored) {
+                // 이미 닫힌 커서
+            }
+        });
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void tail(String collection) {
+        BsonDocument token = loadToken(collection);
+        long lastCheckpoint = clock.millis();
+
+        while (running) {
+            MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = null;
+            try {
+                cursor = open(collection, token);
+                cursors.add(cursor);
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        handle(collection, change);
+                    }
+                    // 이벤트가 없어도 postBatchResumeToken이 전진하므로 함께 저장
+                    BsonDocument latest = cursor.getResumeToken();
+                    if (latest != null) {
+                        token = latest;
+                    }
+                    if (token != null && clock.millis() - lastCheckpoint >= checkpointIntervalMillis) {
+                        saveToken(collection, token);
+                        lastCheckpoint = clock.millis();
+                    }
+                }
+            } catch (RuntimeException e) {
+                // 종료 중 커서를 닫으면 tryNext가 예외를 던진다
+                if (!running) {
+                    break;
+                }
+                if (e instanceof MongoException mongoException
+                        && (mongoException.getCode() == CHANGE_STREAM_HISTORY_LOST
+                        || mongoException.getCode() == CHANGE_STREAM_FATAL_ERROR)) {
+                    log.warn("Resume token for {} is no longer valid - restarting from now", collection);
+                    token = null;
+                } else {
+                    log.warn("Change stream on {} failed - retrying", collection, e);
+                }
+                sleepQuietly();
+            } finally {
+                if (cursor != null) {
+                    cursors.remove(cursor);
+                    cursor.close();
+                }
+            }
+        }
+
+        if (token != null) {
+            saveToken(collection, token);
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(String collection, BsonDocument token) {
+        List<String> operations = MESSAGES.equals(collection)
+                ? List.of("insert")
+                : List.of("insert", "update", "replace");
+        ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(collection)
+                .watch(List.of(Aggregates.match(Filters.in("operationType", operations))))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (token != null) {
+            stream = stream.resumeAfter(token);
+        }
+        return stream.cursor();
+    }
+
+    void handle(String collection, ChangeStreamDocument<Document> change) {
+        BsonDocument documentKey = change.getDocumentKey();
+        String id = documentKey != null ? idOf(documentKey.get("_id")) : null;
+        long clusterTimeMillis = change.getClusterTime() != null
+                ? TimeUnit.SECONDS.toMillis(change.getClusterTime().getTime())
+                : clock.millis();
+        dispatch(collection, change.getOperationType(), id, change.getFullDocument(), clusterTimeMillis);
+    }
+
+    /**
+     * 변경 하나를 로컬 소켓으로 전달 (로컬 출처/오래된 변경/삭제된 문서는 건너뜀)
+     */
+    void dispatch(String collection, OperationType operation, String id, Document fullDocument, long clusterTimeMillis) {
+        if (id == null || fullDocument == null) {
+            count(collection, "skipped");
+            return;
+        }
+        if (localOrigins.consume(collection, id)) {
+            count(collection, "local");
+            return;
+        }
+        if (clock.millis() - clusterTimeMillis > maxReplayAgeMillis) {
+            count(collection, "stale");
+            return;
+        }
+
+        try {
+            if (MESSAGES.equals(collection)) {
+                dispatchMessage(mongoTemplate.getConverter().read(Message.class, fullDocument));
+            } else if (operation == OperationType.INSERT) {
+                Room room = mongoTemplate.getConverter().read(Room.class, fullDocument);
+                roomBroadcaster.sendEvent("room-list", ROOM_CREATED, roomService.toRoomResponse(room));
+            } else {
+                Room room = mongoTemplate.getConverter().read(Room.class, fullDocument);
+                roomBroadcaster.sendEvent(room.getId(), ROOM_UPDATE, roomService.toRoomResponse(room));
+            }
+            count(collection, "dispatched");
+        } catch (Exception e) {
+            count(collection, "error");
+            log.error("Failed to dispatch {} change for {}", collection, id, e);
+        }
+    }
+
+    private void dispatchMessage(Message message) {
+        if (message.getType() == MessageType.ai && message.getAiType() != null) {
+            // 원 노드의 aiMessageComplete와 같은 형태 (다른 노드는 스트리밍 청크를 받지 못했으므로 완성본만 전달)
+            Map<String, Object> data = Map.of(
+                    "_id", message.getId(),
+                    "content", message.getContent() != null ? message.getContent() : "",
+                    "aiType", message.getAiType(),
+                    "timestamp", message.getTimestamp() != null ? message.toTimestampMillis() : clock.millis()
+            );
+            roomBroadcaster.sendEvent(message.getRoomId(), AI_MESSAGE_COMPLETE, data);
+            return;
+        }
+
+        User sender = message.getSenderId() != null
+                ? userRepository.findById(message.getSenderId()).orElse(null)
+                : null;
+        File file = message.getFileId() != null
+                ? fileRepository.findById(message.getFileId()).orElse(null)
+                : null;
+        MessageResponse response = messageResponseMapper.mapToMessageResponse(message, sender, file);
+        roomBroadcaster.sendEvent(message.getRoomId(), MESSAGE, response);
+    }
+
+    private BsonDocument loadToken(String collection) {
+        Query query = Query.query(Criteria.where("_id").is(tokenKey(collection)));
+        Document saved = mongoTemplate.findOne(query, Document.class, RESUME_TOKENS);
+        if (saved == null || saved.getString("token") == null) {
+            return null;
+        }
+        log.info("Resuming {} change stream from saved token (saved at {})", collection, saved.get("updatedAt"));
+        return new BsonDocument("_data", new BsonString(saved.getString("token")));
+    }
+
+    private void saveToken(String collection, BsonDocument token) {
+        if (!token.containsKey("_data")) {
+            return;
+        }
+        try {
+            mongoTemplate.upsert(
+                    Query.query(Criteria.where("_id").is(tokenKey(collection))),
+                    Update.update("token", token.getString("_data").getValue())
+                            .set("updatedAt", LocalDateTime.now()),
+                    RESUME_TOKENS);
+        } catch (Exception e) {
+            log.warn("Failed to save resume token for {}", collection, e);
+        }
+    }
+
+    private String tokenKey(String collection) {
+        return nodeId + ":" + collection;
+    }
+
+    private void count(String collection, String result) {
+        meterRegistry.counter("cluster.events", "collection", collection, "result", result).increment();
+    }
+
+    private static String idOf(BsonValue id) {
+        if (id == null) {
+            return null;
+        }
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String defaultNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
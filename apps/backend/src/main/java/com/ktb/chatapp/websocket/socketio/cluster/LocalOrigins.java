@@ -0,0 +1,132 @@
+package com.ktb.chatapp.websocket.socketio.cluster;
+
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 노드가 직접 쓰고 이미 로컬 소켓에 브로드캐스트한 문서 기록
+ * 같은 변경이 change stream으로 돌아오면 ClusterEventBus가 한 번 건너뛰어 중복 전송을 막는다.
+ *
+ * 키는 (컬렉션, 문서 ID)이며 change 이벤트 하나가 기록 하나를 소비한다.
+ * 짧은 시간에 같은 방을 여러 번 갱신하면 일부 이벤트가 다시 전달될 수 있지만, 방 갱신 이벤트는 멱등이라 문제 없다.
+ */
+@Component
+@ConditionalOnExpression("${socketio.enabled:true} and ${app.cluster.event-bus.enabled:false}")
+public class LocalOrigins {
+
+    static final String MESSAGES = "messages";
+    static final String ROOMS = "rooms";
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+    // "컬렉션:ID" -> 만료 시각
+    private final ConcurrentHashMap<String, Long> origins = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LocalOrigins(
+            @Value("${app.cluster.event-bus.local-origin-ttl:60s}") Duration ttl,
+            @Value("${app.cluster.event-bus.local-origin-max-entries:100000}") int maxEntries) {
+        this(ttl, maxEntries, Clock.systemUTC());
+    }
+
+    public LocalOrigins(Duration ttl, int maxEntries, Clock clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+    }
+
+    public void mark(String collection, String id) {
+        if (id == null) {
+            return;
+        }
+        long now = clock.millis();
+        if (origins.size() >= maxEntries) {
+            origins.values().removeIf(expiresAt -> expiresAt <= now);
+            // 만료 정리 후에도 가득 차 있으면 임의 항목 제거 (최악의 경우 중복 전송 한 번)
+            Iterator<String> keys = origins.keySet().iterator();
+            while (origins.size() >= maxEntries && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        origins.put(key(collection, id), now + ttlMillis);
+    }
+
+    /**
+     * 로컬에서 시작된 변경이면 기록을 소비하고 true
+     */
+    public boolean consume(String collection, String id) {
+        Long expiresAt = origins.remove(key(collection, id));
+        return expiresAt != null && expiresAt > clock.millis();
+    }
+
+    public int size() {
+        return origins.size();
+    }
+
+    /**
+     * 소켓 입장/퇴장은 rooms를 $addToSet/$pull로 직접 갱신하므로 save 이벤트 대신 멤버십 이벤트로 기록
+     */
+    @EventListener
+    public void onRoomMembershipChanged(RoomMembershipChangedEvent event) {
+        mark(ROOMS, event.getRoomId());
+    }
+
+    private static String key(String collection, String id) {
+        return collection + ":" + id;
+    }
+
+    /**
+     * 메시지/방 저장 직전에 로컬 출처로 기록 (로컬 저장은 모두 저장한 쪽에서 브로드캐스트한다)
+     * insert가 저장 완료보다 먼저 change stream에 도착할 수 있으므로 저장 후가 아니라 저장 전에 기록한다.
+     * 새 문서는 매핑된 문서에 _id를 미리 넣어 기록하며, 저장이 실패한 기록은 TTL이 지나면 무시된다.
+     * (엔티티 ID는 건드리지 않아 감사 필드의 신규 판정에 영향이 없다)
+     */
+    @Component
+    @ConditionalOnExpression("${socketio.enabled:true} and ${app.cluster.event-bus.enabled:false}")
+    public static class SaveListener extends AbstractMongoEventListener<Object> {
+
+        private final LocalOrigins localOrigins;
+
+        public SaveListener(LocalOrigins localOrigins) {
+            this.localOrigins = localOrigins;
+        }
+
+        @Override
+        public void onBeforeSave(BeforeSaveEvent<Object> event) {
+            String collection;
+            if (event.getSource() instanceof Message) {
+                collection = MESSAGES;
+            } else if (event.getSource() instanceof Room) {
+                collection = ROOMS;
+            } else {
+                return;
+            }
+            Document document = event.getDocument();
+            if (document == null) {
+                return;
+            }
+            Object id = document.get("_id");
+            if (id == null) {
+                id = new ObjectId();
+                document.put("_id", id);
+            }
+            localOrigins.mark(collection, id instanceof ObjectId objectId ? objectId.toHexString() : id.toString());
+        }
+    }
+}
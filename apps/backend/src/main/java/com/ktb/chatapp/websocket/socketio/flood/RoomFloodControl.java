@@ -0,0 +1,362 @@
+package com.ktb.chatapp.websocket.socketio.flood;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 단위 메시지 유입 제어 (노드별 메모리 상태)
+ * 사용자별 rate limit만으로는 여러 사용자가 한 방에 동시에 쏟아내는 메시지를 막지 못하고,
+ * 큰 방일수록 메시지 1건의 브로드캐스트 비용이 커지므로 방마다 초당 메시지 수를 제한한다.
+ *
+ * 방 한도는 GCRA(가상 스케줄링 토큰 버킷)로 계산해 방당 AtomicLong 하나를 CAS로 갱신한다.
+ * burst만큼은 한 번에 허용하고 이후 rate-per-second 간격으로 자리가 난다.
+ * 슬로우 모드는 사용자가 같은 방에 slow-mode.interval 안에 다시 보내는 메시지를 거절한다.
+ * 한도를 넘은 메시지는 overflow 정책에 따라 바로 거절(reject)하거나,
+ * max-queue-delay 안에 자리가 나면 그 시각으로 예약해 순서대로 처리(queue)한다.
+ * 예약된 메시지는 방별 대기열에 넣고 한 번에 하나씩 꺼내 처리하므로, 스레드가 여러 개여도 같은 방의 저장 순서가 바뀌지 않는다.
+ *
+ * 전체 max-rooms개 방까지만 추적하고, 그 이상은 제한 없이 통과시킨다 (채팅을 막는 쪽으로 실패하지 않음).
+ * 유휴 방 상태는 주기적으로 정리한다. 기본값은 방 한도와 슬로우 모드 모두 꺼져 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomFloodControl {
+
+    public enum OverflowPolicy { REJECT, QUEUE }
+
+    public enum Result { ADMITTED, QUEUED, ROOM_THROTTLED, SLOW_MODE }
+
+    /**
+     * 입장 판정. QUEUED이면 delayMillis 뒤에 처리, 거절이면 retryAfterMillis 뒤에 다시 보낼 수 있다.
+     */
+    public record Admission(Result result, long delayMillis, long retryAfterMillis) {
+
+        private static final Admission ADMITTED = new Admission(Result.ADMITTED, 0, 0);
+
+        public long retryAfterSeconds() {
+            return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999));
+        }
+    }
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long SWEEP_INTERVAL_MILLIS = 30_000L;
+
+    private static final class RoomState {
+        // 다음 메시지의 이론상 도착 시각 (나노초)
+        final AtomicLong theoreticalArrival = new AtomicLong();
+        // 슬로우 모드: 사용자별 마지막 허용 시각 (밀리초)
+        final ConcurrentHashMap<String, AtomicLong> lastSent = new ConcurrentHashMap<>();
+        final LongAdder throttled = new LongAdder();
+        // queue 정책으로 예약된 메시지 (queue로 동기화)
+        final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+        // 예약 시각이 지나 실행할 수 있는 대기열 앞쪽 메시지 수
+        int ready;
+        boolean draining;
+        FunctionCounter meter;
+        boolean removed;
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final long emissionNanos;
+    private final long burstToleranceNanos;
+    private final long slowModeMillis;
+    private final OverflowPolicy overflow;
+    private final long maxQueueDelayNanos;
+    private final int maxRooms;
+    private final int meteredRooms;
+    private final int queueThreads;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<String, RoomState> rooms = new ConcurrentHashMap<>();
+    private final AtomicInteger meteredCount = new AtomicInteger();
+    private final Counter admitted;
+    private final Counter queued;
+    private final Counter roomThrottled;
+    private final Counter slowMode;
+    private final Counter untracked;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public RoomFloodControl(
+            MeterRegistry meterRegistry,
+            @Value("${app.flood.room.rate-per-second:0}") double ratePerSecond,
+            @Value("${app.flood.room.burst:100}") int burst,
+            @Value("${app.flood.slow-mode.interval:0s}") Duration slowModeInterval,
+            @Value("${app.flood.overflow:reject}") String overflow,
+            @Value("${app.flood.max-queue-delay:2s}") Duration maxQueueDelay,
+            @Value("${app.flood.max-rooms:10000}") int maxRooms,
+            @Value("${app.flood.metered-rooms:100}") int meteredRooms,
+            @Value("${app.flood.queue-threads:2}") int queueThreads) {
+        this(meterRegistry, ratePerSecond, burst, slowModeInterval,
+                OverflowPolicy.valueOf(overflow.trim().toUpperCase(Locale.ROOT)),
+                maxQueueDelay, maxRooms, meteredRooms, queueThreads, Clock.systemUTC());
+    }
+
+    public RoomFloodControl(MeterRegistry meterRegistry, double ratePerSecond, int burst,
+                            Duration slowModeInterval, OverflowPolicy overflow, Duration maxQueueDelay,
+                            int maxRooms, int meteredRooms, int queueThreads, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.emissionNanos = ratePerSecond > 0 ? Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond)) : 0;
+        this.burstToleranceNanos = emissionNanos * (Math.max(1, burst) - 1);
+        this.slowModeMillis = Math.max(0, slowModeInterval.toMillis());
+        this.overflow = overflow;
+        this.maxQueueDelayNanos = Math.max(0, maxQueueDelay.toNanos());
+        this.maxRooms = Math.max(1, maxRooms);
+        this.meteredRooms = Math.max(0, meteredRooms);
+        this.queueThreads = Math.max(1, queueThreads);
+        this.clock = clock;
+        this.admitted = decisions(meterRegistry, "admitted");
+        this.queued = decisions(meterRegistry, "queued");
+        this.roomThrottled = decisions(meterRegistry, "room_throttled");
+        this.slowMode = decisions(meterRegistry, "slow_mode");
+        this.untracked = decisions(meterRegistry, "untracked");
+        Gauge.builder("chat.flood.rooms", rooms, Map::size)
+                .description("Rooms with tracked flood control state")
+                .register(meterRegistry);
+    }
+
+    private static Counter decisions(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.flood.decisions")
+                .description("Room flood control admission decisions")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler = Executors.newScheduledThreadPool(queueThreads,
+                Thread.ofPlatform().name("room-flood-", 0).daemon(true).factory());
+        scheduler.scheduleAtFixedRate(this::sweepSafely,
+                SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 사용자가 방에 메시지 1건을 보내도 되는지 판정하고, 허용(예약 포함)이면 자리를 차지한다.
+     */
+    public Admission admit(String roomId, String userId) {
+        if (emissionNanos == 0 && slowModeMillis == 0) {
+            admitted.increment();
+            return Admission.ADMITTED;
+        }
+
+        RoomState state = rooms.get(roomId);
+        if (state == null) {
+            if (rooms.size() >= maxRooms) {
+                untracked.increment();
+                return Admission.ADMITTED;
+            }
+            state = rooms.computeIfAbsent(roomId, id -> new RoomState());
+        }
+
+        long nowMillis = clock.millis();
+        AtomicLong lastSent = null;
+        long previous = 0;
+        if (slowModeMillis > 0) {
+            lastSent = state.lastSent.get(userId);
+            if (lastSent == null) {
+                lastSent = state.lastSent.computeIfAbsent(userId, id -> new AtomicLong(Long.MIN_VALUE));
+            }
+            previous = lastSent.get();
+            if (previous != Long.MIN_VALUE && nowMillis - previous < slowModeMillis) {
+                return throttled(roomId, state, slowMode,
+                        new Admission(Result.SLOW_MODE, 0, slowModeMillis - (nowMillis - previous)));
+            }
+            // 같은 사용자의 동시 전송은 하나만 통과
+            if (!lastSent.compareAndSet(previous, nowMillis)) {
+                return throttled(roomId, state, slowMode, new Admission(Result.SLOW_MODE, 0, slowModeMillis));
+            }
+        }
+
+        if (emissionNanos == 0) {
+            admitted.increment();
+            return Admission.ADMITTED;
+        }
+
+        long now = nowMillis * NANOS_PER_MILLI;
+        while (true) {
+            long arrival = state.theoreticalArrival.get();
+            long start = Math.max(arrival, now);
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0 && (overflow == OverflowPolicy.REJECT || wait > maxQueueDelayNanos)) {
+                if (lastSent != null) {
+                    // 방 한도로 거절된 메시지는 슬로우 모드 간격을 소모하지 않는다
+                    lastSent.compareAndSet(nowMillis, previous);
+                }
+                return throttled(roomId, state, roomThrottled,
+                        new Admission(Result.ROOM_THROTTLED, 0, toMillisCeil(wait)));
+            }
+            if (state.theoreticalArrival.compareAndSet(arrival, start + emissionNanos)) {
+                if (wait > 0) {
+                    queued.increment();
+                    return new Admission(Result.QUEUED, toMillisCeil(wait), 0);
+                }
+                admitted.increment();
+                return Admission.ADMITTED;
+            }
+        }
+    }
+
+    /**
+     * QUEUED 판정을 받은 메시지 처리를 예약한다. 시작 전(스케줄러 없음)이면 바로 실행한다.
+     * 방의 대기열에 순서대로 넣고, 예약 시각마다 대기열 앞에서 하나씩 실행할 수 있게 한다.
+     * 예약 시각은 입장 순서대로 늘어나므로 n번째 예약 시각이 지나면 앞에서 n개까지 실행해도 된다.
+     */
+    public void schedule(String roomId, long delayMillis, Runnable task) {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            task.run();
+            return;
+        }
+        RoomState state = rooms.get(roomId);
+        if (state == null) {
+            // 추적하지 않는 방은 QUEUED 판정을 받지 않지만, 정리된 직후라면 바로 실행
+            executor.execute(() -> runQueued(task));
+            return;
+        }
+        synchronized (state.queue) {
+            state.queue.add(task);
+        }
+        executor.schedule(() -> drain(state), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 예약 시각이 된 메시지를 방별로 한 스레드에서만 순서대로 실행한다.
+     * 다른 스레드가 이미 실행 중이면 실행 가능 수만 늘리고 그 스레드가 이어서 처리한다.
+     */
+    private void drain(RoomState state) {
+        synchronized (state.queue) {
+            state.ready++;
+            if (state.draining) {
+                return;
+            }
+            state.draining = true;
+        }
+        while (true) {
+            Runnable task;
+            synchronized (state.queue) {
+                if (state.ready == 0 || state.queue.isEmpty()) {
+                    state.draining = false;
+                    return;
+                }
+                state.ready--;
+                task = state.queue.poll();
+            }
+            runQueued(task);
+        }
+    }
+
+    private static void runQueued(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("Queued room message failed", e);
+        }
+    }
+
+    /**
+     * 버스트 여유가 모두 회복되고 슬로우 모드 간격도 지난 방 상태를 버린다.
+     */
+    public void sweep() {
+        long nowMillis = clock.millis();
+        long now = nowMillis * NANOS_PER_MILLI;
+        for (Iterator<Map.Entry<String, RoomState>> iterator = rooms.entrySet().iterator(); iterator.hasNext(); ) {
+            RoomState state = iterator.next().getValue();
+            state.lastSent.values().removeIf(last -> {
+                long sentAt = last.get();
+                return sentAt == Long.MIN_VALUE || nowMillis - sentAt >= slowModeMillis;
+            });
+            if (state.theoreticalArrival.get() > now || !state.lastSent.isEmpty()) {
+                continue;
+            }
+            synchronized (state.queue) {
+                if (!state.queue.isEmpty() || state.draining) {
+                    continue;
+                }
+            }
+            iterator.remove();
+            synchronized (state) {
+                state.removed = true;
+                if (state.meter != null) {
+                    meterRegistry.remove(state.meter);
+                    meteredCount.decrementAndGet();
+                    state.meter = null;
+                }
+            }
+        }
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("Room flood control sweep failed", e);
+        }
+    }
+
+    /**
+     * 거절 집계. 방별 카운터는 처음 거절될 때 metered-rooms개 방까지만 등록한다 (room 태그 카디널리티 제한).
+     */
+    private Admission throttled(String roomId, RoomState state, Counter counter, Admission admission) {
+        counter.increment();
+        state.throttled.increment();
+        if (state.meter == null && meteredCount.get() < meteredRooms) {
+            registerRoomMeter(roomId, state);
+        }
+        return admission;
+    }
+
+    private void registerRoomMeter(String roomId, RoomState state) {
+        synchronized (state) {
+            if (state.meter != null || state.removed) {
+                return;
+            }
+            if (meteredCount.incrementAndGet() > meteredRooms) {
+                meteredCount.decrementAndGet();
+                return;
+            }
+            state.meter = FunctionCounter.builder("chat.flood.throttled", state.throttled, LongAdder::sum)
+                    .description("Messages throttled by room flood control")
+                    .tag("room", roomId)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static long toMillisCeil(long nanos) {
+        return (nanos + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI;
+    }
+
+    int trackedRooms() {
+        return rooms.size();
+    }
+}
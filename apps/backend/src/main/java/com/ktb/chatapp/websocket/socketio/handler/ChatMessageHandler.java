@@ -1,7 +1,6 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.ChatMessageRequest;
 import com.ktb.chatapp.dto.FileResponse;
@@ -19,10 +18,12 @@ import com.ktb.chatapp.websocket.socketio.ai.AiService;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
 import com.ktb.chatapp.service.RateLimitCheckResult;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
+import com.ktb.chatapp.websocket.socketio.flood.RoomFloodControl;
+import com.ktb.chatapp.websocket.socketio.flood.RoomFloodControl.Admission;
+import com.ktb.chatapp.websocket.socketio.handler.ChatMessageMetrics.Outcome;
+import com.ktb.chatapp.websocket.socketio.typing.TypingIndicator;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -38,7 +39,7 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 public class ChatMessageHandler {
-    private final SocketIOServer socketIOServer;
+    private final RoomBroadcaster roomBroadcaster;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
@@ -47,43 +48,42 @@ public class ChatMessageHandler {
     private final SessionService sessionService;
     private final BannedWordChecker bannedWordChecker;
     private final RateLimiter rateLimiter;
-    private final MeterRegistry meterRegistry;
+    private final ChatMessageMetrics metrics;
+    private final TypingIndicator typingIndicator;
+    private final RoomFloodControl roomFloodControl;
 
     @OnEvent(CHAT_MESSAGE)
     public void handleChatMessage(SocketIOClient client, ChatMessageRequest data) {
-        Timer.Sample timerSample = Timer.start(meterRegistry);
+        long startNanos = metrics.start();
 
         if (data == null) {
-            recordError("null_data");
-            client.sendEvent(ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
                     "code", "MESSAGE_ERROR",
                     "message", "메시지 데이터가 없습니다."
             ));
-            timerSample.stop(createTimer("error", "null_data"));
+            metrics.record(Outcome.NULL_DATA, startNanos);
             return;
         }
 
         var socketUser = (SocketUser) client.get("user");
 
         if (socketUser == null) {
-            recordError("session_null");
-            client.sendEvent(ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
                     "code", "SESSION_EXPIRED",
                     "message", "세션이 만료되었습니다. 다시 로그인해주세요."
             ));
-            timerSample.stop(createTimer("error", "session_null"));
+            metrics.record(Outcome.SESSION_NULL, startNanos);
             return;
         }
 
         SessionValidationResult validation =
                 sessionService.validateSession(socketUser.id(), socketUser.authSessionId());
         if (!validation.isValid()) {
-            recordError("session_expired");
-            client.sendEvent(ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
                     "code", "SESSION_EXPIRED",
                     "message", "세션이 만료되었습니다. 다시 로그인해주세요."
             ));
-            timerSample.stop(createTimer("error", "session_expired"));
+            metrics.record(Outcome.SESSION_EXPIRED, startNanos);
             return;
         }
 
@@ -91,61 +91,90 @@ public class ChatMessageHandler {
         RateLimitCheckResult rateLimitResult =
                 rateLimiter.checkRateLimit(socketUser.id(), 10000, Duration.ofMinutes(1));
         if (!rateLimitResult.allowed()) {
-            recordError("rate_limit_exceeded");
-            Counter.builder("socketio.messages.rate_limit")
-                    .description("Socket.IO rate limit exceeded count")
-                    .register(meterRegistry)
-                    .increment();
-            client.sendEvent(ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
                     "code", "RATE_LIMIT_EXCEEDED",
                     "message", "메시지 전송 횟수 제한을 초과했습니다. 잠시 후 다시 시도해주세요.",
                     "retryAfter", rateLimitResult.retryAfterSeconds()
             ));
             log.warn("Rate limit exceeded for user: {}, retryAfter: {}s",
                     socketUser.id(), rateLimitResult.retryAfterSeconds());
-            timerSample.stop(createTimer("error", "rate_limit"));
+            metrics.record(Outcome.RATE_LIMITED, startNanos);
             return;
         }
 
         try {
             User sender = userRepository.findById(socketUser.id()).orElse(null);
             if (sender == null) {
-                recordError("user_not_found");
-                client.sendEvent(ERROR, Map.of(
+                roomBroadcaster.sendToClient(client, ERROR, Map.of(
                     "code", "MESSAGE_ERROR",
                     "message", "User not found"
                 ));
-                timerSample.stop(createTimer("error", "user_not_found"));
+                metrics.record(Outcome.USER_NOT_FOUND, startNanos);
                 return;
             }
 
             String roomId = data.getRoom();
             Room room = roomRepository.findById(roomId).orElse(null);
             if (room == null || !room.getParticipantIds().contains(socketUser.id())) {
-                recordError("room_access_denied");
-                client.sendEvent(ERROR, Map.of(
+                roomBroadcaster.sendToClient(client, ERROR, Map.of(
                     "code", "MESSAGE_ERROR",
                     "message", "채팅방 접근 권한이 없습니다."
                 ));
-                timerSample.stop(createTimer("error", "room_access_denied"));
+                metrics.record(Outcome.ROOM_ACCESS_DENIED, startNanos);
                 return;
             }
 
-            MessageContent messageContent = data.getParsedContent();
+            MessageContent messageContent = data.getParsedContent(bannedWordChecker);
 
             log.debug("Message received - type: {}, room: {}, userId: {}, hasFileData: {}",
                 data.getMessageType(), roomId, socketUser.id(), data.hasFileData());
 
-            if (bannedWordChecker.containsBannedWord(messageContent.getTrimmedContent())) {
-                recordError("banned_word");
-                client.sendEvent(ERROR, Map.of(
+            if (messageContent.containsBannedWord()) {
+                roomBroadcaster.sendToClient(client, ERROR, Map.of(
                         "code", "MESSAGE_REJECTED",
                         "message", "금칙어가 포함된 메시지는 전송할 수 없습니다."
                 ));
-                timerSample.stop(createTimer("error", "banned_word"));
+                metrics.record(Outcome.BANNED_WORD, startNanos);
                 return;
             }
 
+            Admission admission = roomFloodControl.admit(roomId, socketUser.id());
+            switch (admission.result()) {
+                case SLOW_MODE -> {
+                    roomBroadcaster.sendToClient(client, ERROR, Map.of(
+                            "code", "SLOW_MODE",
+                            "message", "슬로우 모드가 적용된 채팅방입니다. 잠시 후 다시 시도해주세요.",
+                            "retryAfter", admission.retryAfterSeconds()
+                    ));
+                    metrics.record(Outcome.SLOW_MODE, startNanos);
+                    return;
+                }
+                case ROOM_THROTTLED -> {
+                    roomBroadcaster.sendToClient(client, ERROR, Map.of(
+                            "code", "ROOM_RATE_LIMITED",
+                            "message", "채팅방에 메시지가 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                            "retryAfter", admission.retryAfterSeconds()
+                    ));
+                    log.debug("Room flood limit exceeded - room: {}, userId: {}, retryAfter: {}ms",
+                            roomId, socketUser.id(), admission.retryAfterMillis());
+                    metrics.record(Outcome.ROOM_THROTTLED, startNanos);
+                    return;
+                }
+                case QUEUED -> roomFloodControl.schedule(roomId, admission.delayMillis(),
+                        () -> deliver(client, socketUser, sender, roomId, data, messageContent, startNanos));
+                case ADMITTED -> deliver(client, socketUser, sender, roomId, data, messageContent, startNanos);
+            }
+        } catch (Exception e) {
+            handleFailure(client, e, startNanos);
+        }
+    }
+
+    /**
+     * 입장이 허용된 메시지 저장/브로드캐스트 (방 유입 제어의 queue 정책이면 예약된 시각에 다른 스레드에서 실행)
+     */
+    private void deliver(SocketIOClient client, SocketUser socketUser, User sender, String roomId,
+                         ChatMessageRequest data, MessageContent messageContent, long startNanos) {
+        try {
             String messageType = data.getMessageType();
             Message message = switch (messageType) {
                 case "file" -> handleFileMessage(roomId, socketUser.id(), messageContent, data.getFileData());
@@ -155,38 +184,39 @@ public class ChatMessageHandler {
 
             if (message == null) {
                 log.warn("Empty message - ignoring. room: {}, userId: {}, messageType: {}", roomId, socketUser.id(), messageType);
-                timerSample.stop(createTimer("ignored", messageType));
+                metrics.record(Outcome.ignored(messageType), startNanos);
                 return;
             }
 
             Message savedMessage = messageRepository.save(message);
 
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGE, createMessageResponse(savedMessage, sender));
+            roomBroadcaster.sendEvent(roomId, MESSAGE, createMessageResponse(savedMessage, sender));
+            typingIndicator.stop(roomId, socketUser.id());
 
             // AI 멘션 처리
 //            aiService.handleAIMentions(roomId, socketUser.id(), messageContent);
 
             sessionService.updateLastActivity(socketUser.id());
 
-            // Record success metrics
-            recordMessageSuccess(messageType);
-            timerSample.stop(createTimer("success", messageType));
+            metrics.record(Outcome.success(messageType), startNanos);
 
             log.debug("Message processed - messageId: {}, type: {}, room: {}",
                 savedMessage.getId(), savedMessage.getType(), roomId);
 
         } catch (Exception e) {
-            recordError("exception");
-            log.error("Message handling error", e);
-            client.sendEvent(ERROR, Map.of(
-                "code", "MESSAGE_ERROR",
-                "message", e.getMessage() != null ? e.getMessage() : "메시지 전송 중 오류가 발생했습니다."
-            ));
-            timerSample.stop(createTimer("error", "exception"));
+            handleFailure(client, e, startNanos);
         }
     }
 
+    private void handleFailure(SocketIOClient client, Exception e, long startNanos) {
+        log.error("Message handling error", e);
+        roomBroadcaster.sendToClient(client, ERROR, Map.of(
+            "code", "MESSAGE_ERROR",
+            "message", e.getMessage() != null ? e.getMessage() : "메시지 전송 중 오류가 발생했습니다."
+        ));
+        metrics.record(Outcome.EXCEPTION, startNanos);
+    }
+
     private Message handleFileMessage(String roomId, String userId, MessageContent messageContent, Map<String, Object> fileData) {
         if (fileData == null || fileData.get("_id") == null) {
             throw new IllegalArgumentException("파일 데이터가 올바르지 않습니다.");
@@ -206,7 +236,7 @@ public class ChatMessageHandler {
         message.setFileId(fileId);
         message.setContent(messageContent.getTrimmedContent());
         message.setTimestamp(LocalDateTime.now());
-        message.setMentions(messageContent.aiMentions());
+        message.setMentions(messageContent.mentions());
         
         // 메타데이터는 Map<String, Object>
         Map<String, Object> metadata = new HashMap<>();
@@ -229,7 +259,7 @@ public class ChatMessageHandler {
         message.setContent(messageContent.getTrimmedContent());
         message.setType(MessageType.text);
         message.setTimestamp(LocalDateTime.now());
-        message.setMentions(messageContent.aiMentions());
+        message.setMentions(messageContent.mentions());
 
         return message;
     }
@@ -252,30 +282,4 @@ public class ChatMessageHandler {
 
         return messageResponse;
     }
-
-    // Metrics helper methods
-    private Timer createTimer(String status, String messageType) {
-        return Timer.builder("socketio.messages.processing.time")
-                .description("Socket.IO message processing time")
-                .tag("status", status)
-                .tag("message_type", messageType)
-                .register(meterRegistry);
-    }
-
-    private void recordMessageSuccess(String messageType) {
-        Counter.builder("socketio.messages.total")
-                .description("Total Socket.IO messages processed")
-                .tag("status", "success")
-                .tag("message_type", messageType)
-                .register(meterRegistry)
-                .increment();
-    }
-
-    private void recordError(String errorType) {
-        Counter.builder("socketio.messages.errors")
-                .description("Socket.IO message processing errors")
-                .tag("error_type", errorType)
-                .register(meterRegistry)
-                .increment();
-    }
 }
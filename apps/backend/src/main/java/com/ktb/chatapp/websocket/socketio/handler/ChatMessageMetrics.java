@@ -0,0 +1,140 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 처리 메트릭
+ * 모든 (status, message_type) 조합의 Timer와 카운터를 시작 시 한 번만 등록하고
+ * 메시지마다 Outcome 배열 인덱스로 바로 기록한다. 레지스트리 조회와 태그 해시 비용이 없다.
+ *
+ * 카운터는 스트라이프된 LongAdder로 올리고 FunctionCounter로 노출한다.
+ * app.metrics.socketio.percentiles=true이면 처리 시간 Timer가 p50/p99/p999를 함께 게시한다(HDR 히스토그램 기반).
+ */
+@Slf4j
+@Component
+public class ChatMessageMetrics {
+
+    static final String PROCESSING_TIME = "socketio.messages.processing.time";
+    static final String TOTAL = "socketio.messages.total";
+    static final String ERRORS = "socketio.messages.errors";
+    static final String RATE_LIMIT = "socketio.messages.rate_limit";
+
+    /**
+     * 메시지 처리 결과
+     * timer 태그(status, message_type)와 에러 카운터 태그(error_type)를 함께 가진다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Outcome {
+        SUCCESS_TEXT("success", "text", null),
+        SUCCESS_FILE("success", "file", null),
+        IGNORED_TEXT("ignored", "text", null),
+        IGNORED_FILE("ignored", "file", null),
+        NULL_DATA("error", "null_data", "null_data"),
+        SESSION_NULL("error", "session_null", "session_null"),
+        SESSION_EXPIRED("error", "session_expired", "session_expired"),
+        RATE_LIMITED("error", "rate_limit", "rate_limit_exceeded"),
+        USER_NOT_FOUND("error", "user_not_found", "user_not_found"),
+        ROOM_ACCESS_DENIED("error", "room_access_denied", "room_access_denied"),
+        BANNED_WORD("error", "banned_word", "banned_word"),
+        SLOW_MODE("error", "slow_mode", "slow_mode"),
+        ROOM_THROTTLED("error", "room_throttled", "room_throttled"),
+        EXCEPTION("error", "exception", "exception");
+
+        private final String status;
+        private final String messageType;
+        private final String errorType;
+
+        public boolean isSuccess() {
+            return "success".equals(status);
+        }
+
+        public boolean isError() {
+            return errorType != null;
+        }
+
+        public static Outcome success(String messageType) {
+            return "file".equals(messageType) ? SUCCESS_FILE : SUCCESS_TEXT;
+        }
+
+        public static Outcome ignored(String messageType) {
+            return "file".equals(messageType) ? IGNORED_FILE : IGNORED_TEXT;
+        }
+    }
+
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private final Timer[] timers = new Timer[OUTCOMES.length];
+    private final LongAdder[] counts = new LongAdder[OUTCOMES.length];
+    private final LongAdder rateLimited = new LongAdder();
+
+    public ChatMessageMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.socketio.percentiles:false}") boolean percentiles) {
+        for (Outcome outcome : OUTCOMES) {
+            Timer.Builder timer = Timer.builder(PROCESSING_TIME)
+                    .description("Socket.IO message processing time")
+                    .tag("status", outcome.getStatus())
+                    .tag("message_type", outcome.getMessageType());
+            if (percentiles) {
+                timer.publishPercentiles(0.5, 0.99, 0.999).percentilePrecision(2);
+            }
+            timers[outcome.ordinal()] = timer.register(meterRegistry);
+
+            LongAdder count = new LongAdder();
+            counts[outcome.ordinal()] = count;
+            if (outcome.isSuccess()) {
+                FunctionCounter.builder(TOTAL, count, LongAdder::sum)
+                        .description("Total Socket.IO messages processed")
+                        .tag("status", outcome.getStatus())
+                        .tag("message_type", outcome.getMessageType())
+                        .register(meterRegistry);
+            } else if (outcome.isError()) {
+                FunctionCounter.builder(ERRORS, count, LongAdder::sum)
+                        .description("Socket.IO message processing errors")
+                        .tag("error_type", outcome.getErrorType())
+                        .register(meterRegistry);
+            }
+        }
+
+        FunctionCounter.builder(RATE_LIMIT, rateLimited, LongAdder::sum)
+                .description("Socket.IO rate limit exceeded count")
+                .register(meterRegistry);
+
+        if (percentiles) {
+            log.info("Socket.IO message processing percentiles enabled (p50/p99/p999)");
+        }
+    }
+
+    /**
+     * 처리 시작 시각 (System.nanoTime)
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 처리 결과와 경과 시간 기록
+     */
+    public void record(Outcome outcome, long startNanos) {
+        int index = outcome.ordinal();
+        timers[index].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        counts[index].increment();
+        if (outcome == Outcome.RATE_LIMITED) {
+            rateLimited.increment();
+        }
+    }
+
+    long count(Outcome outcome) {
+        return counts[outcome.ordinal()].sum();
+    }
+}
@@ -4,6 +4,7 @@ import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnDisconnect;
 import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import io.micrometer.core.instrument.Gauge;
@@ -33,6 +34,7 @@ public class ConnectionLoginHandler {
     private final UserRooms userRooms;
     private final RoomJoinHandler roomJoinHandler;
     private final RoomLeaveHandler roomLeaveHandler;
+    private final RoomBroadcaster roomBroadcaster;
 
     public ConnectionLoginHandler(
             SocketIOServer socketIOServer,
@@ -40,12 +42,14 @@ public class ConnectionLoginHandler {
             UserRooms userRooms,
             RoomJoinHandler roomJoinHandler,
             RoomLeaveHandler roomLeaveHandler,
+            RoomBroadcaster roomBroadcaster,
             MeterRegistry meterRegistry) {
         this.socketIOServer = socketIOServer;
         this.connectedUsers = connectedUsers;
         this.userRooms = userRooms;
         this.roomJoinHandler = roomJoinHandler;
         this.roomLeaveHandler = roomLeaveHandler;
+        this.roomBroadcaster = roomBroadcaster;
 
         // Register gauge metric for concurrent users
         Gauge.builder("socketio.concurrent.users", connectedUsers::size)
@@ -77,7 +81,7 @@ public class ConnectionLoginHandler {
             
         } catch (Exception e) {
             log.error("Error handling Socket.IO connection", e);
-            client.sendEvent(ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
                     "message", "연결 처리 중 오류가 발생했습니다."
             ));
         }
@@ -114,7 +118,7 @@ public class ConnectionLoginHandler {
                     userName, userId, connectedUsers.size());
         } catch (Exception e) {
             log.error("Error handling Socket.IO disconnection", e);
-            client.sendEvent(ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
                 "message", "연결 종료 처리 중 오류가 발생했습니다."
             ));
         }
@@ -151,7 +155,7 @@ public class ConnectionLoginHandler {
         }
         
         // Send duplicate login notification
-        existingClient.sendEvent(DUPLICATE_LOGIN, Map.of(
+        roomBroadcaster.sendToClient(existingClient, DUPLICATE_LOGIN, Map.of(
                 "type", "new_login_attempt",
                 "deviceInfo", client.getHandshakeData().getHttpHeaders().get("User-Agent"),
                 "ipAddress", client.getRemoteAddress().toString(),
@@ -161,7 +165,7 @@ public class ConnectionLoginHandler {
         new Thread(() -> {
             try {
                 Thread.sleep(Duration.ofSeconds(10));
-                existingClient.sendEvent(SESSION_ENDED, Map.of(
+                roomBroadcaster.sendToClient(existingClient, SESSION_ENDED, Map.of(
                         "reason", "duplicate_login",
                         "message", "다른 기기에서 로그인하여 현재 세션이 종료되었습니다."
                 ));
@@ -6,6 +6,7 @@ import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -27,13 +28,14 @@ public class MessageFetchHandler {
 
     private final RoomRepository roomRepository;
     private final MessageLoader messageLoader;
+    private final RoomBroadcaster roomBroadcaster;
 
     @OnEvent(FETCH_PREVIOUS_MESSAGES)
     public void handleFetchMessages(SocketIOClient client, FetchMessagesRequest data) {
         String userId = getUserId(client);
         String queueKey = data.roomId() + ":" + userId;
         if (userId == null) {
-            client.sendEvent(ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
                     "code", "UNAUTHORIZED",
                     "message", "인증이 필요합니다."
             ));
@@ -44,7 +46,7 @@ public class MessageFetchHandler {
             // 권한 체크
             Room room = roomRepository.findById(data.roomId()).orElse(null);
             if (room == null || !room.getParticipantIds().contains(userId)) {
-                client.sendEvent(ERROR, Map.of(
+                roomBroadcaster.sendToClient(client, ERROR, Map.of(
                         "code", "LOAD_ERROR",
                         "message", "채팅방 접근 권한이 없습니다."
                 ));
@@ -63,11 +65,11 @@ public class MessageFetchHandler {
                     data.roomId(), result.getMessages().size(),
                     result.isHasMore());
             
-            client.sendEvent(PREVIOUS_MESSAGES_LOADED, result);
+            roomBroadcaster.sendToClient(client, PREVIOUS_MESSAGES_LOADED, result);
 
         } catch (Exception e) {
             log.error("Error handling fetchPreviousMessages", e);
-            client.sendEvent(ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
                     "code", "LOAD_ERROR",
                     "message", e.getMessage() != null ?
                             e.getMessage() : "이전 메시지를 불러오는 중 오류가 발생했습니다."
@@ -9,8 +9,12 @@ import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.MessageArchiveService;
+import com.ktb.chatapp.service.MessageBucketStore;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.UnreadCounterService;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +41,9 @@ public class MessageLoader {
     private final FileRepository fileRepository;
     private final MessageResponseMapper messageResponseMapper;
     private final MessageReadStatusService messageReadStatusService;
+    private final MessageBucketStore messageBucketStore;
+    private final MessageArchiveService messageArchiveService;
+    private final UnreadCounterService unreadCounterService;
 
     private static final int BATCH_SIZE = 30;
 
@@ -60,18 +67,49 @@ public class MessageLoader {
             int limit,
             LocalDateTime before,
             String userId) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by("timestamp").descending());
-
-        Slice<Message> messageSlice = messageRepository
-                .findByRoomIdAndIsDeletedAndTimestampBefore(roomId, false, before, pageable);
-
-        List<Message> messages = messageSlice.getContent();
+        List<Message> messages;
+        boolean hasMore;
+        if (messageBucketStore.isEnabled()) {
+            // 버킷 모드: 방의 최신 버킷 1~2개만 읽어 페이지 구성
+            MessageBucketStore.Page page = messageBucketStore.loadPage(roomId, before, limit);
+            messages = page.messages();
+            hasMore = page.hasMore();
+
+            if (!hasMore) {
+                // 버킷을 모두 읽었으면 가장 오래된 버킷 이전 메시지(모드 전환 전, 정리된 버킷)를 문서 경로에서 이어서 읽는다
+                LocalDateTime documentBefore = page.oldestStart() != null && page.oldestStart().isBefore(before)
+                        ? page.oldestStart()
+                        : before;
+                int remaining = limit - messages.size();
+                if (remaining > 0) {
+                    Page older = loadDocumentPage(roomId, documentBefore, remaining);
+                    if (!older.messages().isEmpty()) {
+                        List<Message> combined = new ArrayList<>(messages);
+                        combined.addAll(older.messages());
+                        messages = combined;
+                    }
+                    hasMore = older.hasMore();
+                } else {
+                    // 페이지가 이미 찼으면 이전 메시지가 있는지만 확인
+                    hasMore = !loadDocumentPage(roomId, documentBefore, 1).messages().isEmpty();
+                }
+            }
+        } else {
+            Page page = loadDocumentPage(roomId, before, limit);
+            messages = page.messages();
+            hasMore = page.hasMore();
+        }
 
         // DESC로 조회했으므로 ASC로 재정렬 (채팅 UI 표시 순서)
         List<Message> sortedMessages = messages.reversed();
         
         var messageIds = sortedMessages.stream().map(Message::getId).toList();
         messageReadStatusService.updateReadStatus(messageIds, userId);
+        messageBucketStore.markRead(roomId, sortedMessages, userId);
+        if (!sortedMessages.isEmpty()) {
+            // 읽음 위치는 앞으로만 이동하므로 과거 페이지 조회는 카운터에 영향 없음
+            unreadCounterService.markRead(userId, roomId, sortedMessages.getLast().getTimestamp());
+        }
 
         // 기존(N+1) 방식: 메시지마다 user/file을 단건 조회 → round-trip 증가
         // 개선: 한 번에 사용자/파일 정보를 불러와 맵으로 캐싱해 재사용.
@@ -89,8 +127,6 @@ public class MessageLoader {
                 })
                 .collect(Collectors.toList());
 
-        boolean hasMore = messageSlice.hasNext();
-
         log.debug("Messages loaded - roomId: {}, limit: {}, count: {}, hasMore: {}",
                 roomId, limit, messageResponses.size(), hasMore);
 
@@ -100,6 +136,34 @@ public class MessageLoader {
                 .build();
     }
 
+    /**
+     * messages 컬렉션에서 before 이전 메시지를 최신순으로 limit개까지 읽고, 부족하면 보관 블록에서 이어서 읽는다.
+     */
+    private Page loadDocumentPage(String roomId, LocalDateTime before, int limit) {
+        Pageable pageable = PageRequest.of(0, limit, Sort.by("timestamp").descending());
+        Slice<Message> messageSlice = messageRepository
+                .findByRoomIdAndIsDeletedAndTimestampBefore(roomId, false, before, pageable);
+        List<Message> messages = messageSlice.getContent();
+        boolean hasMore = messageSlice.hasNext();
+
+        if (!hasMore && messageArchiveService.isEnabled()) {
+            // hot 메시지를 모두 읽었으면 남은 개수만큼 보관 블록에서 이어서 읽는다
+            LocalDateTime archiveBefore = messages.isEmpty() ? before : messages.getLast().getTimestamp();
+            MessageArchiveService.Page archived =
+                    messageArchiveService.loadPage(roomId, archiveBefore, limit - messages.size());
+            if (!archived.messages().isEmpty()) {
+                List<Message> combined = new ArrayList<>(messages);
+                combined.addAll(archived.messages());
+                messages = combined;
+            }
+            hasMore = archived.hasMore();
+        }
+        return new Page(messages, hasMore);
+    }
+
+    private record Page(List<Message> messages, boolean hasMore) {
+    }
+
     private Map<String, User> preloadSenders(List<Message> messages) {
         Set<String> senderIds = messages.stream()
                 .map(Message::getSenderId)
@@ -1,11 +1,12 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MessageReactionRequest;
 import com.ktb.chatapp.dto.MessageReactionResponse;
 import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.service.MessageBucketStore;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -30,20 +31,21 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageReactionHandler {
     
-    private final SocketIOServer socketIOServer;
+    private final RoomBroadcaster roomBroadcaster;
     private final MongoTemplate mongoTemplate;
+    private final MessageBucketStore messageBucketStore;
     
     @OnEvent(MESSAGE_REACTION)
     public void handleMessageReaction(SocketIOClient client, MessageReactionRequest data) {
         try {
             String userId = getUserId(client);
             if (userId == null || userId.isBlank()) {
-                client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+                roomBroadcaster.sendToClient(client, ERROR, Map.of("message", "Unauthorized"));
                 return;
             }
 
             if (data == null || data.getMessageId() == null || data.getReaction() == null) {
-                client.sendEvent(ERROR, Map.of("message", "지원하지 않는 리액션 타입입니다."));
+                roomBroadcaster.sendToClient(client, ERROR, Map.of("message", "지원하지 않는 리액션 타입입니다."));
                 return;
             }
 
@@ -63,9 +65,10 @@ public class MessageReactionHandler {
              */
             Message message = updateReactionsAtomic(data.getMessageId(), data.getReaction(), data.getType(), userId);
             if (message == null) {
-                client.sendEvent(ERROR, Map.of("message", "메시지를 찾을 수 없습니다."));
+                roomBroadcaster.sendToClient(client, ERROR, Map.of("message", "메시지를 찾을 수 없습니다."));
                 return;
             }
+            messageBucketStore.updateReactions(message);
 
             log.debug("Message reaction processed - type: {}, reaction: {}, messageId: {}, userId: {}",
                 data.getType(), data.getReaction(), message.getId(), userId);
@@ -75,12 +78,11 @@ public class MessageReactionHandler {
                 message.getReactions() != null ? message.getReactions() : Map.of()
             );
 
-            socketIOServer.getRoomOperations(message.getRoomId())
-                .sendEvent(MESSAGE_REACTION_UPDATE, response);
+            roomBroadcaster.sendEvent(message.getRoomId(), MESSAGE_REACTION_UPDATE, response);
 
         } catch (Exception e) {
             log.error("Error handling messageReaction", e);
-            client.sendEvent(ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
                 "message", "리액션 처리 중 오류가 발생했습니다."
             ));
         }
@@ -94,7 +96,8 @@ public class MessageReactionHandler {
     private Message updateReactionsAtomic(String messageId, String reaction, String type, String userId) {
         Query query = Query.query(Criteria.where("_id").is(messageId));
         // 필요한 필드만 반환하여 전송량 절약
-        query.fields().include("room").include("reactions");
+        // timestamp는 버킷 모드에서 메시지가 든 버킷을 찾는 데 사용
+        query.fields().include("room").include("reactions").include("timestamp");
 
         Update update = new Update();
         switch (type) {
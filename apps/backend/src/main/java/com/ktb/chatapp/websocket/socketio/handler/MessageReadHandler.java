@@ -1,7 +1,6 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MarkAsReadRequest;
 import com.ktb.chatapp.dto.MessagesReadResponse;
@@ -12,8 +11,13 @@ import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.UnreadCounterService;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -31,18 +35,19 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageReadHandler {
     
-    private final SocketIOServer socketIOServer;
+    private final RoomBroadcaster roomBroadcaster;
     private final MessageReadStatusService messageReadStatusService;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
+    private final UnreadCounterService unreadCounterService;
     
     @OnEvent(MARK_MESSAGES_AS_READ)
     public void handleMarkAsRead(SocketIOClient client, MarkAsReadRequest data) {
         try {
             String userId = getUserId(client);
             if (userId == null) {
-                client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+                roomBroadcaster.sendToClient(client, ERROR, Map.of("message", "Unauthorized"));
                 return;
             }
 
@@ -50,37 +55,42 @@ public class MessageReadHandler {
                 return;
             }
             
-            String roomId = messageRepository.findById(data.getMessageIds().getFirst())
-                    .map(Message::getRoomId).orElse(null);
+            List<Message> targets = messageRepository.findRoomAndTimestampByIdIn(data.getMessageIds());
+            String roomId = targets.isEmpty() ? null : targets.getFirst().getRoomId();
             
             if (roomId == null || roomId.isBlank()) {
-                client.sendEvent(ERROR, Map.of("message", "Invalid room"));
+                roomBroadcaster.sendToClient(client, ERROR, Map.of("message", "Invalid room"));
                 return;
             }
 
             User user = userRepository.findById(userId).orElse(null);
             if (user == null) {
-                client.sendEvent(ERROR, Map.of("message", "User not found"));
+                roomBroadcaster.sendToClient(client, ERROR, Map.of("message", "User not found"));
                 return;
             }
 
             Room room = roomRepository.findById(roomId).orElse(null);
             if (room == null || !room.getParticipantIds().contains(userId)) {
-                client.sendEvent(ERROR, Map.of("message", "Room access denied"));
+                roomBroadcaster.sendToClient(client, ERROR, Map.of("message", "Room access denied"));
                 return;
             }
             
             messageReadStatusService.updateReadStatus(data.getMessageIds(), userId);
+            unreadCounterService.markRead(userId, roomId, targets.stream()
+                    .filter(message -> roomId.equals(message.getRoomId()))
+                    .map(Message::getTimestamp)
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null));
 
             MessagesReadResponse response = new MessagesReadResponse(userId, data.getMessageIds());
 
             // Broadcast to room
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGES_READ, response);
+            roomBroadcaster.sendEvent(roomId, MESSAGES_READ, response);
 
         } catch (Exception e) {
             log.error("Error handling markMessagesAsRead", e);
-            client.sendEvent(ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
                     "message", "읽음 상태 업데이트 중 오류가 발생했습니다."
             ));
         }
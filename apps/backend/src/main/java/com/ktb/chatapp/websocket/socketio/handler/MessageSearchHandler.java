@@ -0,0 +1,66 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.MessageSearchRequest;
+import com.ktb.chatapp.dto.MessageSearchResponse;
+import com.ktb.chatapp.service.MessageSearchService;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 메시지 검색 처리 핸들러
+ * 권한 확인과 검색은 MessageSearchService가 담당하고, 결과는 요청한 클라이언트에게만 전송
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MessageSearchHandler {
+
+    private final MessageSearchService messageSearchService;
+    private final RoomBroadcaster roomBroadcaster;
+
+    @OnEvent(SEARCH_MESSAGES)
+    public void handleSearchMessages(SocketIOClient client, MessageSearchRequest data) {
+        var user = (SocketUser) client.get("user");
+        if (user == null) {
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
+                    "code", "UNAUTHORIZED",
+                    "message", "인증이 필요합니다."
+            ));
+            return;
+        }
+        if (!messageSearchService.isEnabled()) {
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
+                    "code", "SEARCH_DISABLED",
+                    "message", "메시지 검색이 비활성화되어 있습니다."
+            ));
+            return;
+        }
+
+        try {
+            MessageSearchResponse result = messageSearchService.search(data, user.id());
+            roomBroadcaster.sendToClient(client, SEARCH_MESSAGES_RESULT, result);
+        } catch (IllegalArgumentException | AccessDeniedException e) {
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
+                    "code", "SEARCH_ERROR",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error handling searchMessages", e);
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
+                    "code", "SEARCH_ERROR",
+                    "message", "메시지 검색 중 오류가 발생했습니다."
+            ));
+        }
+    }
+}
@@ -1,25 +1,30 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.ActiveStreamResponse;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
 import com.ktb.chatapp.dto.JoinRoomSuccessResponse;
 import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
+import com.ktb.chatapp.websocket.socketio.ai.AiStreamRegistry;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
@@ -34,7 +39,7 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class RoomJoinHandler {
 
-    private final SocketIOServer socketIOServer;
+    private final RoomBroadcaster roomBroadcaster;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
@@ -42,6 +47,8 @@ public class RoomJoinHandler {
     private final MessageLoader messageLoader;
     private final MessageResponseMapper messageResponseMapper;
     private final RoomLeaveHandler roomLeaveHandler;
+    private final AiStreamRegistry aiStreamRegistry;
+    private final ApplicationEventPublisher eventPublisher;
     
     @OnEvent(JOIN_ROOM)
     public void handleJoinRoom(SocketIOClient client, String roomId) {
@@ -50,17 +57,17 @@ public class RoomJoinHandler {
             String userName = getUserName(client);
 
             if (userId == null) {
-                client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "Unauthorized"));
+                roomBroadcaster.sendToClient(client, JOIN_ROOM_ERROR, Map.of("message", "Unauthorized"));
                 return;
             }
             
             if (userRepository.findById(userId).isEmpty()) {
-                client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "User not found"));
+                roomBroadcaster.sendToClient(client, JOIN_ROOM_ERROR, Map.of("message", "User not found"));
                 return;
             }
             
             if (roomRepository.findById(roomId).isEmpty()) {
-                client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
+                roomBroadcaster.sendToClient(client, JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
                 return;
             }
             
@@ -68,12 +75,13 @@ public class RoomJoinHandler {
             if (userRooms.isInRoom(userId, roomId)) {
                 log.debug("User {} already in room {}", userId, roomId);
                 client.joinRoom(roomId);
-                client.sendEvent(JOIN_ROOM_SUCCESS, Map.of("roomId", roomId));
+                roomBroadcaster.sendToClient(client, JOIN_ROOM_SUCCESS, Map.of("roomId", roomId));
                 return;
             }
 
             // MongoDB의 $addToSet 연산자를 사용한 원자적 업데이트
             roomRepository.addParticipant(roomId, userId);
+            eventPublisher.publishEvent(new RoomMembershipChangedEvent(this, roomId, userId, true));
 
             // Join socket room and add to user's room set
             client.joinRoom(roomId);
@@ -100,7 +108,7 @@ public class RoomJoinHandler {
             // 업데이트된 room 다시 조회하여 최신 participantIds 가져오기
             Optional<Room> roomOpt = roomRepository.findById(roomId);
             if (roomOpt.isEmpty()) {
-                client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
+                roomBroadcaster.sendToClient(client, JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
                 return;
             }
 
@@ -118,30 +126,50 @@ public class RoomJoinHandler {
                 .participants(participants)
                 .messages(messageLoadResult.getMessages())
                 .hasMore(messageLoadResult.isHasMore())
-                .activeStreams(Collections.emptyList())
+                .activeStreams(activeStreams(roomId))
                 .build();
 
-            client.sendEvent(JOIN_ROOM_SUCCESS, response);
+            roomBroadcaster.sendToClient(client, JOIN_ROOM_SUCCESS, response);
 
             // 입장 메시지 브로드캐스트
-            socketIOServer.getRoomOperations(roomId)
-                .sendEvent(MESSAGE, messageResponseMapper.mapToMessageResponse(joinMessage, null));
+            roomBroadcaster.sendEvent(roomId, MESSAGE, messageResponseMapper.mapToMessageResponse(joinMessage, null));
 
             // 참가자 목록 업데이트 브로드캐스트
-            socketIOServer.getRoomOperations(roomId)
-                .sendEvent(PARTICIPANTS_UPDATE, participants);
+            roomBroadcaster.sendEvent(roomId, PARTICIPANTS_UPDATE, participants);
 
             log.info("User {} joined room {} successfully. Message count: {}, hasMore: {}",
                 userName, roomId, messageLoadResult.getMessages().size(), messageLoadResult.isHasMore());
 
         } catch (Exception e) {
             log.error("Error handling joinRoom", e);
-            client.sendEvent(JOIN_ROOM_ERROR, Map.of(
+            roomBroadcaster.sendToClient(client, JOIN_ROOM_ERROR, Map.of(
                 "message", e.getMessage() != null ? e.getMessage() : "채팅방 입장에 실패했습니다."
             ));
         }
     }
     
+    /**
+     * 진행 중인 AI 응답을 현재까지 생성된 내용과 함께 내려준다 (이후 청크는 aiMessageChunk로 이어서 수신)
+     * 소켓 방에 먼저 들어간 뒤 읽으므로 그 사이 청크는 실시간으로도 오고 content에도 포함될 수 있다.
+     * 내용과 순번을 함께 읽어 seq로 내려주면 클라이언트가 이미 반영된 청크를 버린다.
+     */
+    private List<ActiveStreamResponse> activeStreams(String roomId) {
+        return aiStreamRegistry.activeSessions(roomId).stream()
+                .map(session -> {
+                    StreamingSession.Snapshot snapshot = session.snapshot();
+                    return ActiveStreamResponse.builder()
+                            .id(session.getMessageId())
+                            .type("ai")
+                            .aiType(session.getAiType())
+                            .content(snapshot.content())
+                            .seq(snapshot.sequence())
+                            .timestamp(Instant.ofEpochMilli(session.getTimestamp()).toString())
+                            .isStreaming(true)
+                            .build();
+                })
+                .toList();
+    }
+
     private SocketUser getUser(SocketIOClient client) {
         return client.get("user");
     }
@@ -1,10 +1,10 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.model.Room;
@@ -12,8 +12,10 @@ import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
+import com.ktb.chatapp.websocket.socketio.ai.AiStreamRegistry;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -22,6 +24,7 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
@@ -36,12 +39,14 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class RoomLeaveHandler {
 
-    private final SocketIOServer socketIOServer;
+    private final RoomBroadcaster roomBroadcaster;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final UserRooms userRooms;
     private final MessageResponseMapper messageResponseMapper;
+    private final AiStreamRegistry aiStreamRegistry;
+    private final ApplicationEventPublisher eventPublisher;
     
     @OnEvent(LEAVE_ROOM)
     public void handleLeaveRoom(SocketIOClient client, String roomId) {
@@ -50,7 +55,7 @@ public class RoomLeaveHandler {
             String userName = getUserName(client);
 
             if (userId == null) {
-                client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+                roomBroadcaster.sendToClient(client, ERROR, Map.of("message", "Unauthorized"));
                 return;
             }
 
@@ -59,6 +64,9 @@ public class RoomLeaveHandler {
                 return;
             }
 
+            // 퇴장/연결 해제한 사용자가 요청한 AI 응답은 더 이상 생성하지 않음
+            aiStreamRegistry.cancel(roomId, userId);
+
             User user = userRepository.findById(userId).orElse(null);
             Room room = roomRepository.findById(roomId).orElse(null);
             
@@ -68,6 +76,7 @@ public class RoomLeaveHandler {
             }
             
             roomRepository.removeParticipant(roomId, userId);
+            eventPublisher.publishEvent(new RoomMembershipChangedEvent(this, roomId, userId, false));
             
             client.leaveRoom(roomId);
             userRooms.remove(userId, roomId);
@@ -78,15 +87,14 @@ public class RoomLeaveHandler {
             
             sendSystemMessage(roomId, userName + "님이 퇴장하였습니다.");
             broadcastParticipantList(roomId);
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(USER_LEFT, Map.of(
-                            "userId", userId,
-                            "userName", userName
-                    ));
+            roomBroadcaster.sendEvent(roomId, USER_LEFT, Map.of(
+                    "userId", userId,
+                    "userName", userName
+            ));
             
         } catch (Exception e) {
             log.error("Error handling leaveRoom", e);
-            client.sendEvent(ERROR, Map.of("message", "채팅방 퇴장 중 오류가 발생했습니다."));
+            roomBroadcaster.sendToClient(client, ERROR, Map.of("message", "채팅방 퇴장 중 오류가 발생했습니다."));
         }
     }
     
@@ -106,8 +114,7 @@ public class RoomLeaveHandler {
             Message savedMessage = messageRepository.save(systemMessage);
             MessageResponse response = messageResponseMapper.mapToMessageResponse(savedMessage, null);
 
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGE, response);
+            roomBroadcaster.sendEvent(roomId, MESSAGE, response);
 
         } catch (Exception e) {
             log.error("Error sending system message", e);
@@ -133,8 +140,7 @@ public class RoomLeaveHandler {
             return;
         }
         
-        socketIOServer.getRoomOperations(roomId)
-                .sendEvent(PARTICIPANTS_UPDATE, participantList);
+        roomBroadcaster.sendEvent(roomId, PARTICIPANTS_UPDATE, participantList);
     }
 
     private SocketUser getUserDto(SocketIOClient client) {
@@ -1,10 +1,13 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.ktb.chatapp.model.AiType;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 @Data
@@ -21,8 +24,17 @@ public class StreamingSession {
     private long timestamp;
     @Builder.Default
     private long lastUpdate = System.currentTimeMillis();
+
+    // 청크마다 문자열을 새로 만들지 않도록 누적 버퍼 사용
+    // 스트림 스레드가 쓰고 방 입장 처리 스레드가 읽으므로 접근은 동기화 메서드로만 한다
     @Builder.Default
-    private String content = "";
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private StringBuilder content = new StringBuilder();
+
+    // 마지막으로 추가된 청크의 순번 (1부터 시작)
+    @Setter(AccessLevel.NONE)
+    private long sequence;
 
     public AiType aiTypeEnum() {
         if (aiType == null) return null;
@@ -38,11 +50,36 @@ public class StreamingSession {
         return aiTypeEnum;
     }
 
-    public void appendContent(String contentChunk) {
-        content += contentChunk;
+    /**
+     * 청크 추가 후 해당 청크의 순번 반환
+     */
+    public synchronized long appendContent(String contentChunk) {
+        content.append(contentChunk);
         lastUpdate = System.currentTimeMillis();
+        return ++sequence;
+    }
+
+    /**
+     * 지금까지 누적된 전체 내용 (스냅샷, 완료 시에만 문자열 생성)
+     */
+    public synchronized String getContent() {
+        return content.toString();
+    }
+
+    /**
+     * 누적 내용과 그 내용에 포함된 마지막 청크 순번을 함께 읽는다 (방 입장 시 중복 청크 판별용)
+     */
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(content.toString(), sequence);
     }
-    
+
+    public record Snapshot(String content, long sequence) {
+    }
+
+    public synchronized int contentLength() {
+        return content.length();
+    }
+
     public long generationTimeMillis() {
         return System.currentTimeMillis() - timestamp;
     }
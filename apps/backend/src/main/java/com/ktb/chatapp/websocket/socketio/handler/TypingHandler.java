@@ -0,0 +1,32 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.typing.TypingIndicator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 입력 중 이벤트 처리 핸들러
+ * 권한은 소켓이 해당 방에 들어가 있는지로만 확인하고(Mongo 조회 없음), 잘못된 요청은 응답 없이 무시한다.
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TypingHandler {
+
+    private final TypingIndicator typingIndicator;
+
+    @OnEvent(TYPING)
+    public void handleTyping(SocketIOClient client, String roomId) {
+        var user = (SocketUser) client.get("user");
+        if (user == null || roomId == null || !client.getAllRooms().contains(roomId)) {
+            return;
+        }
+        typingIndicator.typing(roomId, user.id(), user.name());
+    }
+}
@@ -0,0 +1,50 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.service.UnreadCounterService;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 안 읽은 메시지 수 조회 핸들러
+ * 전체 방의 현재 값을 한 번에 보내고, 이후 변경은 user:{id} 방으로 unreadCountUpdate가 전달된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class UnreadCountHandler {
+
+    private final UnreadCounterService unreadCounterService;
+    private final RoomBroadcaster roomBroadcaster;
+
+    @OnEvent(GET_UNREAD_COUNTS)
+    public void handleGetUnreadCounts(SocketIOClient client) {
+        var user = (SocketUser) client.get("user");
+        if (user == null) {
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
+                    "code", "UNAUTHORIZED",
+                    "message", "인증이 필요합니다."
+            ));
+            return;
+        }
+
+        try {
+            roomBroadcaster.sendToClient(client, UNREAD_COUNTS, unreadCounterService.getCounts(user.id()));
+        } catch (Exception e) {
+            log.error("Error handling getUnreadCounts", e);
+            roomBroadcaster.sendToClient(client, ERROR, Map.of(
+                    "code", "UNREAD_ERROR",
+                    "message", "안 읽은 메시지 수를 불러오는 중 오류가 발생했습니다."
+            ));
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.ktb.chatapp.websocket.socketio.typing;
+
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.TYPING_UPDATE;
+
+/**
+ * 입력 중 표시 (저장하지 않는 휘발성 상태)
+ * 클라이언트는 입력하는 동안 typing 이벤트를 반복해 보내고, 서버는 사용자별로 throttle 간격 안의 이벤트를 버린다.
+ * 마지막 이벤트 후 ttl이 지나면 타이머가 자동으로 지우므로 별도의 중지 이벤트는 필요 없다 (메시지 전송 시에는 바로 지움).
+ *
+ * 방별 입력 중 목록은 interval마다 바뀐 방만 모아 방당 한 번 typingUpdate로 브로드캐스트한다.
+ * 방당 max-typers명, 전체 max-rooms개 방까지만 추적해 참가자가 수천 명인 방에서도 메모리가 제한된다.
+ * Mongo에 접근하지 않으며 상태는 노드별로 유지된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class TypingIndicator {
+
+    public enum Result { ACCEPTED, THROTTLED, DROPPED }
+
+    private static final class Typer {
+        final String name;
+        long lastAcceptedAt;
+        long expiresAt;
+
+        Typer(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * 방 하나의 입력 중 목록 (state 단위로 동기화)
+     */
+    private static final class RoomState {
+        final LinkedHashMap<String, Typer> typers = new LinkedHashMap<>();
+        boolean dirty;
+        boolean removed;
+    }
+
+    private final RoomBroadcaster roomBroadcaster;
+    private final long ttlMillis;
+    private final long throttleMillis;
+    private final Duration interval;
+    private final int maxTypers;
+    private final int maxRooms;
+    private final int maxNames;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<String, RoomState> rooms = new ConcurrentHashMap<>();
+    private final Counter accepted;
+    private final Counter throttled;
+    private final Counter dropped;
+    private final Counter broadcasts;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public TypingIndicator(
+            RoomBroadcaster roomBroadcaster,
+            MeterRegistry meterRegistry,
+            @Value("${app.typing.ttl:5s}") Duration ttl,
+            @Value("${app.typing.throttle:1s}") Duration throttle,
+            @Value("${app.typing.interval:500ms}") Duration interval,
+            @Value("${app.typing.max-typers-per-room:20}") int maxTypers,
+            @Value("${app.typing.max-rooms:10000}") int maxRooms,
+            @Value("${app.typing.max-names:3}") int maxNames) {
+        this(roomBroadcaster, meterRegistry, ttl, throttle, interval, maxTypers, maxRooms, maxNames,
+                Clock.systemUTC());
+    }
+
+    public TypingIndicator(RoomBroadcaster roomBroadcaster, MeterRegistry meterRegistry,
+                           Duration ttl, Duration throttle, Duration interval,
+                           int maxTypers, int maxRooms, int maxNames, Clock clock) {
+        this.roomBroadcaster = roomBroadcaster;
+        this.ttlMillis = ttl.toMillis();
+        this.throttleMillis = throttle.toMillis();
+        this.interval = interval;
+        this.maxTypers = Math.max(1, maxTypers);
+        this.maxRooms = Math.max(1, maxRooms);
+        this.maxNames = Math.max(0, maxNames);
+        this.clock = clock;
+        this.accepted = typingEvents(meterRegistry, "accepted");
+        this.throttled = typingEvents(meterRegistry, "throttled");
+        this.dropped = typingEvents(meterRegistry, "dropped");
+        this.broadcasts = Counter.builder("typing.broadcasts")
+                .description("Aggregated typingUpdate broadcasts sent to rooms")
+                .register(meterRegistry);
+        Gauge.builder("typing.rooms", rooms, Map::size)
+                .description("Rooms with at least one user typing")
+                .register(meterRegistry);
+    }
+
+    private static Counter typingEvents(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("typing.events")
+                .description("Typing events received from clients")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("typing-indicator").daemon(true).factory());
+        long period = Math.max(50, interval.toMillis());
+        scheduler.scheduleAtFixedRate(this::tickSafely, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 사용자가 입력 중임을 기록. 이미 입력 중이면 만료 시각만 연장한다.
+     */
+    public Result typing(String roomId, String userId, String name) {
+        long now = clock.millis();
+        while (true) {
+            RoomState state = rooms.get(roomId);
+            if (state == null) {
+                if (rooms.size() >= maxRooms) {
+                    dropped.increment();
+                    return Result.DROPPED;
+                }
+                state = rooms.computeIfAbsent(roomId, id -> new RoomState());
+            }
+            synchronized (state) {
+                if (state.removed) {
+                    // tick이 방금 비운 방 - 새 상태로 다시 시도
+                    continue;
+                }
+                Typer typer = state.typers.get(userId);
+                if (typer != null) {
+                    if (now - typer.lastAcceptedAt < throttleMillis) {
+                        throttled.increment();
+                        return Result.THROTTLED;
+                    }
+                } else {
+                    if (state.typers.size() >= maxTypers) {
+                        dropped.increment();
+                        return Result.DROPPED;
+                    }
+                    typer = new Typer(name);
+                    state.typers.put(userId, typer);
+                    state.dirty = true;
+                }
+                typer.lastAcceptedAt = now;
+                typer.expiresAt = now + ttlMillis;
+                accepted.increment();
+                return Result.ACCEPTED;
+            }
+        }
+    }
+
+    /**
+     * 메시지를 보낸 사용자는 만료를 기다리지 않고 바로 목록에서 뺀다
+     */
+    public void stop(String roomId, String userId) {
+        RoomState state = rooms.get(roomId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            if (state.typers.remove(userId) != null) {
+                state.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * 만료된 사용자를 지우고, 목록이 바뀐 방마다 한 번씩 브로드캐스트한다.
+     * 빈 목록도 한 번 보내 클라이언트가 표시를 지우게 한 뒤 방 상태를 버린다.
+     */
+    public void tick() {
+        long now = clock.millis();
+        for (Map.Entry<String, RoomState> entry : rooms.entrySet()) {
+            String roomId = entry.getKey();
+            RoomState state = entry.getValue();
+            Map<String, Object> update;
+            synchronized (state) {
+                Iterator<Typer> iterator = state.typers.values().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().expiresAt <= now) {
+                        iterator.remove();
+                        state.dirty = true;
+                    }
+                }
+                if (!state.dirty) {
+                    continue;
+                }
+                state.dirty = false;
+                update = snapshot(roomId, state);
+                if (state.typers.isEmpty()) {
+                    state.removed = true;
+                    rooms.remove(roomId, state);
+                }
+            }
+            roomBroadcaster.sendEvent(roomId, TYPING_UPDATE, update);
+            broadcasts.increment();
+        }
+    }
+
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (Exception e) {
+            log.error("Typing indicator tick failed", e);
+        }
+    }
+
+    /**
+     * { roomId, users: [{ id, name }] (앞에서 max-names명), count }
+     * count가 max-typers-per-room이면 그 이상일 수 있다.
+     */
+    private Map<String, Object> snapshot(String roomId, RoomState state) {
+        List<Map<String, String>> users = new ArrayList<>(Math.min(maxNames, state.typers.size()));
+        for (Map.Entry<String, Typer> typer : state.typers.entrySet()) {
+            if (users.size() >= maxNames) {
+                break;
+            }
+            users.add(Map.of("id", typer.getKey(), "name", typer.getValue().name != null ? typer.getValue().name : ""));
+        }
+        return Map.of(
+                "roomId", roomId,
+                "users", users,
+                "count", state.typers.size()
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package com.ktb.chatapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestBulkheadFilter 테스트")
+class RequestBulkheadFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("허용 수를 넘으면 503으로 거절")
+    void doFilter_PermitsExhausted_Rejected() throws Exception {
+        RequestBulkheadFilter filter = new RequestBulkheadFilter(new ObjectMapper(), meterRegistry, 1, 10);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(request(), new MockHttpServletResponse(), blockingChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request(), rejected, (request, response) -> { });
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("http.bulkhead.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        holder.join();
+
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(request(), accepted, (request, response) -> { });
+        assertThat(accepted.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("허용 수가 0이면 제한하지 않음")
+    void doFilter_Disabled_PassesThrough() throws Exception {
+        RequestBulkheadFilter filter = new RequestBulkheadFilter(new ObjectMapper(), meterRegistry, 0, 10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(), response, (req, res) -> { });
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.find("http.bulkhead.in_flight").gauge()).isNull();
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 비동기 처리가 끝날 때 허용을 반납")
+    void doFilter_AsyncStarted_ReleasesOnComplete() throws Exception {
+        RequestBulkheadFilter filter = new RequestBulkheadFilter(new ObjectMapper(), meterRegistry, 1, 10);
+        MockHttpServletRequest asyncRequest = request();
+        asyncRequest.setAsyncSupported(true);
+
+        filter.doFilter(asyncRequest, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(meterRegistry.get("http.bulkhead.in_flight").gauge().value()).isEqualTo(1);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request(), rejected, (req, res) -> { });
+        assertThat(rejected.getStatus()).isEqualTo(503);
+
+        asyncRequest.getAsyncContext().complete();
+
+        assertThat(meterRegistry.get("http.bulkhead.in_flight").gauge().value()).isZero();
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(request(), accepted, (req, res) -> { });
+        assertThat(accepted.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("파일 다운로드/보기 요청은 제한하지 않음")
+    void doFilter_FileStreaming_Excluded() throws Exception {
+        RequestBulkheadFilter filter = new RequestBulkheadFilter(new ObjectMapper(), meterRegistry, 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (req, res) -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        MockHttpServletRequest asyncRequest = request();
+        asyncRequest.setAsyncSupported(true);
+        filter.doFilter(asyncRequest, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        Thread download = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/files/download/a.png"),
+                        new MockHttpServletResponse(), blockingChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        MockHttpServletResponse view = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/files/view/a.png"), view, (req, res) -> { });
+
+        assertThat(view.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("http.bulkhead.rejected").counter().count()).isZero();
+        release.countDown();
+        download.join();
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/rooms");
+    }
+}
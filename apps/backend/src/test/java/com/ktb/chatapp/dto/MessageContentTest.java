@@ -6,7 +6,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import com.ktb.chatapp.util.BannedWordChecker;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -288,4 +290,61 @@ class MessageContentTest {
             .hasSize(2)
             .containsExactly("wayneAI", "consultingAI");
     }
+
+    @Test
+    @DisplayName("사용자 멘션 추출 (AI 멘션 제외, 중복 제거)")
+    void extractUserMentions() {
+        // given
+        MessageContent messageContent = MessageContent.from("@kim.dev 확인 부탁 @wayneAI @lee_01, @kim.dev 다시");
+
+        // when
+        List<String> mentions = messageContent.getUserMentions();
+
+        // then
+        assertThat(mentions).containsExactly("kim.dev", "lee_01");
+        assertThat(messageContent.aiMentions()).containsExactly("wayneAI");
+        assertThat(messageContent.mentions()).containsExactly("wayneAI", "kim.dev", "lee_01");
+    }
+
+    @Test
+    @DisplayName("한글 이름 멘션 추출, 문장 끝 마침표는 이름에서 제외")
+    void extractKoreanUserMentionWithoutTrailingPeriod() {
+        // given
+        MessageContent messageContent = MessageContent.from("회의록은 @홍길동.");
+
+        // when & then
+        assertThat(messageContent.getUserMentions()).containsExactly("홍길동");
+    }
+
+    @Test
+    @DisplayName("이메일 주소와 단독 @는 사용자 멘션이 아님")
+    void ignoreEmailAndBareAtSign() {
+        // given
+        MessageContent messageContent = MessageContent.from("메일은 user@example.com 으로, 그리고 @ 하나");
+
+        // when & then
+        assertThat(messageContent.getUserMentions()).isEmpty();
+        assertThat(messageContent.mentions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("금칙어 검사기와 함께 생성하면 같은 순회에서 금칙어 포함 여부 계산")
+    void detectBannedWordInSamePass() {
+        // given
+        BannedWordChecker checker = new BannedWordChecker(Set.of("spam"));
+
+        // when & then
+        assertThat(MessageContent.from("  buy SPAM now ", checker).containsBannedWord()).isTrue();
+        assertThat(MessageContent.from("clean message", checker).containsBannedWord()).isFalse();
+        assertThat(MessageContent.from("buy SPAM now").containsBannedWord()).isFalse();
+    }
+
+    @Test
+    @DisplayName("코드 블록이 닫히지 않은 메시지 판별")
+    void detectOpenCodeBlock() {
+        // when & then
+        assertThat(MessageContent.from("```java\nint a;\n```").isOpenCodeBlock()).isFalse();
+        assertThat(MessageContent.from("코드: ```java\nint a;").isOpenCodeBlock()).isTrue();
+        assertThat(MessageContent.from("``인라인`` 코드").isOpenCodeBlock()).isFalse();
+    }
 }
@@ -0,0 +1,86 @@
+package com.ktb.chatapp.security;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachingJwtDecoder 테스트")
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증")
+    void decode_SameToken_DelegatesOnce() {
+        when(delegate.decode("token-1")).thenReturn(jwt("token-1", NOW.plusSeconds(60)));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, clock);
+
+        Jwt first = decoder.decode("token-1");
+        Jwt second = decoder.decode("token-1");
+
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).decode("token-1");
+        assertThat(decoder.hitCount()).isEqualTo(1);
+        assertThat(decoder.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐싱하지 않음")
+    void decode_ExpiredToken_NotCached() {
+        when(delegate.decode("expired")).thenReturn(jwt("expired", NOW.minusSeconds(1)));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, clock);
+
+        decoder.decode("expired");
+        decoder.decode("expired");
+
+        verify(delegate, times(2)).decode("expired");
+        assertThat(decoder.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("검증 실패는 캐싱하지 않음")
+    void decode_InvalidToken_NotCached() {
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid"));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, clock);
+
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        verify(delegate, times(2)).decode("bad");
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않음")
+    void decode_ManyTokens_BoundedSize() {
+        when(delegate.decode(anyString()))
+                .thenAnswer(invocation -> jwt(invocation.getArgument(0), NOW.plusSeconds(60)));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 3, clock);
+
+        for (int i = 0; i < 10; i++) {
+            decoder.decode("token-" + i);
+        }
+
+        assertThat(decoder.size()).isLessThanOrEqualTo(3);
+    }
+
+    private static Jwt jwt(String tokenValue, Instant expiresAt) {
+        return Jwt.withTokenValue(tokenValue)
+                .header("alg", "HS256")
+                .claim("userId", "user-1")
+                .claim("sessionId", "session-1")
+                .issuedAt(expiresAt.minusSeconds(3600))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
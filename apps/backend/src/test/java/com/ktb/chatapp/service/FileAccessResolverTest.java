@@ -0,0 +1,105 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.FileRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("FileAccessResolver 테스트")
+class FileAccessResolverTest {
+
+    private final FileRepository fileRepository = mock(FileRepository.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MessageArchiveService messageArchiveService = mock(MessageArchiveService.class);
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private FileAccessResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new FileAccessResolver(fileRepository, mongoTemplate, messageArchiveService, Duration.ofSeconds(30), 100, 2, clock);
+        File file = File.builder().id("file-1").filename("a.png").mimetype("image/png").build();
+        when(fileRepository.findByFilename("a.png")).thenReturn(Optional.of(file));
+        when(mongoTemplate.findOne(any(Query.class), eq(Message.class)))
+                .thenReturn(Message.builder().roomId("room-1").build());
+    }
+
+    @Test
+    @DisplayName("참가자 판정은 캐싱되어 재요청 시 메시지/방 조회 생략")
+    void resolve_CachesDecision() {
+        when(mongoTemplate.exists(any(Query.class), eq(Room.class))).thenReturn(true);
+
+        assertThat(resolver.resolve("a.png", "user-1").getId()).isEqualTo("file-1");
+        assertThat(resolver.resolve("a.png", "user-1").getId()).isEqualTo("file-1");
+
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(Message.class));
+        verify(mongoTemplate, times(1)).exists(any(Query.class), eq(Room.class));
+        assertThat(resolver.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자당 판정은 max-files-per-user개까지만 캐싱하고, 새 판정은 남긴다")
+    void resolve_BoundsDecisionsPerUser() {
+        when(mongoTemplate.exists(any(Query.class), eq(Room.class))).thenReturn(true);
+        for (String id : new String[]{"b", "c"}) {
+            when(fileRepository.findByFilename(id + ".png"))
+                    .thenReturn(Optional.of(File.builder().id("file-" + id).filename(id + ".png").build()));
+        }
+
+        resolver.resolve("a.png", "user-1");
+        resolver.resolve("b.png", "user-1");
+        resolver.resolve("c.png", "user-1");
+        assertThat(resolver.cachedDecisions("user-1")).isEqualTo(2);
+
+        resolver.resolve("c.png", "user-1");
+        assertThat(resolver.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참가자가 아니면 권한 오류, 입장 이벤트 후에는 다시 판정")
+    void resolve_DeniedUntilMembershipChanges() {
+        when(mongoTemplate.exists(any(Query.class), eq(Room.class))).thenReturn(false, true);
+
+        assertThatThrownBy(() -> resolver.resolve("a.png", "user-1")).hasMessageContaining("권한");
+        assertThatThrownBy(() -> resolver.resolve("a.png", "user-1")).hasMessageContaining("권한");
+
+        resolver.onRoomMembershipChanged(new RoomMembershipChangedEvent(this, "room-1", "user-1", true));
+
+        assertThat(resolver.resolve("a.png", "user-1").getId()).isEqualTo("file-1");
+        verify(mongoTemplate, times(2)).exists(any(Query.class), eq(Room.class));
+    }
+
+    @Test
+    @DisplayName("메시지에 첨부되지 않은 파일은 찾을 수 없음 오류")
+    void resolve_NoMessage() {
+        when(mongoTemplate.findOne(any(Query.class), eq(Message.class))).thenReturn(null);
+
+        assertThatThrownBy(() -> resolver.resolve("a.png", "user-1")).hasMessageContaining("찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("원본 메시지가 보관된 파일은 보관 블록의 방으로 판정")
+    void resolve_ArchivedMessage() {
+        when(mongoTemplate.findOne(any(Query.class), eq(Message.class))).thenReturn(null);
+        when(messageArchiveService.findRoomIdByFileId("file-1")).thenReturn("room-1");
+        when(mongoTemplate.exists(any(Query.class), eq(Room.class))).thenReturn(true);
+
+        assertThat(resolver.resolve("a.png", "user-1").getId()).isEqualTo("file-1");
+    }
+}
@@ -0,0 +1,74 @@
+package com.ktb.chatapp.service;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FilePreviewService 테스트")
+class FilePreviewServiceTest {
+
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("원본보다 작은 크기의 미리보기를 원본 옆에 비율을 유지해 생성")
+    void createPreviews_DownscalesNextToOriginal() throws Exception {
+        Path source = image("photo", 1600, 800, BufferedImage.TYPE_INT_RGB, "jpg");
+
+        Map<String, String> previews = FilePreviewService.createPreviews(source, MAX_PIXELS);
+
+        assertThat(previews).containsOnlyKeys("thumb", "medium");
+        BufferedImage thumb = ImageIO.read(Path.of(previews.get("thumb")).toFile());
+        assertThat(thumb.getWidth()).isEqualTo(160);
+        assertThat(thumb.getHeight()).isEqualTo(80);
+        assertThat(Path.of(previews.get("medium")).getParent()).isEqualTo(source.getParent());
+    }
+
+    @Test
+    @DisplayName("작은 이미지는 확대하지 않고, 투명도가 있으면 PNG로 저장")
+    void createPreviews_SkipsLargerSizesAndKeepsAlpha() throws Exception {
+        Path source = image("icon", 400, 300, BufferedImage.TYPE_INT_ARGB, "png");
+
+        Map<String, String> previews = FilePreviewService.createPreviews(source, MAX_PIXELS);
+
+        assertThat(previews).containsOnlyKeys("thumb");
+        assertThat(previews.get("thumb")).endsWith(".thumb.png");
+    }
+
+    @Test
+    @DisplayName("큰 이미지는 서브샘플링해 디코딩해도 미리보기 크기와 비율이 같다")
+    void createPreviews_SubsamplesLargeImages() throws Exception {
+        Path source = image("large", 4000, 2000, BufferedImage.TYPE_INT_RGB, "png");
+
+        Map<String, String> previews = FilePreviewService.createPreviews(source, MAX_PIXELS);
+
+        BufferedImage medium = ImageIO.read(Path.of(previews.get("medium")).toFile());
+        assertThat(medium.getWidth()).isEqualTo(640);
+        assertThat(medium.getHeight()).isEqualTo(320);
+    }
+
+    @Test
+    @DisplayName("픽셀 수 한도를 넘는 이미지는 디코딩하지 않고 건너뛴다")
+    void createPreviews_SkipsImagesOverPixelLimit() throws Exception {
+        Path source = image("huge", 2000, 1000, BufferedImage.TYPE_INT_RGB, "png");
+
+        Map<String, String> previews = FilePreviewService.createPreviews(source, 1_000_000L);
+
+        assertThat(previews).isEmpty();
+        assertThat(source.resolveSibling("huge.png.thumb.jpg")).doesNotExist();
+    }
+
+    private Path image(String name, int width, int height, int type, String format) throws Exception {
+        Path path = dir.resolve(name + "." + format);
+        ImageIO.write(new BufferedImage(width, height, type), format, path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileSender 테스트")
+class FileSenderTest {
+
+    private final FileSender fileSender = new FileSender();
+    private File file;
+
+    @BeforeEach
+    void setUp(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve("content-key.txt");
+        Files.writeString(path, "0123456789", StandardCharsets.UTF_8);
+        file = File.builder()
+                .id("file-1")
+                .filename("content-key.txt")
+                .originalname("보고서.txt")
+                .mimetype("text/plain")
+                .size(10)
+                .path(path.toString())
+                .build();
+    }
+
+    @Test
+    @DisplayName("전체 전송 시 immutable 캐시 헤더와 ETag 포함")
+    void send_Full() throws Exception {
+        MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).startsWith("attachment;");
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청은 206과 해당 구간만 전송")
+    void send_Range() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    @DisplayName("파일 크기를 벗어난 Range는 416")
+    void send_UnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 304")
+    void send_NotModified() throws Exception {
+        String etag = send(new MockHttpServletRequest("GET", "/")).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원격 URL은 리다이렉트")
+    void send_RemoteRedirect() throws Exception {
+        file.setPath("https://cdn.example.com/content-key.txt");
+
+        MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/"));
+
+        assertThat(response.getRedirectedUrl()).isEqualTo("https://cdn.example.com/content-key.txt");
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileSender.send(file, FileSender.Disposition.ATTACHMENT, request, response);
+        return response;
+    }
+}
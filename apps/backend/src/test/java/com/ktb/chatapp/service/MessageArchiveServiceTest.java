@@ -0,0 +1,126 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.AiType;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageArchive;
+import com.ktb.chatapp.model.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MessageArchiveService 테스트")
+class MessageArchiveServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final LocalDateTime base = LocalDateTime.now().minusDays(60).truncatedTo(ChronoUnit.MILLIS);
+    private MessageArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MessageArchiveService(mongoTemplate, mock(MessageBucketStore.class), new SimpleMeterRegistry(),
+                true, Duration.ofDays(30), Duration.ofMinutes(10), 100, 1000, 0);
+    }
+
+    @Test
+    @DisplayName("블록은 압축 후 원래 메시지로 복원되며 readers는 보관하지 않는다")
+    void serialize_RoundTripsWithoutReaders() {
+        Message message = message(0);
+        message.setType(MessageType.ai);
+        message.setAiType(AiType.WAYNE_AI);
+        message.setReactions(Map.of("👍", Set.of("user-2")));
+        message.setReaders(List.of(new Message.MessageReader("user-3", base)));
+
+        byte[] raw = service.serialize(List.of(message));
+        Message restored = service.deserialize("room-1",
+                MessageArchiveService.gunzip(MessageArchiveService.gzip(raw))).getFirst();
+
+        assertThat(restored.getId()).isEqualTo(message.getId());
+        assertThat(restored.getRoomId()).isEqualTo("room-1");
+        assertThat(restored.getAiType()).isEqualTo(AiType.WAYNE_AI);
+        assertThat(restored.getTimestamp()).isEqualTo(message.getTimestamp());
+        assertThat(restored.getReactions()).containsEntry("👍", Set.of("user-2"));
+        assertThat(restored.getReaders()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비슷한 메시지가 많은 블록은 원본보다 작게 압축된다")
+    void gzip_CompressesRepetitiveBlocks() {
+        List<Message> messages = IntStream.range(0, 100).mapToObj(this::message).toList();
+
+        byte[] raw = service.serialize(messages);
+
+        assertThat(MessageArchiveService.gzip(raw).length).isLessThan(raw.length / 3);
+    }
+
+    @Test
+    @DisplayName("블록을 먼저 저장한 뒤 원본 메시지를 삭제한다")
+    void archiveBlock_SavesBlockBeforeRemovingMessages() {
+        List<Message> messages = IntStream.range(0, 3).mapToObj(this::message).toList();
+        messages.get(1).setFileId("file-1");
+        when(mongoTemplate.find(any(Query.class), eq(Message.class))).thenReturn(messages);
+
+        int moved = service.archiveBlock("room-1", LocalDateTime.now(), 100);
+
+        assertThat(moved).isEqualTo(3);
+        ArgumentCaptor<MessageArchive> block = ArgumentCaptor.forClass(MessageArchive.class);
+        InOrder order = inOrder(mongoTemplate);
+        order.verify(mongoTemplate).save(block.capture());
+        order.verify(mongoTemplate).remove(any(Query.class), eq(Message.class));
+        assertThat(block.getValue().getId()).isEqualTo("room-1:msg-0");
+        assertThat(block.getValue().getCount()).isEqualTo(3);
+        assertThat(block.getValue().getFiles()).containsExactly("file-1");
+    }
+
+    @Test
+    @DisplayName("보관 페이지는 before 이전 메시지를 최신순으로 limit개 반환")
+    void loadPage_ReturnsNewestFirst() {
+        MessageArchive newer = block(IntStream.range(10, 20).mapToObj(this::message).toList());
+        MessageArchive older = block(IntStream.range(0, 10).mapToObj(this::message).toList());
+        when(mongoTemplate.stream(any(Query.class), eq(MessageArchive.class))).thenReturn(Stream.of(newer, older));
+
+        MessageArchiveService.Page page = service.loadPage("room-1", base.plusSeconds(15), 8);
+
+        assertThat(page.messages()).extracting(Message::getId)
+                .containsExactly("msg-14", "msg-13", "msg-12", "msg-11", "msg-10", "msg-9", "msg-8", "msg-7");
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    private MessageArchive block(List<Message> messages) {
+        return MessageArchive.builder()
+                .roomId("room-1")
+                .start(messages.getFirst().getTimestamp())
+                .end(messages.getLast().getTimestamp())
+                .count(messages.size())
+                .payload(MessageArchiveService.gzip(service.serialize(messages)))
+                .build();
+    }
+
+    private Message message(int i) {
+        return Message.builder()
+                .id("msg-" + i)
+                .roomId("room-1")
+                .senderId("user-1")
+                .type(MessageType.text)
+                .content("오래된 메시지 " + i)
+                .timestamp(base.plusSeconds(i))
+                .build();
+    }
+}
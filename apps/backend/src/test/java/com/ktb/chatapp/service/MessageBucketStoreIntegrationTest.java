@@ -0,0 +1,139 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageBucket;
+import com.ktb.chatapp.repository.MessageRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false",
+        "app.messages.storage=bucket",
+        "app.messages.bucket.max-messages=10"
+})
+class MessageBucketStoreIntegrationTest {
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MessageBucketStore messageBucketStore;
+
+    private final String roomId = UUID.randomUUID().toString();
+    private final LocalDateTime base = LocalDateTime.now().minusMinutes(30);
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+        mongoTemplate.remove(new Query(), MessageBucket.class);
+    }
+
+    @Test
+    @DisplayName("저장된 메시지는 max-messages 단위 버킷에 쌓인다")
+    void save_AppendsToBucketsUpToMaxMessages() {
+        IntStream.range(0, 25).forEach(i -> messageRepository.save(message(i)));
+
+        List<MessageBucket> buckets = mongoTemplate.find(
+                Query.query(Criteria.where("room").is(roomId)), MessageBucket.class);
+
+        assertThat(buckets).extracting(MessageBucket::getCount).containsExactlyInAnyOrder(10, 10, 5);
+        assertThat(buckets).allSatisfy(bucket ->
+                assertThat(bucket.getMessages()).hasSize(bucket.getCount()));
+    }
+
+    @Test
+    @DisplayName("페이지는 최신 버킷 1~2개만 읽고 최신순으로 반환")
+    void loadPage_ReadsAtMostTwoBucketsPerPage() {
+        List<Message> saved = appendMessages(35);
+
+        MessageBucketStore.Page first = messageBucketStore.loadPage(roomId, LocalDateTime.now(), 8);
+        assertThat(first.messages()).extracting(Message::getId)
+                .containsExactlyElementsOf(saved.reversed().subList(0, 8).stream().map(Message::getId).toList());
+        assertThat(first.hasMore()).isTrue();
+        assertThat(first.bucketsRead()).isBetween(1, 2);
+
+        LocalDateTime before = first.messages().getLast().getTimestamp();
+        MessageBucketStore.Page second = messageBucketStore.loadPage(roomId, before, 8);
+        assertThat(second.messages()).extracting(Message::getId)
+                .containsExactlyElementsOf(saved.reversed().subList(8, 16).stream().map(Message::getId).toList());
+        assertThat(second.bucketsRead()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 hasMore가 false")
+    void loadPage_LastPageHasNoMore() {
+        appendMessages(5);
+
+        MessageBucketStore.Page page = messageBucketStore.loadPage(roomId, LocalDateTime.now(), 30);
+
+        assertThat(page.messages()).hasSize(5);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("읽음 처리와 리액션 변경이 버킷 사본에 반영된다")
+    void markReadAndReactions_AreMirroredIntoBuckets() {
+        List<Message> saved = appendMessages(3);
+        Message target = saved.get(1);
+
+        messageBucketStore.markRead(roomId, saved, "reader-1");
+        messageBucketStore.markRead(roomId, saved, "reader-1");
+        target.setReactions(Map.of("👍", Set.of("user-2")));
+        messageBucketStore.updateReactions(target);
+
+        List<Message> loaded = messageBucketStore.loadPage(roomId, LocalDateTime.now(), 10).messages();
+        assertThat(loaded).allSatisfy(message ->
+                assertThat(message.getReaders()).extracting(Message.MessageReader::getUserId)
+                        .containsExactly("reader-1"));
+        assertThat(loaded).filteredOn(message -> message.getId().equals(target.getId()))
+                .singleElement()
+                .satisfies(message -> assertThat(message.getReactions()).containsKey("👍"));
+    }
+
+    /**
+     * 저장 시각(@CreatedDate)을 고정할 수 있도록 리스너 대신 버킷에 직접 추가
+     */
+    private List<Message> appendMessages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Message message = message(i);
+                    message.setId(new ObjectId().toHexString());
+                    messageBucketStore.append(message);
+                    return message;
+                })
+                .toList();
+    }
+
+    private Message message(int i) {
+        return Message.builder()
+                .roomId(roomId)
+                .senderId("user-1")
+                .content("message " + i)
+                .timestamp(base.plusSeconds(i))
+                .build();
+    }
+}
@@ -0,0 +1,181 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.dto.MessageSearchRequest;
+import com.ktb.chatapp.dto.MessageSearchResponse;
+import com.ktb.chatapp.dto.MessageSearchResult;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSearchEntry;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "app.messages.search.enabled=true",
+        "socketio.enabled=false"
+})
+class MessageSearchServiceIntegrationTest {
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MessageSearchService messageSearchService;
+
+    private final String userId = UUID.randomUUID().toString();
+    private final LocalDateTime base = LocalDateTime.now().minusHours(1);
+    private String roomA;
+    private String roomB;
+
+    @BeforeEach
+    void setUp() {
+        roomA = roomRepository.save(room(Set.of(userId))).getId();
+        roomB = roomRepository.save(room(Set.of(userId))).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+        roomRepository.deleteAll();
+        mongoTemplate.remove(new Query(), MessageSearchEntry.class);
+    }
+
+    @Test
+    @DisplayName("저장된 메시지는 저장 경로에서 바로 색인되어 검색된다")
+    void save_IndexesMessageForSearch() {
+        Message saved = messageRepository.save(Message.builder()
+                .roomId(roomA)
+                .senderId(userId)
+                .type(MessageType.text)
+                .content("오늘 저녁 배포 일정 공유드립니다")
+                .isDeleted(false)
+                .build());
+
+        MessageSearchResponse response = search("배포 일정", null, null);
+
+        assertThat(response.getResults()).extracting(MessageSearchResult::getMessageId)
+                .containsExactly(saved.getId());
+    }
+
+    @Test
+    @DisplayName("질의 토큰을 모두 포함한 메시지만 최신순으로 반환")
+    void search_MatchesAllTermsNewestFirst() {
+        String older = index(roomA, 0, "서버 배포 완료");
+        index(roomA, 1, "서버 점검 예정");
+        String newer = index(roomB, 2, "프론트 배포 완료했어요");
+
+        MessageSearchResponse response = search("배포 완료", null, null);
+
+        assertThat(response.getResults()).extracting(MessageSearchResult::getMessageId)
+                .containsExactly(newer, older);
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("roomId를 지정하면 해당 방의 결과만 반환")
+    void search_ScopedToRoom() {
+        String inRoomA = index(roomA, 0, "회의록 올렸습니다");
+        index(roomB, 1, "회의록 확인했어요");
+
+        MessageSearchResponse response = search("회의록", roomA, null);
+
+        assertThat(response.getResults()).extracting(MessageSearchResult::getMessageId)
+                .containsExactly(inRoomA);
+    }
+
+    @Test
+    @DisplayName("커서로 이어 읽으면 중복/누락 없이 모든 결과를 순회한다")
+    void search_KeysetPaginationCoversAllResults() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            expected.addFirst(index(roomA, i / 2, "테스트 메시지 " + i));
+        }
+
+        List<String> collected = new ArrayList<>();
+        String cursor = null;
+        do {
+            MessageSearchResponse page = search("테스트", roomA, cursor, 3);
+            page.getResults().forEach(result -> collected.add(result.getMessageId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(collected).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("참여하지 않은 방은 검색할 수 없고, 1자 검색어는 거부한다")
+    void search_RejectsForeignRoomAndShortQuery() {
+        String foreignRoom = roomRepository.save(room(Set.of("someone-else"))).getId();
+        index(foreignRoom, 0, "비밀 메시지");
+
+        assertThatThrownBy(() -> search("비밀", foreignRoom, null))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> search("비", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(search("비밀", null, null).getResults()).isEmpty();
+    }
+
+    /**
+     * 저장 시각(@CreatedDate)을 고정할 수 있도록 리스너 대신 색인을 직접 호출
+     */
+    private String index(String roomId, int seconds, String content) {
+        Message message = Message.builder()
+                .id(new ObjectId().toHexString())
+                .roomId(roomId)
+                .senderId(userId)
+                .type(MessageType.text)
+                .content(content)
+                .timestamp(base.plusSeconds(seconds))
+                .build();
+        messageSearchService.index(message);
+        return message.getId();
+    }
+
+    private MessageSearchResponse search(String query, String roomId, String cursor) {
+        return search(query, roomId, cursor, null);
+    }
+
+    private MessageSearchResponse search(String query, String roomId, String cursor, Integer limit) {
+        return messageSearchService.search(new MessageSearchRequest(query, roomId, cursor, limit), userId);
+    }
+
+    private Room room(Set<String> participants) {
+        return Room.builder()
+                .name("room-" + UUID.randomUUID())
+                .creator(userId)
+                .participantIds(new HashSet<>(participants))
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHashingService 테스트")
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("해시 결과를 비동기로 반환")
+    void encodeAndMatches_Success() throws Exception {
+        release.countDown();
+        service = new PasswordHashingService(new BlockingEncoder(), meterRegistry, 1, 4, 1, 1);
+
+        String encoded = service.encode("password").get(5, TimeUnit.SECONDS);
+
+        assertThat(encoded).isEqualTo("{hashed}password");
+        assertThat(service.matches("password", encoded).get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("auth.password.hash.time").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 즉시 거절")
+    void encode_QueueFull_Rejected() {
+        service = new PasswordHashingService(new BlockingEncoder(), meterRegistry, 1, 1, 1, 1);
+
+        service.encode("running");
+        service.encode("queued");
+        CompletableFuture<String> rejected = service.encode("rejected");
+
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("후속 실행기 큐가 가득 차면 후속 단계를 거절로 실패시킴")
+    void continuationExecutor_QueueFull_Rejected() {
+        release.countDown();
+        service = new PasswordHashingService(new BlockingEncoder(), meterRegistry, 1, 1, 1, 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+
+        service.continuationExecutor().execute(() -> await(blocker));
+        service.continuationExecutor().execute(() -> await(blocker));
+        CompletableFuture<String> rejected = CompletableFuture.completedFuture("hash")
+                .thenApplyAsync(hash -> hash, service.continuationExecutor());
+        blocker.countDown();
+
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(meterRegistry.get("auth.continuation.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "{hashed}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("{hashed}" + rawPassword);
+        }
+
+        private void await() {
+            PasswordHashingServiceTest.await(release);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.event.UnreadCountChangedEvent;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.UnreadCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UnreadCounterService 테스트")
+class UnreadCounterServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final BulkOperations bulk = mock(BulkOperations.class);
+    private final LocalDateTime base = LocalDateTime.now().minusMinutes(10);
+    private UnreadCounterService service;
+
+    @BeforeEach
+    void setUp() {
+        Room room = Room.builder().id("room-1").participantIds(new HashSet<>(Set.of("alice", "bob", "carol"))).build();
+        when(mongoTemplate.findOne(any(Query.class), eq(Room.class))).thenReturn(room);
+        when(mongoTemplate.find(any(Query.class), eq(UnreadCounter.class))).thenReturn(List.of());
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(UnreadCounter.class))).thenReturn(bulk);
+        service = newService();
+        // 카운터는 메모리에 올라온 사용자만 증가시키므로 미리 불러 둔다
+        service.getCounts("bob");
+        service.getCounts("carol");
+    }
+
+    @Test
+    @DisplayName("저장된 메시지는 fan-out에서 보낸 사람을 제외한 참가자의 카운터를 올리고, 묶음당 사용자별 이벤트를 한 번 발행한다")
+    void onMessageSaved_IncrementsOtherParticipants() {
+        saved(message("m1", "alice", 0), message("m2", "alice", 1));
+
+        assertThat(service.getCounts("bob")).containsEntry("room-1", 2L);
+        assertThat(service.getCounts("carol")).containsEntry("room-1", 2L);
+        assertThat(service.getCounts("alice")).doesNotContainKey("room-1");
+
+        ArgumentCaptor<UnreadCountChangedEvent> events = ArgumentCaptor.forClass(UnreadCountChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(UnreadCountChangedEvent::getUserId)
+                .containsExactlyInAnyOrder("bob", "carol");
+        assertThat(events.getAllValues()).extracting(UnreadCountChangedEvent::getCount)
+                .containsOnly(2L);
+    }
+
+    @Test
+    @DisplayName("저장 시점에는 카운터를 건드리지 않고 fan-out까지 기다린다")
+    void onMessageSaved_DefersToFanOut() {
+        service.onMessageSaved(message("m1", "alice", 0));
+
+        assertThat(service.getCounts("bob")).doesNotContainKey("room-1");
+        verify(eventPublisher, never()).publishEvent(any());
+
+        service.fanOut();
+        assertThat(service.getCounts("bob")).containsEntry("room-1", 1L);
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 사용자는 fan-out에서 불러오지 않고, 처음 다룰 때 스냅샷 이후 메시지를 한 번 센다")
+    void fanOut_SkipsUnloadedUsersAndRecountsOnLoad() {
+        when(mongoTemplate.find(any(Query.class), eq(UnreadCounter.class))).thenReturn(List.of(
+                UnreadCounter.builder().id("bob:room-1").userId("bob").roomId("room-1")
+                        .count(1).watermark(base.minusSeconds(10)).updatedAt(base).build()));
+        clearInvocations(mongoTemplate, eventPublisher);
+        UnreadCounterService cold = newService();
+
+        cold.onMessageSaved(message("m1", "alice", 1));
+        cold.fanOut();
+        verify(mongoTemplate, never()).find(any(Query.class), eq(UnreadCounter.class));
+        verify(eventPublisher, never()).publishEvent(any());
+
+        // 아직 fan-out되지 않은 메시지도 다시 센 범위에 포함되므로 중복으로 올리지 않는다
+        cold.onMessageSaved(message("m2", "alice", 2));
+        when(mongoTemplate.count(any(Query.class), eq(Message.class))).thenReturn(3L);
+        assertThat(cold.getCounts("bob")).containsEntry("room-1", 3L);
+        cold.fanOut();
+
+        assertThat(cold.getCounts("bob")).containsEntry("room-1", 3L);
+        verify(mongoTemplate, times(1)).count(any(Query.class), eq(Message.class));
+    }
+
+    @Test
+    @DisplayName("마지막 메시지까지 읽으면 조회 없이 0으로 초기화")
+    void markRead_UpToLatest_ResetsWithoutQuery() {
+        saved(message("m1", "alice", 0), message("m2", "alice", 1));
+
+        service.markRead("bob", "room-1", base.plusSeconds(1));
+
+        assertThat(service.getCounts("bob")).containsEntry("room-1", 0L);
+        verify(mongoTemplate, never()).count(any(Query.class), eq(Message.class));
+    }
+
+    @Test
+    @DisplayName("중간까지만 읽으면 이후 메시지 수를 한 번 다시 센다")
+    void markRead_Partial_Recounts() {
+        for (int i = 0; i < 5; i++) {
+            saved(message("m" + i, "alice", i));
+        }
+        when(mongoTemplate.count(any(Query.class), eq(Message.class))).thenReturn(2L);
+
+        service.markRead("bob", "room-1", base.plusSeconds(2));
+
+        assertThat(service.getCounts("bob")).containsEntry("room-1", 2L);
+    }
+
+    @Test
+    @DisplayName("읽음 위치는 뒤로 가지 않고, 그 이전 시각의 메시지는 세지 않는다")
+    void markRead_WatermarkOnlyMovesForward() {
+        saved(message("m1", "alice", 5));
+        service.markRead("bob", "room-1", base.plusSeconds(5));
+
+        service.markRead("bob", "room-1", base);
+        saved(message("late", "alice", 3));
+
+        assertThat(service.getCounts("bob")).containsEntry("room-1", 0L);
+        verify(mongoTemplate, never()).count(any(Query.class), eq(Message.class));
+    }
+
+    @Test
+    @DisplayName("스냅샷은 변경된 카운터만 한 번의 bulk upsert로 기록한다")
+    void snapshot_WritesOnlyDirtyCounters() {
+        saved(message("m1", "alice", 0));
+
+        assertThat(service.snapshot()).isEqualTo(2);
+        verify(bulk, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(bulk).execute();
+
+        assertThat(service.snapshot()).isZero();
+        verify(bulk).execute();
+    }
+
+    @Test
+    @DisplayName("처음 다루는 사용자는 스냅샷에서 이어서 센다")
+    void entry_LoadsFromSnapshot() {
+        when(mongoTemplate.find(any(Query.class), eq(UnreadCounter.class))).thenReturn(List.of(
+                UnreadCounter.builder().id("bob:room-1").userId("bob").roomId("room-1").count(7).build()));
+        UnreadCounterService fresh = newService();
+        fresh.getCounts("bob");
+
+        fresh.onMessageSaved(message("m1", "alice", 0));
+        fresh.fanOut();
+
+        assertThat(fresh.getCounts("bob")).containsEntry("room-1", 8L);
+    }
+
+    @Test
+    @DisplayName("퇴장하면 카운터와 스냅샷을 지우고, 입장하면 0부터 센다")
+    void membershipChanges() {
+        saved(message("m1", "alice", 0));
+
+        service.onRoomMembershipChanged(new RoomMembershipChangedEvent(this, "room-1", "bob", false));
+        assertThat(service.getCounts("bob")).doesNotContainKey("room-1");
+        verify(mongoTemplate).remove(any(Query.class), eq(UnreadCounter.class));
+
+        service.onRoomMembershipChanged(new RoomMembershipChangedEvent(this, "room-1", "dave", true));
+        assertThat(service.getCounts("dave")).containsEntry("room-1", 0L);
+    }
+
+    private UnreadCounterService newService() {
+        return new UnreadCounterService(mongoTemplate, eventPublisher, new SimpleMeterRegistry(),
+                Duration.ofSeconds(5), 1000);
+    }
+
+    private void saved(Message... messages) {
+        for (Message message : messages) {
+            service.onMessageSaved(message);
+        }
+        service.fanOut();
+    }
+
+    private Message message(String id, String senderId, int seconds) {
+        return Message.builder()
+                .id(id)
+                .roomId("room-1")
+                .senderId(senderId)
+                .type(MessageType.text)
+                .content("hello")
+                .timestamp(base.plusSeconds(seconds))
+                .build();
+    }
+}
@@ -54,4 +54,24 @@ class BannedWordCheckerTest {
         assertFalse(checker.containsBannedWord(null));
         assertFalse(checker.containsBannedWord("   "));
     }
+
+    @Test
+    void containsBannedWord_ignoresCase() {
+        BannedWordChecker checker = new BannedWordChecker(Set.of("BadWord"));
+        assertTrue(checker.containsBannedWord("this has a BADWORD inside"));
+    }
+
+    @Test
+    void containsBannedWord_detectsWordAfterPartialMatchOfAnother() {
+        // "abcd"를 따라가다 실패한 지점에서 접미사 "bce"로 이어져야 한다
+        BannedWordChecker checker = new BannedWordChecker(Set.of("abcd", "bce"));
+        assertTrue(checker.containsBannedWord("xxabcexx"));
+        assertFalse(checker.containsBannedWord("xxabcxx"));
+    }
+
+    @Test
+    void containsBannedWord_detectsWordThatIsSuffixOfLongerPrefix() {
+        BannedWordChecker checker = new BannedWordChecker(Set.of("abcdef", "cd"));
+        assertTrue(checker.containsBannedWord("abcdx"));
+    }
 }
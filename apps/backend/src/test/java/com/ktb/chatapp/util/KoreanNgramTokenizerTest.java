@@ -0,0 +1,39 @@
+package com.ktb.chatapp.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KoreanNgramTokenizer 테스트")
+class KoreanNgramTokenizerTest {
+
+    @Test
+    @DisplayName("한글은 음절 bigram, 영문/숫자는 소문자 단어로 나눈다")
+    void tokenize_MixedScripts() {
+        assertThat(KoreanNgramTokenizer.tokenize("배포 완료했어요 V2.1", 100))
+                .containsExactly("배포", "완료", "료했", "했어", "어요", "v2", "1");
+    }
+
+    @Test
+    @DisplayName("조사가 붙어도 질의 bigram이 색인 토큰에 포함된다")
+    void tokenize_QueryTermsAreSubsetOfIndexTerms() {
+        var indexed = KoreanNgramTokenizer.tokenize("내일 회의실에서 만나요", 100);
+
+        assertThat(indexed).containsAll(KoreanNgramTokenizer.tokenize("회의실", 100));
+    }
+
+    @Test
+    @DisplayName("한 글자 한글 토큰과 전각 문자도 정규화해 색인한다")
+    void tokenize_SingleSyllableAndFullWidth() {
+        assertThat(KoreanNgramTokenizer.tokenize("네 ＯＫ!!", 100)).containsExactly("네", "ok");
+    }
+
+    @Test
+    @DisplayName("중복 토큰은 한 번만, 최대 개수까지만 반환")
+    void tokenize_DeduplicatesAndLimits() {
+        assertThat(KoreanNgramTokenizer.tokenize("하하하하 하하", 100)).containsExactly("하하");
+        assertThat(KoreanNgramTokenizer.tokenize("가나다라마바사", 3)).hasSize(3);
+        assertThat(KoreanNgramTokenizer.tokenize("  🎉 ... ", 100)).isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.MessageType;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MessagePack 코덱 테스트")
+class MessagePackCodecTest {
+
+    private final SocketIOJsonSupport jsonSupport = new SocketIOJsonSupport(new JavaTimeModule());
+
+    @Test
+    @DisplayName("메시지 페이지 왕복 인코딩")
+    void encodeDecode_RoundTrip() {
+        FetchMessagesResponse page = FetchMessagesResponse.builder()
+                .messages(List.of(message("m-1"), message("m-2")))
+                .hasMore(true)
+                .build();
+
+        byte[] encoded = (byte[]) jsonSupport.encode(WireCodec.MSGPACK, page);
+        FetchMessagesResponse decoded = jsonSupport.messagePack().decode(encoded, FetchMessagesResponse.class);
+
+        assertThat(decoded).isEqualTo(page);
+        assertThat(encoded.length).isLessThan(jsonSupport.encode(page).size());
+    }
+
+    @Test
+    @DisplayName("서버에서 허용한 경우에만 MessagePack 협상")
+    void negotiate() {
+        assertThat(WireCodec.negotiate("msgpack", true)).isEqualTo(WireCodec.MSGPACK);
+        assertThat(WireCodec.negotiate("msgpack", false)).isEqualTo(WireCodec.JSON);
+        assertThat(WireCodec.negotiate(null, true)).isEqualTo(WireCodec.JSON);
+        assertThat(WireCodec.negotiate("cbor", true)).isEqualTo(WireCodec.JSON);
+    }
+
+    private static MessageResponse message(String id) {
+        return MessageResponse.builder()
+                .id(id)
+                .roomId("room-1")
+                .content("안녕하세요")
+                .type(MessageType.text)
+                .sender(UserResponse.builder().id("user-1").name("tester").email("t@test.com").profileImage("").build())
+                .timestamp(1_700_000_000_000L)
+                .reactions(Map.of("👍", Set.of("user-2")))
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.MessageType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SocketIOJsonSupport 테스트")
+class SocketIOJsonSupportTest {
+
+    private final SocketIOJsonSupport jsonSupport = new SocketIOJsonSupport(new JavaTimeModule());
+
+    @Test
+    @DisplayName("미리 인코딩한 페이로드는 패킷 인코딩 결과가 동일")
+    void encode_SameBytesAsPerClientEncoding() throws Exception {
+        MessageResponse response = MessageResponse.builder()
+                .id("message-1")
+                .roomId("room-1")
+                .content("안녕하세요 \"quoted\" \n")
+                .type(MessageType.text)
+                .sender(UserResponse.builder().id("user-1").name("tester").build())
+                .timestamp(1_700_000_000_000L)
+                .reactions(Map.of("👍", Set.of("user-2")))
+                .build();
+
+        String direct = write(List.of("message", response));
+        String preEncoded = write(List.of("message", jsonSupport.encode(response)));
+
+        assertThat(preEncoded).isEqualTo(direct);
+        assertThat(direct).doesNotContain("\"file\"");
+    }
+
+    @Test
+    @DisplayName("이미 인코딩된 페이로드는 다시 인코딩하지 않음")
+    void encode_AlreadyEncoded_ReturnsSameInstance() {
+        EncodedPayload encoded = jsonSupport.encode(Map.of("key", "value"));
+
+        assertThat(jsonSupport.encode(encoded)).isSameAs(encoded);
+        assertThat(encoded.size()).isEqualTo("{\"key\":\"value\"}".length());
+    }
+
+    @Test
+    @DisplayName("페이로드 크기는 문자 수가 아니라 UTF-8 바이트 수")
+    void encode_SizeIsUtf8Bytes() throws Exception {
+        EncodedPayload encoded = jsonSupport.encode(Map.of("content", "안녕"));
+
+        assertThat(encoded.size()).isEqualTo(encoded.toString().getBytes(StandardCharsets.UTF_8).length);
+        assertThat(encoded.size()).isGreaterThan(encoded.toString().length());
+    }
+
+    private String write(Object value) throws Exception {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            jsonSupport.writeValue(new ByteBufOutputStream(buf), value);
+            return buf.toString(StandardCharsets.UTF_8);
+        } finally {
+            buf.release();
+        }
+    }
+}
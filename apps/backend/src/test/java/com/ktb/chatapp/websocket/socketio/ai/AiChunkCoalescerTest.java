@@ -0,0 +1,59 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AiChunkCoalescer 테스트")
+class AiChunkCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("시간 창 안의 청크를 하나의 프레임으로 병합하고 코드 블록 상태 유지")
+    void coalesce_MergesWithinWindow() {
+        AiChunkCoalescer coalescer = new AiChunkCoalescer(Duration.ofMillis(50), 64, 2048, meterRegistry);
+
+        StepVerifier.withVirtualTime(() -> coalescer.coalesce(chunks("설명", "```", "java", "\n")))
+                .thenAwait(Duration.ofMillis(50))
+                .assertNext(frame -> {
+                    assertThat(frame.currentChunk()).isEqualTo("설명```java\n");
+                    assertThat(frame.codeBlock()).isTrue();
+                })
+                .verifyComplete();
+
+        assertThat(meterRegistry.get("ai.stream.frames.saved").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("프레임 크기가 max-bytes를 넘지 않도록 분할")
+    void coalesce_SplitsByBytes() {
+        AiChunkCoalescer coalescer = new AiChunkCoalescer(Duration.ofMillis(50), 64, 4, meterRegistry);
+
+        StepVerifier.create(coalescer.coalesce(chunks("ab", "cd", "ef")))
+                .assertNext(frame -> assertThat(frame.currentChunk()).isEqualTo("abcd"))
+                .assertNext(frame -> assertThat(frame.currentChunk()).isEqualTo("ef"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("window가 0이면 병합하지 않음")
+    void coalesce_Disabled_PassesThrough() {
+        AiChunkCoalescer coalescer = new AiChunkCoalescer(Duration.ZERO, 64, 2048, meterRegistry);
+
+        StepVerifier.create(coalescer.coalesce(chunks("a", "b")))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    private static Flux<ChunkData> chunks(String... tokens) {
+        AtomicBoolean codeBlockState = new AtomicBoolean(false);
+        return Flux.just(tokens).map(token -> ChunkData.from(token).updateCodeBlockState(codeBlockState));
+    }
+}
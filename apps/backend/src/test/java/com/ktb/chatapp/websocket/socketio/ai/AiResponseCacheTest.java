@@ -0,0 +1,140 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.model.AiType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AiResponseCache 테스트")
+class AiResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    @DisplayName("정규화된 같은 질문은 저장된 토큰을 재생")
+    void stream_ReplaysCachedTokens() {
+        AiResponseCache cache = cache(Duration.ofMinutes(10), Clock.systemUTC());
+
+        StepVerifier.create(cache.stream(AiType.WAYNE_AI, "안녕하세요?", this::upstream))
+                .expectNext("안녕", "하세요")
+                .verifyComplete();
+        StepVerifier.create(cache.stream(AiType.WAYNE_AI, "  안녕하세요  ", this::upstream))
+                .expectNext("안녕", "하세요")
+                .verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(meterRegistry.get("ai.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.cache.tokens.saved").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("페르소나가 다르거나 TTL이 지나면 upstream 호출")
+    void stream_MissesOnDifferentTypeOrExpiry() {
+        MutableClock clock = new MutableClock();
+        AiResponseCache cache = cache(Duration.ofSeconds(30), clock);
+
+        cache.stream(AiType.WAYNE_AI, "질문", this::upstream).blockLast();
+        cache.stream(AiType.CONSULTING_AI, "질문", this::upstream).blockLast();
+        clock.advance(Duration.ofSeconds(31));
+        cache.stream(AiType.WAYNE_AI, "질문", this::upstream).blockLast();
+
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("진행 중인 동일 요청은 upstream 호출 하나를 공유")
+    void stream_SharesInFlightCall() {
+        AiResponseCache cache = cache(Duration.ofMinutes(10), Clock.systemUTC());
+        Sinks.Many<String> sink = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicInteger calls = new AtomicInteger();
+
+        Flux<String> first = cache.stream(AiType.WAYNE_AI, "질문", () -> {
+            calls.incrementAndGet();
+            return sink.asFlux();
+        });
+        Flux<String> second = cache.stream(AiType.WAYNE_AI, "질문", () -> {
+            calls.incrementAndGet();
+            return Flux.just("unused");
+        });
+
+        StepVerifier.create(Flux.merge(first, second))
+                .then(() -> {
+                    sink.tryEmitNext("a");
+                    sink.tryEmitComplete();
+                })
+                .expectNext("a", "a")
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.cache.requests").tag("result", "shared").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오류로 끝난 응답은 캐싱하지 않음")
+    void stream_DoesNotCacheErrors() {
+        AiResponseCache cache = cache(Duration.ofMinutes(10), Clock.systemUTC());
+
+        StepVerifier.create(cache.stream(AiType.WAYNE_AI, "질문", () -> Flux.error(new IllegalStateException("boom"))))
+                .verifyError(IllegalStateException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 항상 upstream 호출")
+    void stream_Disabled() {
+        AiResponseCache cache = new AiResponseCache(false, Duration.ofMinutes(10), 10, meterRegistry, Clock.systemUTC());
+
+        cache.stream(AiType.WAYNE_AI, "질문", this::upstream).blockLast();
+        cache.stream(AiType.WAYNE_AI, "질문", this::upstream).blockLast();
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    private Flux<String> upstream() {
+        return Flux.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return Flux.just("안녕", "하세요");
+        });
+    }
+
+    private AiResponseCache cache(Duration ttl, Clock clock) {
+        return new AiResponseCache(true, ttl, 10, meterRegistry, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
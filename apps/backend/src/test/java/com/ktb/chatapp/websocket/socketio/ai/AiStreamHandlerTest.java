@@ -0,0 +1,81 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.event.AiMessageChunkEvent;
+import com.ktb.chatapp.event.AiMessageCompleteEvent;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AiStreamHandler 테스트")
+class AiStreamHandlerTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private final ApplicationEventPublisher publisher = events::add;
+
+    @Test
+    @DisplayName("청크마다 delta와 순번을 발행하고 간격마다 스냅샷 포함")
+    void onNext_PublishesDeltasWithPeriodicSnapshots() {
+        StreamingSession session = session();
+        AiStreamHandler handler = new AiStreamHandler(session, publisher, 2);
+
+        handler.onNext(new ChunkData("Hello", false));
+        handler.onNext(new ChunkData(", ", false));
+        handler.onNext(new ChunkData("world", false));
+
+        List<AiMessageChunkEvent> chunks = events.stream()
+                .map(AiMessageChunkEvent.class::cast)
+                .toList();
+        assertThat(chunks).extracting(AiMessageChunkEvent::getSequence).containsExactly(1L, 2L, 3L);
+        assertThat(chunks).extracting(AiMessageChunkEvent::getDelta).containsExactly("Hello", ", ", "world");
+        assertThat(chunks).extracting(AiMessageChunkEvent::getFullContent).containsExactly(null, "Hello, ", null);
+    }
+
+    @Test
+    @DisplayName("완료 이벤트에는 누적된 전체 내용 포함")
+    void onComplete_PublishesAccumulatedContent() {
+        StreamingSession session = session();
+        AiStreamHandler handler = new AiStreamHandler(session, publisher, 0);
+
+        handler.onNext(new ChunkData("a", false));
+        handler.onNext(new ChunkData("b", false));
+        handler.onComplete();
+
+        assertThat(events.getLast()).isInstanceOf(AiMessageCompleteEvent.class);
+        assertThat(((AiMessageCompleteEvent) events.getLast()).getContent()).isEqualTo("ab");
+        assertThat(events.subList(0, 2))
+                .allSatisfy(event -> assertThat(((AiMessageChunkEvent) event).isSnapshot()).isFalse());
+    }
+
+    @Test
+    @DisplayName("스냅샷은 누적 내용과 그 내용에 포함된 마지막 청크 순번을 함께 반환")
+    void snapshot_ReturnsContentWithSequence() {
+        StreamingSession session = session();
+        AiStreamHandler handler = new AiStreamHandler(session, publisher, 0);
+
+        handler.onNext(new ChunkData("a", false));
+        handler.onNext(new ChunkData("b", false));
+        StreamingSession.Snapshot snapshot = session.snapshot();
+        handler.onNext(new ChunkData("c", false));
+
+        assertThat(snapshot.content()).isEqualTo("ab");
+        assertThat(snapshot.sequence()).isEqualTo(2L);
+        // 스냅샷 이후 청크만 seq가 스냅샷 순번보다 크다
+        assertThat(((AiMessageChunkEvent) events.getLast()).getSequence()).isGreaterThan(snapshot.sequence());
+    }
+
+    private static StreamingSession session() {
+        return StreamingSession.builder()
+                .messageId("wayneAI-1")
+                .roomId("room-1")
+                .userId("user-1")
+                .aiType("wayneAI")
+                .query("hi")
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+}
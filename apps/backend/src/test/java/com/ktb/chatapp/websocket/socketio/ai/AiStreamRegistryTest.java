@@ -0,0 +1,97 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.event.AiMessageErrorEvent;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AiStreamRegistry 테스트")
+class AiStreamRegistryTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private final ApplicationEventPublisher publisher = events::add;
+    private final List<String> started = new ArrayList<>();
+
+    @Test
+    @DisplayName("방별 한도를 넘으면 대기열에 넣고 종료 시 순서대로 시작")
+    void submit_QueuesOverRoomLimitAndStartsOnRelease() {
+        AiStreamRegistry registry = registry(10, 1, 10);
+        AiStreamHandler first = handler("m1", "room-1", "user-1");
+        AiStreamHandler second = handler("m2", "room-1", "user-2");
+        AiStreamHandler other = handler("m3", "room-2", "user-3");
+
+        assertThat(submit(registry, first)).isEqualTo(AiStreamRegistry.Admission.STARTED);
+        assertThat(submit(registry, second)).isEqualTo(AiStreamRegistry.Admission.QUEUED);
+        assertThat(submit(registry, other)).isEqualTo(AiStreamRegistry.Admission.STARTED);
+        assertThat(started).containsExactly("m1", "m3");
+
+        registry.release(first);
+
+        assertThat(started).containsExactly("m1", "m3", "m2");
+        assertThat(registry.activeSessions("room-1"))
+                .extracting(StreamingSession::getMessageId)
+                .containsExactly("m2");
+        assertThat(registry.waitingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 한도와 대기열이 모두 차면 거절")
+    void submit_RejectsWhenQueueFull() {
+        AiStreamRegistry registry = registry(1, 1, 1);
+
+        assertThat(submit(registry, handler("m1", "room-1", "user-1"))).isEqualTo(AiStreamRegistry.Admission.STARTED);
+        assertThat(submit(registry, handler("m2", "room-2", "user-2"))).isEqualTo(AiStreamRegistry.Admission.QUEUED);
+        assertThat(submit(registry, handler("m3", "room-3", "user-3"))).isEqualTo(AiStreamRegistry.Admission.REJECTED);
+        assertThat(started).containsExactly("m1");
+    }
+
+    @Test
+    @DisplayName("요청자가 방을 나가면 실행 중/대기 중인 스트림을 취소하고 오류 이벤트 발행")
+    void cancel_CancelsRequesterStreams() {
+        AiStreamRegistry registry = registry(10, 1, 10);
+        AiStreamHandler running = handler("m1", "room-1", "user-1");
+        AiStreamHandler queued = handler("m2", "room-1", "user-1");
+        AiStreamHandler otherUser = handler("m3", "room-1", "user-2");
+        submit(registry, running);
+        submit(registry, queued);
+        submit(registry, otherUser);
+
+        int cancelled = registry.cancel("room-1", "user-1");
+
+        assertThat(cancelled).isEqualTo(2);
+        assertThat(running.isCancelled()).isTrue();
+        assertThat(events).hasSize(2)
+                .allSatisfy(event -> assertThat(event).isInstanceOf(AiMessageErrorEvent.class));
+        assertThat(registry.waitingCount()).isEqualTo(1);
+
+        // 구독 취소 후 doFinally에서 호출되는 release로 다른 사용자의 요청이 시작됨
+        registry.release(running);
+        assertThat(started).containsExactly("m1", "m3");
+    }
+
+    private AiStreamRegistry.Admission submit(AiStreamRegistry registry, AiStreamHandler handler) {
+        return registry.submit(handler, () -> started.add(handler.getSession().getMessageId()));
+    }
+
+    private AiStreamRegistry registry(int maxActive, int maxActivePerRoom, int maxQueued) {
+        return new AiStreamRegistry(publisher, new SimpleMeterRegistry(), maxActive, maxActivePerRoom, maxQueued);
+    }
+
+    private AiStreamHandler handler(String messageId, String roomId, String userId) {
+        StreamingSession session = StreamingSession.builder()
+                .messageId(messageId)
+                .roomId(roomId)
+                .userId(userId)
+                .aiType("wayneAI")
+                .query("hi")
+                .timestamp(System.currentTimeMillis())
+                .build();
+        return new AiStreamHandler(session, publisher, 0);
+    }
+}
@@ -0,0 +1,59 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StubChatModel 테스트")
+class StubChatModelTest {
+
+    @Test
+    @DisplayName("같은 프롬프트는 항상 같은 토큰을 스트리밍")
+    void stream_IsDeterministic() {
+        StubChatModel model = model(0.0, 0.0);
+
+        List<String> first = texts(model, "질문");
+        List<String> second = texts(model, "질문");
+
+        assertThat(first).isNotEmpty().isEqualTo(second);
+        assertThat(first.size()).isBetween(10, 20);
+        assertThat(String.join("", first)).isEqualTo(model.call(new Prompt("질문")).getResult().getOutput().getText());
+    }
+
+    @Test
+    @DisplayName("코드 블록 비율이 1이면 닫힌 코드 블록을 포함")
+    void stream_IncludesCodeBlock() {
+        String content = String.join("", texts(model(1.0, 0.0), "코드 보여줘"));
+
+        assertThat(content).contains("```java\n");
+        assertThat(content.split("```", -1)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("오류 비율이 1이면 스트리밍 도중 오류로 종료")
+    void stream_InjectsError() {
+        StubChatModel model = model(0.0, 1.0);
+        StubChatModel.Script script = model.script(new Prompt("질문"));
+
+        StepVerifier.create(model.stream(new Prompt("질문")))
+                .expectNextCount(script.failAfter())
+                .verifyErrorMessage("Stub AI error injected");
+    }
+
+    private static List<String> texts(StubChatModel model, String query) {
+        return model.stream(new Prompt(query))
+                .map(ChatResponse::getResult)
+                .map(result -> result.getOutput().getText())
+                .collectList()
+                .block();
+    }
+
+    private static StubChatModel model(double codeBlockRatio, double errorRate) {
+        return new StubChatModel(7, 0, 0, 10, 20, codeBlockRatio, errorRate);
+    }
+}
@@ -0,0 +1,236 @@
+package com.ktb.chatapp.websocket.socketio.backpressure;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SlowConsumerGuard 테스트")
+class SlowConsumerGuardTest {
+
+    private static final int LOW = 64;
+    private static final int HIGH = 128;
+    private static final int HARD_LIMIT = 1024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    private final SocketIOClient client = mock(SocketIOClient.class);
+    private final UUID sessionId = UUID.randomUUID();
+    private SlowConsumerGuard guard;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        guard = new SlowConsumerGuard(meterRegistry, true, LOW, HIGH, HARD_LIMIT, Duration.ofSeconds(30), clock);
+        channel = new EmbeddedChannel();
+        guard.register(channel);
+        guard.bind(sessionId, channel);
+        when(client.getSessionId()).thenReturn(sessionId);
+    }
+
+    @Test
+    @DisplayName("쓰기 가능한 채널에는 모든 이벤트를 그대로 보낸다")
+    void send_PassesThroughWhenWritable() {
+        guard.send(client, "room-1", AI_MESSAGE_CHUNK, "chunk");
+        guard.send(client, "room-1", PARTICIPANTS_UPDATE, "participants");
+
+        verify(client).sendEvent(AI_MESSAGE_CHUNK, "chunk");
+        verify(client).sendEvent(PARTICIPANTS_UPDATE, "participants");
+        assertThat(guard.hasSlowClients()).isFalse();
+    }
+
+    @Test
+    @DisplayName("버퍼가 high water mark를 넘으면 병합 대상은 최신 것만 남기고, 버릴 수 있는 이벤트는 버린다")
+    void send_MergesAndDropsWhileUnwritable() {
+        fillBuffer(HIGH + 1);
+        assertThat(channel.isWritable()).isFalse();
+        assertThat(meterRegistry.get("socketio.backpressure.slow_clients").gauge().value()).isEqualTo(1.0);
+
+        guard.send(client, "room-1", PARTICIPANTS_UPDATE, List.of("a"));
+        guard.send(client, "room-1", PARTICIPANTS_UPDATE, List.of("a", "b"));
+        guard.send(client, "room-1", AI_MESSAGE_CHUNK, "chunk");
+        guard.send(client, "room-1", MESSAGES_READ, "read");
+        guard.send(client, "room-1", MESSAGE, "message");
+
+        verify(client).sendEvent(MESSAGE, "message");
+        verify(client, never()).sendEvent(eq(PARTICIPANTS_UPDATE), any());
+        verify(client, never()).sendEvent(eq(AI_MESSAGE_CHUNK), any());
+        verify(client, never()).sendEvent(eq(MESSAGES_READ), any());
+        assertThat(frames("dropped", AI_MESSAGE_CHUNK)).isEqualTo(1.0);
+        assertThat(frames("dropped", MESSAGES_READ)).isEqualTo(1.0);
+        assertThat(frames("merged", PARTICIPANTS_UPDATE)).isEqualTo(1.0);
+
+        channel.flush();
+        channel.runPendingTasks();
+
+        assertThat(channel.isWritable()).isTrue();
+        verify(client).sendEvent(PARTICIPANTS_UPDATE, List.of("a", "b"));
+        verify(client, times(1)).sendEvent(eq(PARTICIPANTS_UPDATE), any());
+        assertThat(meterRegistry.get("socketio.backpressure.slow_clients").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 가능해진 뒤 보내는 병합 대상은 대기 중인 이전 프레임을 대체한다")
+    void send_ReplacesPendingMergedFrameWhenWritable() {
+        fillBuffer(HIGH + 1);
+        assertThat(guard.hasSlowClients()).isTrue();
+        guard.send(client, "room-1", PARTICIPANTS_UPDATE, List.of("a"));
+
+        // 쓰기 가능 전환 이벤트가 아직 처리되지 않은 상태를 만든다
+        channel.pipeline().remove("slowConsumerGuard");
+        channel.flush();
+        channel.runPendingTasks();
+        assertThat(channel.isWritable()).isTrue();
+
+        guard.send(client, "room-1", PARTICIPANTS_UPDATE, List.of("a", "b"));
+
+        verify(client).sendEvent(PARTICIPANTS_UPDATE, List.of("a", "b"));
+        verify(client, never()).sendEvent(PARTICIPANTS_UPDATE, List.of("a"));
+    }
+
+    @Test
+    @DisplayName("polling에서 업그레이드한 websocket 요청은 sid로 세션에 묶는다")
+    void register_BindsUpgradedWebSocketBySid() {
+        EmbeddedChannel upgraded = new EmbeddedChannel();
+        guard.register(upgraded);
+        SocketIOClient polling = mock(SocketIOClient.class);
+        UUID pollingSession = UUID.randomUUID();
+        when(polling.getSessionId()).thenReturn(pollingSession);
+
+        upgraded.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET,
+                "/socket.io/?EIO=4&transport=websocket&sid=" + pollingSession));
+        ReferenceCountUtil.release(upgraded.readInbound());
+        upgraded.write(Unpooled.wrappedBuffer(new byte[HIGH + 1]));
+        upgraded.runPendingTasks();
+
+        guard.send(polling, "room-1", AI_MESSAGE_CHUNK, "chunk");
+        verify(polling, never()).sendEvent(eq(AI_MESSAGE_CHUNK), any());
+    }
+
+    @Test
+    @DisplayName("세션이 다르면 원격 주소가 같아도 다른 채널 상태로 판정한다")
+    void send_KeysStateBySession() {
+        fillBuffer(HIGH + 1);
+        SocketIOClient other = mock(SocketIOClient.class);
+        when(other.getSessionId()).thenReturn(UUID.randomUUID());
+        when(other.getRemoteAddress()).thenReturn(channel.remoteAddress());
+
+        guard.send(other, "room-1", AI_MESSAGE_CHUNK, "chunk");
+
+        verify(other).sendEvent(AI_MESSAGE_CHUNK, "chunk");
+    }
+
+    @Test
+    @DisplayName("방이 다르면 같은 이벤트도 따로 병합한다")
+    void send_MergesPerRoom() {
+        fillBuffer(HIGH + 1);
+
+        guard.send(client, "room-1", TYPING_UPDATE, Map.of("roomId", "room-1"));
+        guard.send(client, "room-2", TYPING_UPDATE, Map.of("roomId", "room-2"));
+        channel.flush();
+        channel.runPendingTasks();
+
+        verify(client).sendEvent(TYPING_UPDATE, Map.of("roomId", "room-1"));
+        verify(client).sendEvent(TYPING_UPDATE, Map.of("roomId", "room-2"));
+    }
+
+    @Test
+    @DisplayName("대기 바이트가 hard limit을 넘으면 연결을 끊는다")
+    void send_DisconnectsPastHardLimit() {
+        fillBuffer(HARD_LIMIT + 1);
+
+        guard.send(client, "room-1", MESSAGE, "message");
+
+        verify(client).disconnect();
+        verify(client, never()).sendEvent(eq(MESSAGE), any());
+        assertThat(channel.isOpen()).isFalse();
+        assertThat(meterRegistry.get("socketio.backpressure.disconnects").tag("reason", "hard_limit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("max-stall 동안 버퍼가 비워지지 않으면 연결을 끊는다")
+    void send_DisconnectsAfterMaxStall() {
+        fillBuffer(HIGH + 1);
+        guard.send(client, "room-1", MESSAGE, "first");
+
+        clock.advance(Duration.ofSeconds(30));
+        guard.send(client, "room-1", MESSAGE, "second");
+
+        verify(client).sendEvent(MESSAGE, "first");
+        verify(client, never()).sendEvent(MESSAGE, "second");
+        verify(client).disconnect();
+        assertThat(meterRegistry.get("socketio.backpressure.disconnects").tag("reason", "stalled").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 버퍼 상태와 관계없이 그대로 보낸다")
+    void send_DisabledPassesThrough() {
+        SlowConsumerGuard disabled = new SlowConsumerGuard(new SimpleMeterRegistry(), false, LOW, HIGH, HARD_LIMIT,
+                Duration.ofSeconds(30), clock);
+        fillBuffer(HARD_LIMIT + 1);
+
+        disabled.send(client, "room-1", AI_MESSAGE_CHUNK, "chunk");
+
+        verify(client).sendEvent(AI_MESSAGE_CHUNK, "chunk");
+        verify(client, never()).disconnect();
+    }
+
+    /**
+     * flush 없이 써서 송신 버퍼에 bytes만큼 쌓는다
+     */
+    private void fillBuffer(int bytes) {
+        channel.write(Unpooled.wrappedBuffer(new byte[bytes]));
+        channel.runPendingTasks();
+    }
+
+    private double frames(String action, String event) {
+        return meterRegistry.get("socketio.backpressure.frames").tag("action", action).tag("event", event)
+                .counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
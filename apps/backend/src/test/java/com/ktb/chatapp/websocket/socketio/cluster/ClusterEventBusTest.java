@@ -0,0 +1,175 @@
+package com.ktb.chatapp.websocket.socketio.cluster;
+
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomService;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
+import com.mongodb.client.model.changestream.OperationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ClusterEventBus 테스트")
+class ClusterEventBusTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final RoomBroadcaster roomBroadcaster = mock(RoomBroadcaster.class);
+    private final RoomService roomService = mock(RoomService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final FileRepository fileRepository = mock(FileRepository.class);
+    private LocalOrigins localOrigins;
+    private ClusterEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        // 애플리케이션과 같이 java.time 등을 단순 타입으로 다루는 변환 설정
+        MongoCustomConversions conversions = MongoCustomConversions.create(adapter -> { });
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(userRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        localOrigins = new LocalOrigins(Duration.ofSeconds(60), 100);
+        bus = new ClusterEventBus(mongoTemplate, roomBroadcaster, localOrigins, roomService,
+                userRepository, fileRepository, new MessageResponseMapper(), new SimpleMeterRegistry(),
+                "node-a", Duration.ofSeconds(1), Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 저장된 메시지는 방에 message 이벤트로 전달")
+    void dispatch_RemoteMessage_BroadcastsToRoom() {
+        String id = new ObjectId().toHexString();
+
+        bus.dispatch("messages", OperationType.INSERT, id, message(id, "text"), System.currentTimeMillis());
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(roomBroadcaster).sendEvent(eq("room-1"), eq(MESSAGE), payload.capture());
+        assertThat(payload.getValue()).isInstanceOfSatisfying(MessageResponse.class,
+                response -> assertThat(response.getId()).isEqualTo(id));
+    }
+
+    @Test
+    @DisplayName("이 노드가 저장한 메시지는 한 번 건너뛴다")
+    void dispatch_LocalMessage_IsSkippedOnce() {
+        String id = new ObjectId().toHexString();
+        localOrigins.mark("messages", id);
+
+        bus.dispatch("messages", OperationType.INSERT, id, message(id, "text"), System.currentTimeMillis());
+        verifyNoInteractions(roomBroadcaster);
+
+        bus.dispatch("messages", OperationType.INSERT, id, message(id, "text"), System.currentTimeMillis());
+        verify(roomBroadcaster).sendEvent(eq("room-1"), eq(MESSAGE), any());
+    }
+
+    @Test
+    @DisplayName("max-replay-age보다 오래된 변경은 전달하지 않는다")
+    void dispatch_StaleChange_IsSkipped() {
+        String id = new ObjectId().toHexString();
+        long twoMinutesAgo = System.currentTimeMillis() - Duration.ofMinutes(2).toMillis();
+
+        bus.dispatch("messages", OperationType.INSERT, id, message(id, "text"), twoMinutesAgo);
+
+        verifyNoInteractions(roomBroadcaster);
+    }
+
+    @Test
+    @DisplayName("AI 메시지는 aiMessageComplete 형태로 전달")
+    void dispatch_AiMessage_SendsCompleteEvent() {
+        String id = new ObjectId().toHexString();
+        Document document = message(id, "ai").append("aiType", "WAYNE_AI");
+
+        bus.dispatch("messages", OperationType.INSERT, id, document, System.currentTimeMillis());
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(roomBroadcaster).sendEvent(eq("room-1"), eq(AI_MESSAGE_COMPLETE), payload.capture());
+        assertThat(payload.getValue()).isInstanceOfSatisfying(Map.class,
+                data -> assertThat(data.get("_id")).isEqualTo(id));
+    }
+
+    @Test
+    @DisplayName("방 생성은 room-list, 방 갱신은 해당 방으로 전달")
+    void dispatch_RoomChanges() {
+        String id = new ObjectId().toHexString();
+        RoomResponse response = RoomResponse.builder().id(id).name("general").build();
+        when(roomService.toRoomResponse(any(Room.class))).thenReturn(response);
+        Document room = new Document("_id", new ObjectId(id)).append("name", "general");
+
+        bus.dispatch("rooms", OperationType.INSERT, id, room, System.currentTimeMillis());
+        bus.dispatch("rooms", OperationType.UPDATE, id, room, System.currentTimeMillis());
+
+        verify(roomBroadcaster).sendEvent("room-list", ROOM_CREATED, response);
+        verify(roomBroadcaster).sendEvent(id, ROOM_UPDATE, response);
+    }
+
+    @Test
+    @DisplayName("로컬 출처 기록은 한 번만 소비되고 TTL이 지나면 무시된다")
+    void localOrigins_ConsumeOnceAndExpire() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+        LocalOrigins origins = new LocalOrigins(Duration.ofSeconds(60), 100, clock);
+        LocalOrigins expired = new LocalOrigins(Duration.ZERO, 100, clock);
+        origins.mark("rooms", "room-1");
+        expired.mark("rooms", "room-1");
+
+        assertThat(origins.consume("rooms", "room-1")).isTrue();
+        assertThat(origins.consume("rooms", "room-1")).isFalse();
+        assertThat(expired.consume("rooms", "room-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장 직전에 기록하고, 새 문서는 _id를 미리 발급해 기록한다")
+    void saveListener_MarksBeforeSave() {
+        LocalOrigins.SaveListener listener = new LocalOrigins.SaveListener(localOrigins);
+        Document inserted = new Document("room", "room-1");
+        String existingId = new ObjectId().toHexString();
+        Document updated = new Document("_id", new ObjectId(existingId));
+
+        listener.onBeforeSave(new BeforeSaveEvent<>(new Message(), inserted, "messages"));
+        listener.onBeforeSave(new BeforeSaveEvent<>(new Message(), updated, "messages"));
+
+        assertThat(inserted.get("_id")).isInstanceOf(ObjectId.class);
+        assertThat(localOrigins.consume("messages", inserted.getObjectId("_id").toHexString())).isTrue();
+        assertThat(localOrigins.consume("messages", existingId)).isTrue();
+    }
+
+    private static Document message(String id, String type) {
+        return new Document("_id", new ObjectId(id))
+                .append("room", "room-1")
+                .append("sender", "user-1")
+                .append("content", "hello")
+                .append("type", type)
+                .append("timestamp", new Date());
+    }
+}
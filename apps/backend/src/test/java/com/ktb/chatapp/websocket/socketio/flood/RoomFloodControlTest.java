@@ -0,0 +1,201 @@
+package com.ktb.chatapp.websocket.socketio.flood;
+
+import com.ktb.chatapp.websocket.socketio.flood.RoomFloodControl.Admission;
+import com.ktb.chatapp.websocket.socketio.flood.RoomFloodControl.OverflowPolicy;
+import com.ktb.chatapp.websocket.socketio.flood.RoomFloodControl.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RoomFloodControl 테스트")
+class RoomFloodControlTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+
+    private RoomFloodControl control(double ratePerSecond, int burst, Duration slowMode, OverflowPolicy overflow) {
+        return new RoomFloodControl(meterRegistry, ratePerSecond, burst, slowMode, overflow,
+                Duration.ofSeconds(1), 2, 1, 1, clock);
+    }
+
+    @Test
+    @DisplayName("burst만큼 한 번에 허용하고, 이후에는 rate 간격으로 자리가 난다")
+    void admit_AllowsBurstThenRate() {
+        RoomFloodControl control = control(10, 3, Duration.ZERO, OverflowPolicy.REJECT);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(control.admit("room-1", "u" + i).result()).isEqualTo(Result.ADMITTED);
+        }
+        Admission rejected = control.admit("room-1", "u3");
+        assertThat(rejected.result()).isEqualTo(Result.ROOM_THROTTLED);
+        assertThat(rejected.retryAfterMillis()).isEqualTo(100);
+
+        clock.advance(Duration.ofMillis(100));
+        assertThat(control.admit("room-1", "u3").result()).isEqualTo(Result.ADMITTED);
+        assertThat(control.admit("room-1", "u4").result()).isEqualTo(Result.ROOM_THROTTLED);
+    }
+
+    @Test
+    @DisplayName("방마다 한도를 따로 계산한다")
+    void admit_TracksRoomsIndependently() {
+        RoomFloodControl control = control(1, 1, Duration.ZERO, OverflowPolicy.REJECT);
+
+        assertThat(control.admit("room-1", "u1").result()).isEqualTo(Result.ADMITTED);
+        assertThat(control.admit("room-2", "u1").result()).isEqualTo(Result.ADMITTED);
+        assertThat(control.admit("room-1", "u2").result()).isEqualTo(Result.ROOM_THROTTLED);
+    }
+
+    @Test
+    @DisplayName("queue 정책은 max-queue-delay 안의 메시지를 자리가 나는 시각으로 예약한다")
+    void admit_QueuesWithinMaxDelay() {
+        RoomFloodControl control = control(10, 1, Duration.ZERO, OverflowPolicy.QUEUE);
+
+        assertThat(control.admit("room-1", "u1").result()).isEqualTo(Result.ADMITTED);
+        Admission first = control.admit("room-1", "u2");
+        Admission second = control.admit("room-1", "u3");
+        assertThat(first.result()).isEqualTo(Result.QUEUED);
+        assertThat(first.delayMillis()).isEqualTo(100);
+        assertThat(second.delayMillis()).isEqualTo(200);
+
+        // 대기 시간 300ms ~ 1000ms까지 예약되고, 그 다음은 max-queue-delay(1s)를 넘는다
+        for (int i = 0; i < 8; i++) {
+            assertThat(control.admit("room-1", "q" + i).result()).isEqualTo(Result.QUEUED);
+        }
+        assertThat(control.admit("room-1", "late").result()).isEqualTo(Result.ROOM_THROTTLED);
+    }
+
+    @Test
+    @DisplayName("예약된 메시지는 스레드가 여러 개여도 방마다 하나씩 예약 순서대로 실행한다")
+    void schedule_RunsQueuedMessagesInOrderPerRoom() throws InterruptedException {
+        RoomFloodControl control = new RoomFloodControl(meterRegistry, 10, 1, Duration.ZERO, OverflowPolicy.QUEUE,
+                Duration.ofSeconds(1), 2, 1, 4, clock);
+        control.admit("room-1", "u1");
+        control.start();
+        try {
+            List<Integer> order = new CopyOnWriteArrayList<>();
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(20);
+            for (int i = 0; i < 20; i++) {
+                int index = i;
+                control.schedule("room-1", 0, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    order.add(index);
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(order).isSorted().hasSize(20);
+            assertThat(maxRunning.get()).isEqualTo(1);
+        } finally {
+            control.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("슬로우 모드는 같은 사용자의 재전송만 막고, 방 한도로 거절되면 간격을 소모하지 않는다")
+    void admit_AppliesSlowModePerUser() {
+        RoomFloodControl control = control(1, 2, Duration.ofSeconds(5), OverflowPolicy.REJECT);
+
+        assertThat(control.admit("room-1", "u1").result()).isEqualTo(Result.ADMITTED);
+        Admission slow = control.admit("room-1", "u1");
+        assertThat(slow.result()).isEqualTo(Result.SLOW_MODE);
+        assertThat(slow.retryAfterSeconds()).isEqualTo(5);
+
+        assertThat(control.admit("room-1", "u2").result()).isEqualTo(Result.ADMITTED);
+        assertThat(control.admit("room-1", "u3").result()).isEqualTo(Result.ROOM_THROTTLED);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(control.admit("room-1", "u3").result()).isEqualTo(Result.ADMITTED);
+    }
+
+    @Test
+    @DisplayName("거절은 결과별로 집계하고, 방별 카운터는 metered-rooms개 방까지만 등록한다")
+    void admit_RecordsThrottleMetrics() {
+        RoomFloodControl control = control(1, 1, Duration.ZERO, OverflowPolicy.REJECT);
+
+        control.admit("room-1", "u1");
+        control.admit("room-1", "u2");
+        control.admit("room-1", "u3");
+        control.admit("room-2", "u1");
+        control.admit("room-2", "u2");
+
+        assertThat(meterRegistry.get("chat.flood.decisions").tag("result", "room_throttled").counter().count())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get("chat.flood.throttled").tag("room", "room-1").functionCounter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.find("chat.flood.throttled").tag("room", "room-2").functionCounter()).isNull();
+    }
+
+    @Test
+    @DisplayName("max-rooms를 넘는 방은 추적하지 않고 통과시키며, 유휴 방은 정리된다")
+    void admit_FailsOpenBeyondMaxRoomsAndSweepsIdleRooms() {
+        RoomFloodControl control = control(1, 1, Duration.ofSeconds(1), OverflowPolicy.REJECT);
+
+        control.admit("room-1", "u1");
+        control.admit("room-2", "u1");
+        assertThat(control.admit("room-3", "u1").result()).isEqualTo(Result.ADMITTED);
+        assertThat(control.admit("room-3", "u2").result()).isEqualTo(Result.ADMITTED);
+        assertThat(control.trackedRooms()).isEqualTo(2);
+
+        control.admit("room-1", "u1");
+        clock.advance(Duration.ofSeconds(2));
+        control.sweep();
+
+        assertThat(control.trackedRooms()).isZero();
+        assertThat(meterRegistry.find("chat.flood.throttled").tag("room", "room-1").functionCounter()).isNull();
+    }
+
+    @Test
+    @DisplayName("한도와 슬로우 모드가 모두 꺼져 있으면 상태를 만들지 않는다")
+    void admit_DisabledKeepsNoState() {
+        RoomFloodControl control = control(0, 1, Duration.ZERO, OverflowPolicy.REJECT);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(control.admit("room-1", "u1").result()).isEqualTo(Result.ADMITTED);
+        }
+        assertThat(control.trackedRooms()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.ktb.chatapp.dto.ChatMessageRequest;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
@@ -14,13 +13,17 @@ import com.ktb.chatapp.service.RateLimitService;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
 import com.ktb.chatapp.util.BannedWordChecker;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.ai.AiService;
+import com.ktb.chatapp.websocket.socketio.flood.RoomFloodControl;
+import com.ktb.chatapp.websocket.socketio.typing.TypingIndicator;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,15 +39,17 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ChatMessageHandlerTest {
 
-    @Mock private SocketIOServer socketIOServer;
+    @Mock private RoomBroadcaster roomBroadcaster;
     @Mock private MessageRepository messageRepository;
     @Mock private RoomRepository roomRepository;
     @Mock private UserRepository userRepository;
     @Mock private FileRepository fileRepository;
     @Mock private AiService aiService;
     @Mock private SessionService sessionService;
-    @Mock private BannedWordChecker bannedWordChecker;
     @Mock private RateLimitService rateLimitService;
+    @Mock private TypingIndicator typingIndicator;
+    @Mock private RoomFloodControl roomFloodControl;
+    private BannedWordChecker bannedWordChecker = new BannedWordChecker(Set.of("bad"));
     private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     private ChatMessageHandler handler;
@@ -53,7 +58,7 @@ class ChatMessageHandlerTest {
     void setUp() {
         handler =
                 new ChatMessageHandler(
-                        socketIOServer,
+                        roomBroadcaster,
                         messageRepository,
                         roomRepository,
                         userRepository,
@@ -62,7 +67,9 @@ class ChatMessageHandlerTest {
                         sessionService,
                         bannedWordChecker,
                         rateLimitService,
-                        meterRegistry);
+                        new ChatMessageMetrics(meterRegistry, false),
+                        typingIndicator,
+                        roomFloodControl);
     }
 
     @Test
@@ -95,15 +102,17 @@ class ChatMessageHandlerTest {
                         .content("bad word")
                         .build();
 
-        when(bannedWordChecker.containsBannedWord("bad word")).thenReturn(true);
-
         handler.handleChatMessage(client, request);
 
         ArgumentCaptor<Map<String, String>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
-        verify(client).sendEvent(eq(ERROR), payloadCaptor.capture());
+        verify(roomBroadcaster).sendToClient(eq(client), eq(ERROR), payloadCaptor.capture());
         Map<String, String> payload = payloadCaptor.getValue();
         org.junit.jupiter.api.Assertions.assertEquals("MESSAGE_REJECTED", payload.get("code"));
         verifyNoInteractions(messageRepository);
-        verify(socketIOServer, never()).getRoomOperations(any());
+        verify(roomBroadcaster, never()).sendEvent(any(), any(), any());
+        org.junit.jupiter.api.Assertions.assertEquals(1.0, meterRegistry.get("socketio.messages.errors")
+                .tag("error_type", "banned_word").functionCounter().count());
+        org.junit.jupiter.api.Assertions.assertEquals(1L, meterRegistry.get("socketio.messages.processing.time")
+                .tags("status", "error", "message_type", "banned_word").timer().count());
     }
 }
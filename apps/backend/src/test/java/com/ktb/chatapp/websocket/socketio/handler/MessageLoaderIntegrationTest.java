@@ -9,7 +9,10 @@ import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.MessageArchiveService;
+import com.ktb.chatapp.service.MessageBucketStore;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.UnreadCounterService;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -46,6 +49,15 @@ class MessageLoaderIntegrationTest {
     @Autowired
     private FileRepository fileRepository;
 
+    @Autowired
+    private MessageBucketStore messageBucketStore;
+
+    @Autowired
+    private MessageArchiveService messageArchiveService;
+
+    @Autowired
+    private UnreadCounterService unreadCounterService;
+
     @MockitoSpyBean
     private MessageReadStatusService messageReadStatusService;
 
@@ -67,7 +79,10 @@ class MessageLoaderIntegrationTest {
                 userRepository,
                 fileRepository,
                 new MessageResponseMapper(),
-                messageReadStatusService
+                messageReadStatusService,
+                messageBucketStore,
+                messageArchiveService,
+                unreadCounterService
         );
 
         // 테스트 사용자 생성 및 저장
@@ -7,7 +7,10 @@ import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.MessageArchiveService;
+import com.ktb.chatapp.service.MessageBucketStore;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.UnreadCounterService;
 import net.datafaker.Faker;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +50,15 @@ class MessageLoaderTest {
     @Mock
     private MessageReadStatusService messageReadStatusService;
     
+    @Mock
+    private MessageBucketStore messageBucketStore;
+    
+    @Mock
+    private MessageArchiveService messageArchiveService;
+    
+    @Mock
+    private UnreadCounterService unreadCounterService;
+    
     @InjectMocks
     private MessageLoader messageLoader;
     
@@ -66,7 +78,10 @@ class MessageLoaderTest {
                 userRepository,
                 fileRepository,
                 new MessageResponseMapper(),
-                messageReadStatusService
+                messageReadStatusService,
+                messageBucketStore,
+                messageArchiveService,
+                unreadCounterService
         );
         
         var testUser = User.builder()
@@ -168,6 +183,52 @@ class MessageLoaderTest {
         }
     }
     
+    @Test
+    @DisplayName("hot 메시지가 부족하면 보관 블록에서 남은 개수를 이어서 읽는다")
+    void loadMessages_shouldFallThroughToArchive() {
+        // Given: hot에는 최신 10개만 남아 있고, 그보다 오래된 20개는 보관됨
+        List<Message> hot = testMessages.subList(40, 50);
+        List<Message> archived = testMessages.subList(20, 40).reversed();
+        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
+                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(getMessageSlice(hot, false));
+        when(messageArchiveService.isEnabled()).thenReturn(true);
+        when(messageArchiveService.loadPage(eq(roomId), eq(testMessages.get(40).getTimestamp()), eq(20)))
+                .thenReturn(new MessageArchiveService.Page(archived, true));
+
+        FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
+        FetchMessagesResponse result = messageLoader.loadMessages(req, userId);
+
+        assertThat(result.getMessages()).hasSize(30);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getMessages().getFirst().getId()).isEqualTo(testMessages.get(20).getId());
+        verifyAscending(result);
+    }
+    
+    @Test
+    @DisplayName("버킷을 모두 읽으면 가장 오래된 버킷 이전 메시지를 messages 컬렉션에서 이어서 읽는다")
+    void loadMessages_BucketMode_shouldFallThroughToDocuments() {
+        // Given: 버킷 모드 전환 후 저장된 최신 10개만 버킷에 있고, 그 이전 메시지는 messages 컬렉션에만 있음
+        List<Message> bucketed = testMessages.subList(40, 50).reversed();
+        LocalDateTime oldestStart = testMessages.get(40).getTimestamp();
+        List<Message> documents = testMessages.subList(20, 40);
+        when(messageBucketStore.isEnabled()).thenReturn(true);
+        when(messageBucketStore.loadPage(eq(roomId), any(LocalDateTime.class), eq(30)))
+                .thenReturn(new MessageBucketStore.Page(bucketed, false, 1, oldestStart));
+        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
+                eq(roomId), eq(false), eq(oldestStart), any(Pageable.class)))
+                .thenReturn(getMessageSlice(documents, true));
+
+        FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
+        FetchMessagesResponse result = messageLoader.loadMessages(req, userId);
+
+        assertThat(result.getMessages()).hasSize(30);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getMessages().getFirst().getId()).isEqualTo(testMessages.get(20).getId());
+        assertThat(result.getMessages().getLast().getId()).isEqualTo(testMessages.get(49).getId());
+        verifyAscending(result);
+    }
+
     @Test
     @DisplayName("loadInitialMessages: 에러 시 빈 응답")
     void loadInitialMessages_shouldReturnEmptyOnError() {
@@ -0,0 +1,127 @@
+package com.ktb.chatapp.websocket.socketio.typing;
+
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.TYPING_UPDATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TypingIndicator 테스트")
+class TypingIndicatorTest {
+
+    private final RoomBroadcaster roomBroadcaster = mock(RoomBroadcaster.class);
+    private final MutableClock clock = new MutableClock();
+    private TypingIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        indicator = new TypingIndicator(roomBroadcaster, new SimpleMeterRegistry(),
+                Duration.ofSeconds(5), Duration.ofSeconds(1), Duration.ofMillis(500), 3, 2, 2, clock);
+    }
+
+    @Test
+    @DisplayName("throttle 간격 안의 반복 이벤트는 버린다")
+    void typing_ThrottlesPerUser() {
+        assertThat(indicator.typing("room-1", "u1", "A")).isEqualTo(TypingIndicator.Result.ACCEPTED);
+        clock.advance(Duration.ofMillis(300));
+        assertThat(indicator.typing("room-1", "u1", "A")).isEqualTo(TypingIndicator.Result.THROTTLED);
+        clock.advance(Duration.ofMillis(800));
+        assertThat(indicator.typing("room-1", "u1", "A")).isEqualTo(TypingIndicator.Result.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("여러 명의 입력은 주기마다 방당 한 번만 브로드캐스트되고, 변화가 없으면 보내지 않는다")
+    void tick_AggregatesPerRoom() {
+        indicator.typing("room-1", "u1", "A");
+        indicator.typing("room-1", "u2", "B");
+        indicator.typing("room-1", "u3", "C");
+
+        indicator.tick();
+        indicator.tick();
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(roomBroadcaster, times(1)).sendEvent(eq("room-1"), eq(TYPING_UPDATE), payload.capture());
+        assertThat(payload.getValue()).isInstanceOfSatisfying(Map.class, update -> {
+            assertThat(update.get("count")).isEqualTo(3);
+            assertThat((List<?>) update.get("users")).hasSize(2);
+        });
+    }
+
+    @Test
+    @DisplayName("ttl이 지나면 중지 이벤트 없이 빈 목록을 한 번 보내고 방 상태를 버린다")
+    void tick_ExpiresWithoutStopEvent() {
+        indicator.typing("room-1", "u1", "A");
+        indicator.tick();
+
+        clock.advance(Duration.ofSeconds(6));
+        indicator.tick();
+        indicator.tick();
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(roomBroadcaster, times(2)).sendEvent(eq("room-1"), eq(TYPING_UPDATE), payload.capture());
+        assertThat(payload.getValue()).isInstanceOfSatisfying(Map.class,
+                update -> assertThat(update.get("count")).isEqualTo(0));
+    }
+
+    @Test
+    @DisplayName("방당 인원과 방 개수 상한을 넘는 입력은 추적하지 않는다")
+    void typing_BoundedMemory() {
+        indicator.typing("room-1", "u1", "A");
+        indicator.typing("room-1", "u2", "B");
+        indicator.typing("room-1", "u3", "C");
+        indicator.typing("room-2", "u1", "A");
+
+        assertThat(indicator.typing("room-1", "u4", "D")).isEqualTo(TypingIndicator.Result.DROPPED);
+        assertThat(indicator.typing("room-3", "u1", "A")).isEqualTo(TypingIndicator.Result.DROPPED);
+    }
+
+    @Test
+    @DisplayName("메시지를 보내면 바로 목록에서 빠진다")
+    void stop_RemovesImmediately() {
+        indicator.typing("room-1", "u1", "A");
+        indicator.tick();
+
+        indicator.stop("room-1", "u1");
+        indicator.tick();
+
+        verify(roomBroadcaster, times(2)).sendEvent(eq("room-1"), eq(TYPING_UPDATE), any());
+        assertThat(indicator.typing("room-1", "u1", "A")).isEqualTo(TypingIndicator.Result.ACCEPTED);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+#!/usr/bin/env node
+
+/**
+ * REST API throughput test
+ *
+ * Logs in a pool of test users, then runs a fixed number of closed-loop workers
+ * against Mongo-bound REST endpoints for a fixed duration. Run it once against a
+ * server started with the default (platform thread) profile and once against a
+ * server started with the `virtual-threads` profile, then compare the summaries.
+ */
+
+const http = require('http');
+const axios = require('axios');
+const yargs = require('yargs/yargs');
+const { hideBin } = require('yargs/helpers');
+const chalk = require('chalk');
+const Table = require('cli-table3');
+
+const argv = yargs(hideBin(process.argv))
+  .option('api-url', {
+    description: 'Backend REST API URL',
+    type: 'string',
+    default: 'http://localhost:5001'
+  })
+  .option('users', {
+    alias: 'u',
+    description: 'Number of test users to log in (loadtest-N@test.com)',
+    type: 'number',
+    default: 50
+  })
+  .option('concurrency', {
+    alias: 'c',
+    description: 'Number of concurrent in-flight requests',
+    type: 'number',
+    default: 200
+  })
+  .option('duration', {
+    alias: 'd',
+    description: 'Measurement duration in seconds',
+    type: 'number',
+    default: 60
+  })
+  .option('warmup', {
+    description: 'Warmup duration in seconds (not recorded)',
+    type: 'number',
+    default: 10
+  })
+  .option('label', {
+    alias: 'l',
+    description: 'Label printed with the summary (e.g. platform, virtual)',
+    type: 'string',
+    default: 'run'
+  })
+  .option('json', {
+    description: 'Print the summary as a single JSON line as well',
+    type: 'boolean',
+    default: false
+  })
+  .help()
+  .alias('help', 'h')
+  .argv;
+
+// Mongo-bound endpoints weighted roughly like the web client's navigation
+const SCENARIOS = [
+  { name: 'GET /api/rooms', weight: 6, path: '/api/rooms?page=0&pageSize=10' },
+  { name: 'GET /api/users/profile', weight: 3, path: '/api/users/profile' },
+  { name: 'GET /api/rooms/:id', weight: 1, path: null }
+];
+
+class RestLoadTester {
+  constructor(config) {
+    this.config = config;
+    this.client = axios.create({
+      baseURL: config.apiUrl,
+      timeout: 10000,
+      httpAgent: new http.Agent({ keepAlive: true, maxSockets: config.concurrency }),
+      validateStatus: () => true
+    });
+    this.sessions = [];
+    this.roomIds = [];
+    this.recording = false;
+    this.stopped = false;
+    this.latencies = new Map(SCENARIOS.map(s => [s.name, []]));
+    this.statusCounts = new Map();
+    this.networkErrors = 0;
+  }
+
+  async login() {
+    console.log(chalk.gray(`Logging in ${this.config.users} users...`));
+    for (let i = 0; i < this.config.users; i++) {
+      const email = `loadtest-${i}@test.com`;
+      const res = await this.client.post('/api/auth/login', { email, password: 'Test1234!' });
+      if (res.status === 200 && res.data?.token) {
+        this.sessions.push({ token: res.data.token, sessionId: res.data.sessionId });
+      }
+    }
+    if (this.sessions.length === 0) {
+      throw new Error('No users could log in. Run `npm run create-users` first.');
+    }
+
+    const rooms = await this.client.get('/api/rooms?page=0&pageSize=50', {
+      headers: this.headers(this.sessions[0])
+    });
+    this.roomIds = (rooms.data?.data || []).map(room => room._id).filter(Boolean);
+    console.log(chalk.gray(`Logged in ${this.sessions.length} users, ${this.roomIds.length} rooms found\n`));
+  }
+
+  headers(session) {
+    return {
+      'Authorization': `Bearer ${session.token}`,
+      'x-session-id': session.sessionId
+    };
+  }
+
+  pickScenario() {
+    const scenarios = this.roomIds.length > 0 ? SCENARIOS : SCENARIOS.filter(s => s.path);
+    const total = scenarios.reduce((sum, s) => sum + s.weight, 0);
+    let r = Math.random() * total;
+    for (const scenario of scenarios) {
+      r -= scenario.weight;
+      if (r < 0) {
+        return scenario;
+      }
+    }
+    return scenarios[0];
+  }
+
+  async worker(index) {
+    const session = this.sessions[index % this.sessions.length];
+    const headers = this.headers(session);
+    while (!this.stopped) {
+      const scenario = this.pickScenario();
+      const path = scenario.path
+        || `/api/rooms/${this.roomIds[Math.floor(Math.random() * this.roomIds.length)]}`;
+      const start = process.hrtime.bigint();
+      try {
+        const res = await this.client.get(path, { headers });
+        this.record(scenario.name, res.status, start);
+      } catch (error) {
+        if (this.recording) {
+          this.networkErrors++;
+        }
+      }
+    }
+  }
+
+  record(name, status, start) {
+    if (!this.recording) {
+      return;
+    }
+    const elapsedMs = Number(process.hrtime.bigint() - start) / 1e6;
+    this.latencies.get(name).push(elapsedMs);
+    this.statusCounts.set(status, (this.statusCounts.get(status) || 0) + 1);
+  }
+
+  async run() {
+    await this.login();
+
+    const workers = [];
+    for (let i = 0; i < this.config.concurrency; i++) {
+      workers.push(this.worker(i));
+    }
+
+    console.log(chalk.gray(`Warming up for ${this.config.warmup}s with ${this.config.concurrency} workers...`));
+    await sleep(this.config.warmup * 1000);
+
+    console.log(chalk.gray(`Measuring for ${this.config.duration}s...`));
+    this.recording = true;
+    const startedAt = Date.now();
+    await sleep(this.config.duration * 1000);
+    this.recording = false;
+    const elapsedSec = (Date.now() - startedAt) / 1000;
+
+    this.stopped = true;
+    await Promise.all(workers);
+
+    this.printSummary(elapsedSec);
+  }
+
+  printSummary(elapsedSec) {
+    const all = [].concat(...this.latencies.values());
+    const ok = this.statusCounts.get(200) || 0;
+
+    const table = new Table({
+      head: ['Endpoint', 'Requests', 'Req/s', 'P50 (ms)', 'P95 (ms)', 'P99 (ms)', 'Max (ms)']
+    });
+    for (const [name, values] of this.latencies) {
+      table.push(row(name, values, elapsedSec));
+    }
+    table.push(row(chalk.bold('TOTAL'), all, elapsedSec));
+
+    console.log(chalk.bold.cyan(`\n=== REST Load Test: ${this.config.label} ===\n`));
+    console.log(table.toString());
+
+    const statuses = [...this.statusCounts.entries()]
+      .sort(([a], [b]) => a - b)
+      .map(([status, count]) => `${status}: ${count}`)
+      .join(', ');
+    console.log(`\nStatus codes: ${statuses || '-'}`);
+    console.log(`Network errors: ${this.networkErrors}`);
+    console.log(`Success rate: ${all.length ? ((ok / all.length) * 100).toFixed(2) : '0.00'}%\n`);
+
+    if (this.config.json) {
+      console.log(JSON.stringify({
+        label: this.config.label,
+        concurrency: this.config.concurrency,
+        durationSec: elapsedSec,
+        requests: all.length,
+        rps: all.length / elapsedSec,
+        p50: percentile(all, 50),
+        p95: percentile(all, 95),
+        p99: percentile(all, 99),
+        statusCounts: Object.fromEntries(this.statusCounts),
+        networkErrors: this.networkErrors
+      }));
+    }
+  }
+}
+
+function row(name, values, elapsedSec) {
+  return [
+    name,
+    values.length,
+    (values.length / elapsedSec).toFixed(1),
+    percentile(values, 50).toFixed(1),
+    percentile(values, 95).toFixed(1),
+    percentile(values, 99).toFixed(1),
+    values.reduce((max, v) => (v > max ? v : max), 0).toFixed(1)
+  ];
+}
+
+function percentile(values, p) {
+  if (values.length === 0) {
+    return 0;
+  }
+  const sorted = [...values].sort((a, b) => a - b);
+  const index = Math.min(sorted.length - 1, Math.ceil((p / 100) * sorted.length) - 1);
+  return sorted[Math.max(0, index)];
+}
+
+function sleep(ms) {
+  return new Promise(resolve => setTimeout(resolve, ms));
+}
+
+new RestLoadTester({
+  apiUrl: argv.apiUrl,
+  users: argv.users,
+  concurrency: argv.concurrency,
+  duration: argv.duration,
+  warmup: argv.warmup,
+  label: argv.label,
+  json: argv.json
+}).run().catch(error => {
+  console.error(chalk.red('\nFatal error:'), error.message);
+  process.exit(1);
+});